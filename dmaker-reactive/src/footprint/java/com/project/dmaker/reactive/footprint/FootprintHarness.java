@@ -0,0 +1,144 @@
+package com.project.dmaker.reactive.footprint;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 동시 접속 client 수에 따른 서버 footprint 측정 도구
+ * <p>
+ *     client 마다 GET /developers 를 응답받는 즉시 다시 요청하고,
+ *     측정 대상 서버의 /actuator/metrics 에서 스레드 수 / 열린 파일(소켓) 수 / 힙 사용량을 1초마다 조회해 최대값을 기록한다.
+ *     blocking(8080) / reactive(8081) 앱에 같은 인자로 실행해 결과를 비교한다.
+ * </p>
+ * <pre>
+ *     ./gradlew :dmaker-reactive:footprint --args='http://localhost:8081 10000 PT30S'
+ *     (인자: 서버 주소, 동시 client 수, 측정 시간 / client 수가 많으면 ulimit -n 을 client 수 이상으로 지정)
+ * </pre>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class FootprintHarness {
+    //actuator 지표 응답의 첫 번째 측정값
+    private static final Pattern MEASUREMENT_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+    private FootprintHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8081";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        Duration duration = args.length > 2 ? Duration.parse(args[2]) : Duration.ofSeconds(30);
+
+        HttpClient metricsClient = HttpClient.newHttpClient();
+        System.out.printf("target: %s, clients: %d, duration: %s%n", baseUrl, clients, duration);
+        System.out.printf("idle   : threads %.0f, open files %.0f, heap %.1f MB%n",
+                metric(metricsClient, baseUrl, "jvm.threads.live", null),
+                metric(metricsClient, baseUrl, "process.files.open", null),
+                metric(metricsClient, baseUrl, "jvm.memory.used", "area:heap") / (1024 * 1024));
+
+        LongAccumulator peakThreads = new LongAccumulator(Math::max, 0);
+        LongAccumulator peakOpenFiles = new LongAccumulator(Math::max, 0);
+        LongAccumulator peakHeap = new LongAccumulator(Math::max, 0);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            try {
+                peakThreads.accumulate((long) metric(metricsClient, baseUrl, "jvm.threads.live", null));
+                peakOpenFiles.accumulate((long) metric(metricsClient, baseUrl, "process.files.open", null));
+                peakHeap.accumulate((long) metric(metricsClient, baseUrl, "jvm.memory.used", "area:heap"));
+            } catch (Exception e) {
+                System.err.println("metrics: " + e.getMessage());
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        ConcurrentLinkedQueue<Long> latenciesMicros = new ConcurrentLinkedQueue<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/developers"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        // HTTP/1.1 은 진행 중인 요청마다 별도 연결을 사용하므로 동시 client 수만큼 서버 연결이 유지된다.
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        List<CompletableFuture<Void>> loops = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            loops.add(loop(client, request, deadline, completed, failed, latenciesMicros));
+        }
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+        sampler.shutdownNow();
+
+        List<Long> latencies = new ArrayList<>(latenciesMicros);
+        latencies.sort(null);
+        System.out.printf("requests: %d ok, %d failed, %.1f req/s%n",
+                completed.get(), failed.get(), completed.get() / (double) duration.toSeconds());
+        System.out.printf("latency: p50 %.1f ms, p99 %.1f ms%n",
+                percentile(latencies, 0.50) / 1000.0, percentile(latencies, 0.99) / 1000.0);
+        System.out.printf("peak   : threads %d, open files %d, heap %.1f MB%n",
+                peakThreads.get(), peakOpenFiles.get(), peakHeap.get() / (1024.0 * 1024));
+    }
+
+    /**
+     * deadline 까지 응답을 받는 즉시 다시 요청하는 client (스레드를 점유하지 않는 비동기 반복)
+     **/
+    private static CompletableFuture<Void> loop(HttpClient client, HttpRequest request, long deadline,
+                                                AtomicLong completed, AtomicLong failed,
+                                                ConcurrentLinkedQueue<Long> latenciesMicros) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, e) -> {
+                    if (e == null && response.statusCode() == 200) {
+                        completed.incrementAndGet();
+                        latenciesMicros.add((System.nanoTime() - start) / 1000);
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(client, request, deadline, completed, failed, latenciesMicros));
+    }
+
+    /**
+     * /actuator/metrics/{name} 의 첫 번째 측정값 조회
+     **/
+    private static double metric(HttpClient client, String baseUrl, String name, String tag) throws Exception {
+        String uri = baseUrl + "/actuator/metrics/" + name + (tag == null ? "" : "?tag=" + tag);
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(uri)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = MEASUREMENT_VALUE.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException(name + " 지표를 조회할 수 없습니다. (" + response.statusCode() + ")");
+        }
+
+        return Double.parseDouble(matcher.group(1));
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+
+        return sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(percentile * sorted.size()) - 1));
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.dmaker.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 개발자 API 의 WebFlux + R2DBC 버전
+ * <p>
+ *     blocking 앱(dmaker)과 같은 타입 / DTO / 에러 코드를 사용하며, 비교를 위해 나란히 실행할 수 있도록 8081 포트를 사용한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootApplication
+public class DmakerReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(DmakerReactiveApplication.class, args);
+	}
+
+}
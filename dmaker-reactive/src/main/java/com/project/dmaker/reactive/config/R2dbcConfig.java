@@ -0,0 +1,53 @@
+package com.project.dmaker.reactive.config;
+
+import com.project.dmaker.reactive.entity.Developer;
+import org.reactivestreams.Publisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC Auditing / 개발자 ID 할당 Config 클래스
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration(proxyBeanMethods = false)
+@EnableR2dbcAuditing
+public class R2dbcConfig {
+
+    /**
+     * 신규 개발자 INSERT 전 developer_seq 에서 ID 할당
+     * <p>
+     *     DEVELOPER.id 는 blocking 앱(Hibernate pooled optimizer, increment 50)과 같은 sequence 를 사용한다.
+     *     pooled optimizer 는 nextval 값을 블록의 상한으로 사용하므로 nextval 을 그대로 ID 로 써도 겹치지 않는다.
+     * </p>
+     * @param databaseClient {@link DatabaseClient}
+     * @return BeforeConvertCallback(Developer) {@link BeforeConvertCallback}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public BeforeConvertCallback<Developer> developerIdCallback(DatabaseClient databaseClient) {
+        // lambda 는 EntityCallback 대상 타입(Developer)을 알 수 없어 호출되지 않으므로 익명 클래스로 정의
+        return new BeforeConvertCallback<>() {
+            @Override
+            public Publisher<Developer> onBeforeConvert(Developer developer, SqlIdentifier table) {
+                if (developer.getId() != null) {
+                    return Mono.just(developer);
+                }
+
+                return databaseClient.sql("select next value for developer_seq")
+                        .map(row -> row.get(0, Long.class))
+                        .one()
+                        .map(id -> {
+                            developer.setId(id);
+                            return developer;
+                        });
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.dmaker.reactive.entity;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개발자 R2DBC Entity (DEVELOPER 테이블, blocking 앱의 JPA Entity 와 같은 스키마)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("developer")
+public class Developer {
+    //developer_seq 에서 INSERT 전에 할당 (R2dbcConfig)
+    @Id
+    private Long id;
+
+    //개발자 레벨
+    private DeveloperLevel developerLevel;
+    //개발자 직무 타입
+    private DeveloperSkillType developerSkillType;
+    //경력 연차
+    private Integer experienceYears;
+    //고유 ID
+    private String memberId;
+    //이름
+    private String name;
+    //나이
+    private Integer age;
+    //직무 상태
+    private StatusCode statusCode;
+
+    //생성 날짜
+    @CreatedDate
+    private LocalDateTime createAt;
+
+    //마지막 변경 날짜
+    @LastModifiedDate
+    private LocalDateTime updateAt;
+
+    //낙관적 락 버전 (null 이면 INSERT, 변경 시마다 증가, ETag/If-Match 값으로 사용)
+    @Version
+    private Long version;
+}
@@ -0,0 +1,36 @@
+package com.project.dmaker.reactive.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 퇴직 개발자 R2DBC Entity (RETIRED_DEVELOPER 테이블)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("retired_developer")
+public class RetiredDeveloper {
+    @Id
+    private Long id;
+    //고유 멤버 ID (DEVELOPER.member_id 참조)
+    private String memberId;
+    private String name;
+    //비동기 저장 기록의 중복 저장 방지 키 (트랜잭션 안에서 바로 저장하므로 null)
+    private String eventId;
+
+    @CreatedDate
+    private LocalDateTime createAt;
+
+    @LastModifiedDate
+    private LocalDateTime updateAt;
+}
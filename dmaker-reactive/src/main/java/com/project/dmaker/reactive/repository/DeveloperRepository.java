@@ -0,0 +1,20 @@
+package com.project.dmaker.reactive.repository;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.reactive.entity.Developer;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 개발자 R2DBC Repository
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public interface DeveloperRepository extends ReactiveCrudRepository<Developer, Long> {
+
+    Mono<Developer> findByMemberId(String memberId);
+
+    //재직 상태별 리스트 (idx_developer_status_code 사용, 구독자 요청량만큼 행을 읽음)
+    Flux<Developer> findByStatusCodeOrderById(StatusCode statusCode);
+}
@@ -0,0 +1,12 @@
+package com.project.dmaker.reactive.repository;
+
+import com.project.dmaker.reactive.entity.RetiredDeveloper;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * 퇴직 개발자 R2DBC Repository
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public interface RetiredDeveloperRepository extends ReactiveCrudRepository<RetiredDeveloper, Long> {
+}
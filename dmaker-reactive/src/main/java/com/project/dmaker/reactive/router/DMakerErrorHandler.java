@@ -0,0 +1,185 @@
+package com.project.dmaker.reactive.router;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.dto.DMakerErrorResponse;
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.exception.ErrorLogSampler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_MEMBER_ID_UNIQUE_CONSTRAINT;
+import static com.project.dmaker.exception.DMakerErrorCode.*;
+
+/**
+ * 개발자 API 에러 응답 변환 (DMakerExceptionHandler 의 functional endpoint 버전)
+ * <p>
+ *     상태 코드 / 응답 본문 / WARN 로그 샘플링은 blocking 앱의 DMakerExceptionHandler 와 같다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+@Component
+public class DMakerErrorHandler {
+    //에러 코드별 미리 직렬화해 둔 응답 본문 (errorMessage = 에러 코드 설명)
+    private final Map<DMakerErrorCode, byte[]> errorBodies = new EnumMap<>(DMakerErrorCode.class);
+    //예상된 비지니스 에러 로그 샘플러
+    private final ErrorLogSampler errorLogSampler;
+
+    public DMakerErrorHandler(ObjectMapper objectMapper,
+                              @Value("${dmaker.error-log.interval:PT1S}") Duration errorLogInterval) {
+        for (DMakerErrorCode errorCode : DMakerErrorCode.values()) {
+            errorBodies.put(errorCode, serialize(objectMapper, errorCode));
+        }
+        this.errorLogSampler = new ErrorLogSampler(errorLogInterval.toNanos(), System::nanoTime);
+    }
+
+    /**
+     * 예외 -> 에러 응답 변환
+     * <ul>
+     *     <li>DMakerException: 409</li>
+     *     <li>member_id 유니크 제약조건 위반: DUPLICATED_MEMBER_ID(409)</li>
+     *     <li>재시도를 모두 소진한 낙관적 락 충돌: DEVELOPER_VERSION_CONFLICT(409)</li>
+     *     <li>요청 본문 읽기 / Bean Validation 실패: INVALID_REQUEST(400)</li>
+     *     <li>그 외: INTERNAL_SERVER_ERROR(500)</li>
+     * </ul>
+     * @param e {@link Throwable}
+     * @param request {@link ServerRequest}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Mono<ServerResponse> handle(Throwable e, ServerRequest request) {
+        if (e instanceof DMakerException dMakerException) {
+            logSampled(dMakerException.getDMakerErrorCode(), request, dMakerException.getDetailMessage());
+
+            return errorResponse(HttpStatus.CONFLICT, dMakerException.getDMakerErrorCode(),
+                    dMakerException.getDetailMessage());
+        }
+        if (e instanceof DataIntegrityViolationException violation && isDuplicatedMemberId(violation)) {
+            logSampled(DUPLICATED_MEMBER_ID, request, DUPLICATED_MEMBER_ID.getDescription());
+
+            return errorResponse(HttpStatus.CONFLICT, DUPLICATED_MEMBER_ID);
+        }
+        if (e instanceof OptimisticLockingFailureException) {
+            logSampled(DEVELOPER_VERSION_CONFLICT, request, e.getMessage());
+
+            return errorResponse(HttpStatus.CONFLICT, DEVELOPER_VERSION_CONFLICT);
+        }
+        if (e instanceof ServerWebInputException) {
+            logSampled(INVALID_REQUEST, request, e.getMessage());
+
+            return errorResponse(HttpStatus.BAD_REQUEST, INVALID_REQUEST);
+        }
+
+        log.error("url : {}, message : {}", request.path(), e.getMessage());
+
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * 에러 코드 설명을 메시지로 하는 에러 응답 (미리 직렬화해 둔 본문 사용)
+     * @param status {@link HttpStatus}
+     * @param errorCode {@link DMakerErrorCode}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private Mono<ServerResponse> errorResponse(HttpStatus status, DMakerErrorCode errorCode) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(errorBodies.get(errorCode));
+    }
+
+    /**
+     * 에러 응답 (상세 메시지가 에러 코드 설명과 다를 때만 DMakerErrorResponse 를 직렬화)
+     * @param status {@link HttpStatus}
+     * @param errorCode {@link DMakerErrorCode}
+     * @param errorMessage {@link String}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private Mono<ServerResponse> errorResponse(HttpStatus status, DMakerErrorCode errorCode, String errorMessage) {
+        if (errorCode.getDescription().equals(errorMessage)) {
+            return errorResponse(status, errorCode);
+        }
+
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DMakerErrorResponse.builder()
+                        .errorCode(errorCode)
+                        .errorMessage(errorMessage)
+                        .build());
+    }
+
+    /**
+     * 예상된 비지니스 에러 WARN 로그 (에러 코드별 interval 마다 한 건, 생략된 건수 포함)
+     * @param errorCode {@link DMakerErrorCode}
+     * @param request {@link ServerRequest}
+     * @param message {@link String}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private void logSampled(DMakerErrorCode errorCode, ServerRequest request, String message) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+
+        long suppressed = errorLogSampler.tryAcquire(errorCode);
+        if (suppressed >= 0) {
+            log.warn("errorCode: {}, url: {}, message: {}, suppressed: {}",
+                    errorCode, request.path(), message, suppressed);
+        }
+    }
+
+    /**
+     * 에러 코드 설명을 메시지로 하는 에러 응답 본문 직렬화
+     * @param objectMapper {@link ObjectMapper}
+     * @param errorCode {@link DMakerErrorCode}
+     * @return byte[]
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static byte[] serialize(ObjectMapper objectMapper, DMakerErrorCode errorCode) {
+        try {
+            return objectMapper.writeValueAsBytes(DMakerErrorResponse.builder()
+                    .errorCode(errorCode)
+                    .errorMessage(errorCode.getDescription())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 본문을 직렬화할 수 없습니다. (" + errorCode + ")", e);
+        }
+    }
+
+    /**
+     * memberId 유니크 제약조건 위반 여부 확인
+     * @param e {@link DataIntegrityViolationException}
+     * @return boolean
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static boolean isDuplicatedMemberId(DataIntegrityViolationException e) {
+        // R2DBC 는 제약조건 이름을 따로 제공하지 않아 드라이버 메시지 포함 여부로 판별
+        String message = e.getMostSpecificCause().getMessage();
+
+        return message != null && message.toLowerCase(Locale.ROOT)
+                .contains(DEVELOPER_MEMBER_ID_UNIQUE_CONSTRAINT);
+    }
+}
@@ -0,0 +1,204 @@
+package com.project.dmaker.reactive.router;
+
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.reactive.service.ReactiveDMakerService;
+import com.project.dmaker.util.VersionETags;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 개발자 API Handler (DMakerController 의 functional endpoint 버전)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DMakerHandler {
+
+    private final ReactiveDMakerService reactiveDMakerService;
+    private final Validator validator;
+
+    /**
+     * 모든 개발자 조회 (JSON 배열)
+     * @param request {@link ServerRequest}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Mono<ServerResponse> getAllDevelopers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reactiveDMakerService.getAllEmployedDevelopers(), DeveloperDto.class);
+    }
+
+    /**
+     * 모든 개발자 스트리밍 조회 (application/x-ndjson)
+     * <p>
+     *     한 줄에 개발자 한 명씩 쓰며, client 가 읽는 속도만큼 DB 에서 읽는다. (backpressure)
+     * </p>
+     * @param request {@link ServerRequest}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Mono<ServerResponse> streamAllDevelopers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(reactiveDMakerService.getAllEmployedDevelopers(), DeveloperDto.class);
+    }
+
+    /**
+     * 특정 개발자 조회
+     * <p>
+     *     낙관적 락 버전을 ETag로, 마지막 변경 날짜를 Last-Modified로 내려주며,
+     *     If-None-Match(없으면 If-Modified-Since)가 현재 값과 같으면 직렬화 없이 304를 응답한다.
+     * </p>
+     * @param request {@link ServerRequest}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Mono<ServerResponse> getDeveloperDetail(ServerRequest request) {
+        return reactiveDMakerService.getDeveloperDetail(request.pathVariable("memberId"))
+                .flatMap(developerDetail -> {
+                    String eTag = VersionETags.format(developerDetail.getVersion());
+                    Instant lastModified = toLastModified(developerDetail);
+
+                    return request.checkNotModified(lastModified, eTag)
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                                    .eTag(eTag)
+                                    .lastModified(lastModified)
+                                    .cacheControl(CacheControl.noCache())
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(developerDetail)));
+                });
+    }
+
+    /**
+     * 개발자 생성
+     * @param request {@link ServerRequest}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Mono<ServerResponse> createDeveloper(ServerRequest request) {
+        return request.bodyToMono(CreateDeveloper.Request.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("요청 본문이 없습니다.")))
+                .doOnNext(this::validate)
+                .doOnNext(createRequest -> log.info("request = {}", createRequest))
+                .flatMap(reactiveDMakerService::createDeveloper)
+                .flatMap(response -> ServerResponse.status(HttpStatus.CREATED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response));
+    }
+
+    /**
+     * 개발자 정보 변경 (If-Match 헤더가 있으면 버전 확인)
+     * @param request {@link ServerRequest}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Mono<ServerResponse> updateDeveloper(ServerRequest request) {
+        String memberId = request.pathVariable("memberId");
+
+        return request.bodyToMono(UpdateDeveloper.Request.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("요청 본문이 없습니다.")))
+                .doOnNext(this::validate)
+                .flatMap(updateRequest -> reactiveDMakerService.updateDeveloper(
+                        memberId, updateRequest, VersionETags.parse(ifMatch(request))))
+                .flatMap(DMakerHandler::toVersionedResponse);
+    }
+
+    /**
+     * 개발자 삭제 (If-Match 헤더가 있으면 버전 확인)
+     * @param request {@link ServerRequest}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Mono<ServerResponse> deleteDeveloper(ServerRequest request) {
+        return Mono.defer(() -> reactiveDMakerService.deleteDeveloper(
+                        request.pathVariable("memberId"), VersionETags.parse(ifMatch(request))))
+                .flatMap(DMakerHandler::toVersionedResponse);
+    }
+
+    /**
+     * 요청 본문 Bean Validation (실패 시 400)
+     * @param body {@link Object}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws ServerWebInputException
+     **/
+    private void validate(Object body) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(body);
+        if (!violations.isEmpty()) {
+            throw new ServerWebInputException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * 개발자 상세 응답 생성 (버전을 ETag 헤더로 설정)
+     * @param developerDetail {@link DeveloperDetailDto}
+     * @return Mono(ServerResponse) {@link ServerResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static Mono<ServerResponse> toVersionedResponse(DeveloperDetailDto developerDetail) {
+        ServerResponse.BodyBuilder builder = ServerResponse.ok().contentType(MediaType.APPLICATION_JSON);
+        String eTag = VersionETags.format(developerDetail.getVersion());
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+
+        return builder.bodyValue(developerDetail);
+    }
+
+    /**
+     * If-Match 헤더 값 조회 (없으면 null)
+     * @param request {@link ServerRequest}
+     * @return String
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static String ifMatch(ServerRequest request) {
+        return request.headers().firstHeader(HttpHeaders.IF_MATCH);
+    }
+
+    /**
+     * 개발자 상세 마지막 변경 날짜 -> Last-Modified 값 변환 (없으면 epoch)
+     * @param developerDetail {@link DeveloperDetailDto}
+     * @return Instant
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static Instant toLastModified(DeveloperDetailDto developerDetail) {
+        // R2DBC Auditing 은 서버 기본 time zone 의 LocalDateTime 으로 저장
+        return developerDetail.getUpdateAt() == null ? Instant.EPOCH
+                : developerDetail.getUpdateAt().atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+}
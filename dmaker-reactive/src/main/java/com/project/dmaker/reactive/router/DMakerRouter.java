@@ -0,0 +1,53 @@
+package com.project.dmaker.reactive.router;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * 개발자 API Router (DMakerController 와 같은 경로)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration(proxyBeanMethods = false)
+public class DMakerRouter {
+
+    /**
+     * 개발자 API 경로 정의
+     * @param handler {@link DMakerHandler}
+     * @param errorHandler {@link DMakerErrorHandler}
+     * @return RouterFunction(ServerResponse) {@link RouterFunction}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public RouterFunction<ServerResponse> dMakerRoutes(DMakerHandler handler, DMakerErrorHandler errorHandler) {
+        return route()
+                // Accept 에 application/x-ndjson 을 명시한 경우만 스트리밍 (*/* 는 JSON 배열)
+                .GET("/developers", DMakerRouter::acceptsNdjson, handler::streamAllDevelopers)
+                .GET("/developers", handler::getAllDevelopers)
+                .GET("/developer/{memberId}", handler::getDeveloperDetail)
+                .POST("/create-developer", handler::createDeveloper)
+                .PUT("/developer/{memberId}", handler::updateDeveloper)
+                .DELETE("/developer/{memberId}", handler::deleteDeveloper)
+                .onError(Throwable.class, errorHandler::handle)
+                .build();
+    }
+
+    /**
+     * Accept 헤더에 application/x-ndjson 명시 여부
+     * @param request {@link ServerRequest}
+     * @return boolean
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static boolean acceptsNdjson(ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+}
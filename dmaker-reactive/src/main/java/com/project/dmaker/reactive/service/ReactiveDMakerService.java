@@ -0,0 +1,215 @@
+package com.project.dmaker.reactive.service;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.reactive.entity.Developer;
+import com.project.dmaker.reactive.entity.RetiredDeveloper;
+import com.project.dmaker.reactive.repository.DeveloperRepository;
+import com.project.dmaker.reactive.repository.RetiredDeveloperRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_UPDATE_MAX_ATTEMPTS;
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_UPDATE_RETRY_DELAY;
+import static com.project.dmaker.util.DeveloperValidations.resolveDeveloperLevel;
+import static com.project.dmaker.util.DeveloperValidations.validateVersion;
+
+/**
+ * DMakerService 의 WebFlux + R2DBC 버전
+ * <p>
+ *     레벨/경력 Validation, If-Match 버전 확인, 퇴직 처리(이미 퇴직한 개발자는 변경 없이 현재 상태 반환)는
+ *     blocking 앱의 DMakerService 와 같다. 캐시 / 변경 이벤트(outbox, 헤드카운트)는 사용하지 않는다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Service
+@RequiredArgsConstructor
+public class ReactiveDMakerService {
+    //낙관적 락 충돌 재시도 (재구독마다 새 트랜잭션, DMakerService 의 @Retryable 과 같은 횟수 / 지연)
+    private static final RetryBackoffSpec OPTIMISTIC_LOCK_RETRY = Retry
+            .backoff(DEVELOPER_UPDATE_MAX_ATTEMPTS - 1, Duration.ofMillis(DEVELOPER_UPDATE_RETRY_DELAY))
+            .filter(OptimisticLockingFailureException.class::isInstance)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+    private final DeveloperRepository developerRepository;
+    private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * 재직 개발자 조회 (구독자 요청량만큼 DB 에서 읽어 전달)
+     * @return Flux(DeveloperDto) {@link DeveloperDto}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Flux<DeveloperDto> getAllEmployedDevelopers() {
+        return developerRepository.findByStatusCodeOrderById(StatusCode.EMPLOYED)
+                .map(ReactiveDMakerService::toDeveloperDto);
+    }
+
+    /**
+     * 개발자 상세 조회
+     * @param memberId {@link String}
+     * @return Mono(DeveloperDetailDto) {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public Mono<DeveloperDetailDto> getDeveloperDetail(String memberId) {
+        return getDeveloperByMemberId(memberId)
+                .map(ReactiveDMakerService::toDeveloperDetailDto);
+    }
+
+    /**
+     * 개발자 생성
+     * @param request {@link CreateDeveloper.Request}
+     * @return Mono(CreateDeveloper.Response) {@link CreateDeveloper.Response}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public Mono<CreateDeveloper.Response> createDeveloper(@NonNull CreateDeveloper.Request request) {
+        return Mono.fromCallable(() -> createDeveloperFromRequest(request))
+                .flatMap(developerRepository::save)
+                .map(developer -> CreateDeveloper.Response.builder()
+                        .developerLevel(developer.getDeveloperLevel())
+                        .developerSkillType(developer.getDeveloperSkillType())
+                        .experienceYears(developer.getExperienceYears())
+                        .memberId(developer.getMemberId())
+                        .build())
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * 개발자 정보 변경 (If-Match 버전 확인, 낙관적 락 충돌 시 재시도)
+     * @param memberId {@link String}
+     * @param request {@link UpdateDeveloper.Request}
+     * @param expectedVersion {@link Long} If-Match 버전 (null이면 확인하지 않음)
+     * @return Mono(DeveloperDetailDto) {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public Mono<DeveloperDetailDto> updateDeveloper(String memberId, @NonNull UpdateDeveloper.Request request,
+                                                    Long expectedVersion) {
+        return Mono.fromCallable(() -> resolveDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears()))
+                .flatMap(developerLevel -> getDeveloperByMemberId(memberId)
+                        .flatMap(developer -> {
+                            validateVersion(developer.getVersion(), expectedVersion);
+                            developer.setDeveloperLevel(developerLevel);
+                            developer.setDeveloperSkillType(request.getDeveloperSkillType());
+                            developer.setExperienceYears(request.getExperienceYears());
+
+                            return developerRepository.save(developer);
+                        }))
+                .map(ReactiveDMakerService::toDeveloperDetailDto)
+                .as(transactionalOperator::transactional)
+                .retryWhen(OPTIMISTIC_LOCK_RETRY);
+    }
+
+    /**
+     * 개발자 삭제 (If-Match 버전 확인, 낙관적 락 충돌 시 재시도)
+     * <p>
+     *     실제 삭제가 아닌, DEVELOPER 테이블에 StatusCode를 RETIRED로 변경, RETIRED_DEVELOPER 테이블에 INSERT
+     *     이미 퇴직한 개발자는 변경 없이 현재 상태를 반환한다. (재시도 요청이 퇴직 기록을 중복 저장하지 않도록)
+     * </p>
+     * @param memberId {@link String}
+     * @param expectedVersion {@link Long} If-Match 버전 (null이면 확인하지 않음)
+     * @return Mono(DeveloperDetailDto) {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public Mono<DeveloperDetailDto> deleteDeveloper(String memberId, Long expectedVersion) {
+        return getDeveloperByMemberId(memberId)
+                .flatMap(developer -> {
+                    // 이미 퇴직한 개발자(재시도 요청 등)는 퇴직 기록 없이 현재 상태 반환 (If-Match 버전은 확인하지 않음)
+                    if (developer.getStatusCode() == StatusCode.RETIRED) {
+                        return Mono.just(developer);
+                    }
+
+                    validateVersion(developer.getVersion(), expectedVersion);
+                    developer.setStatusCode(StatusCode.RETIRED);
+
+                    return developerRepository.save(developer)
+                            .flatMap(retired -> retiredDeveloperRepository.save(RetiredDeveloper.builder()
+                                            .memberId(retired.getMemberId())
+                                            .name(retired.getName())
+                                            .build())
+                                    .thenReturn(retired));
+                })
+                .map(ReactiveDMakerService::toDeveloperDetailDto)
+                .as(transactionalOperator::transactional)
+                .retryWhen(OPTIMISTIC_LOCK_RETRY);
+    }
+
+    /**
+     * memberId로 개발자 찾기
+     * @param memberId {@link String}
+     * @return Mono(Developer) {@link Developer}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    private Mono<Developer> getDeveloperByMemberId(String memberId) {
+        return developerRepository.findByMemberId(memberId)
+                .switchIfEmpty(Mono.error(DMakerException.of(DMakerErrorCode.NO_DEVELOPER)));
+    }
+
+    /**
+     * CreateDeveloper.Request -> Developer 객체 변환 (레벨 미지정 시 경력연차로 추론한 레벨 설정)
+     * @param request {@link CreateDeveloper.Request}
+     * @return Developer {@link Developer}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    private static Developer createDeveloperFromRequest(CreateDeveloper.Request request) {
+        return Developer.builder()
+                .developerLevel(resolveDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears()))
+                .developerSkillType(request.getDeveloperSkillType())
+                .experienceYears(request.getExperienceYears())
+                .memberId(request.getMemberId())
+                .name(request.getName())
+                .age(request.getAge())
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+
+    private static DeveloperDto toDeveloperDto(Developer developer) {
+        return DeveloperDto.builder()
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .memberId(developer.getMemberId())
+                .id(developer.getId())
+                .build();
+    }
+
+    private static DeveloperDetailDto toDeveloperDetailDto(Developer developer) {
+        return DeveloperDetailDto.builder()
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .experienceYears(developer.getExperienceYears())
+                .statusCode(developer.getStatusCode())
+                .memberId(developer.getMemberId())
+                .name(developer.getName())
+                .age(developer.getAge())
+                .version(developer.getVersion())
+                .updateAt(developer.getUpdateAt())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+-- blocking 앱 Flyway migration(V1 ~ V7)을 적용한 결과와 같은 DEVELOPER / RETIRED_DEVELOPER 스키마
+-- (로컬 R2DBC H2 in-memory DB 용, 운영 DB 스키마는 blocking 앱의 Flyway migration 으로만 관리)
+create sequence if not exists developer_seq start with 1 increment by 50;
+
+create table if not exists developer (
+    id bigint not null,
+    age integer,
+    create_at timestamp(6),
+    developer_level varchar(255),
+    developer_skill_type varchar(255),
+    experience_years integer,
+    member_id varchar(255),
+    name varchar(255),
+    status_code varchar(255),
+    update_at timestamp(6),
+    version bigint default 0 not null,
+    primary key (id),
+    constraint uk_developer_member_id unique (member_id)
+);
+
+create index if not exists idx_developer_status_code on developer (status_code, id);
+
+create table if not exists retired_developer (
+    id bigint generated by default as identity,
+    create_at timestamp(6),
+    member_id varchar(255),
+    name varchar(255),
+    update_at timestamp(6),
+    event_id varchar(36),
+    primary key (id),
+    constraint fk_retired_developer_member_id foreign key (member_id) references developer (member_id)
+);
+
+create unique index if not exists uk_retired_developer_event_id on retired_developer (event_id);
+create index if not exists idx_retired_developer_member_id_create_at on retired_developer (member_id, create_at);
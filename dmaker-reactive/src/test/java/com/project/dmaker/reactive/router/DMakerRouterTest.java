@@ -0,0 +1,263 @@
+package com.project.dmaker.reactive.router;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.exception.DMakerErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static com.project.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.project.dmaker.type.DeveloperLevel.NEW;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * DMakerRouter Test (WebTestClient, R2DBC H2 in-memory DB)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest
+@AutoConfigureWebTestClient
+class DMakerRouterTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    /**
+     * 개발자 생성 Test - 201 응답 후 상세 조회 가능
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_success() {
+        //given
+        //when
+        //then
+        create(getCreateRequest("router-create"))
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.developerLevel").isEqualTo(NEW.name())
+                .jsonPath("$.memberId").isEqualTo("router-create");
+        webTestClient.get().uri("/developer/router-create")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(StatusCode.EMPLOYED.name());
+    }
+
+    /**
+     * 개발자 생성 Test - 같은 memberId 가 있으면 DUPLICATED_MEMBER_ID(409)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_duplicated_member_id() {
+        //given
+        create(getCreateRequest("router-duplicated")).expectStatus().isCreated();
+
+        //when
+        //then
+        create(getCreateRequest("router-duplicated"))
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.DUPLICATED_MEMBER_ID.name());
+    }
+
+    /**
+     * 개발자 생성 Test - Bean Validation 실패 시 INVALID_REQUEST(400)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_invalid_request() {
+        //given
+        CreateDeveloper.Request request = getCreateRequest("router-invalid");
+        request.setName("n");
+
+        //when
+        //then
+        create(request)
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.INVALID_REQUEST.name());
+    }
+
+    /**
+     * 개발자 생성 Test - 레벨과 경력연차가 맞지 않으면 LEVEL_EXPERIENCE_YEARS_NOT_MATCHED(409)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_level_experience_years_not_matched() {
+        //given
+        CreateDeveloper.Request request = getCreateRequest("router-not-matched");
+        request.setDeveloperLevel(SENIOR);
+
+        //when
+        //then
+        create(request)
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.name());
+    }
+
+    /**
+     * 개발자 조회 Test - If-None-Match 가 현재 버전과 같으면 본문 없이 304
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_not_modified_with_if_none_match() {
+        //given
+        create(getCreateRequest("router-etag")).expectStatus().isCreated();
+
+        //when
+        //then
+        webTestClient.get().uri("/developer/router-etag")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .expectBody().isEmpty();
+    }
+
+    /**
+     * 개발자 조회 Test - 없는 개발자는 NO_DEVELOPER(409)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_failed_with_no_developer() {
+        //given
+        //when
+        //then
+        webTestClient.get().uri("/developer/router-no-developer")
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.NO_DEVELOPER.name());
+    }
+
+    /**
+     * 개발자 정보 변경 Test - If-Match 가 현재 버전이면 변경 후 새 ETag, 이전 버전이면 DEVELOPER_VERSION_CONFLICT(409)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_with_if_match() {
+        //given
+        create(getCreateRequest("router-update")).expectStatus().isCreated();
+        UpdateDeveloper.Request request = UpdateDeveloper.Request.builder()
+                .developerLevel(JUNGNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(7)
+                .build();
+
+        //when
+        //then
+        webTestClient.put().uri("/developer/router-update")
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody()
+                .jsonPath("$.developerLevel").isEqualTo(JUNGNIOR.name());
+        webTestClient.put().uri("/developer/router-update")
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(DMakerErrorCode.DEVELOPER_VERSION_CONFLICT.name());
+    }
+
+    /**
+     * 개발자 삭제 Test - 두 번 삭제해도 RETIRED 상태 응답, 재직 개발자 목록에서 제외
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void deleteDeveloperTest_success_with_already_retired() {
+        //given
+        create(getCreateRequest("router-delete")).expectStatus().isCreated();
+
+        //when
+        //then
+        for (int i = 0; i < 2; i++) {
+            webTestClient.delete().uri("/developer/router-delete")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.statusCode").isEqualTo(StatusCode.RETIRED.name());
+        }
+        List<DeveloperDto> developers = webTestClient.get().uri("/developers")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(DeveloperDto.class)
+                .returnResult()
+                .getResponseBody();
+        assertFalse(developers.stream().anyMatch(developer -> "router-delete".equals(developer.getMemberId())));
+    }
+
+    /**
+     * 모든 개발자 조회 Test - Accept: application/x-ndjson 이면 한 줄에 한 명씩 스트리밍
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getAllDevelopersTest_streamed_with_ndjson() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            create(getCreateRequest("router-ndjson" + i)).expectStatus().isCreated();
+        }
+
+        //when
+        Flux<DeveloperDto> developers = webTestClient.get().uri("/developers")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(DeveloperDto.class)
+                .getResponseBody();
+
+        //then
+        StepVerifier.create(developers.filter(developer -> developer.getMemberId().startsWith("router-ndjson"))
+                        .map(DeveloperDto::getMemberId)
+                        .collectList())
+                .assertNext(memberIds -> assertEquals(
+                        List.of("router-ndjson0", "router-ndjson1", "router-ndjson2"), memberIds))
+                .verifyComplete();
+    }
+
+    private WebTestClient.ResponseSpec create(CreateDeveloper.Request request) {
+        return webTestClient.post().uri("/create-developer")
+                .bodyValue(request)
+                .exchange();
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(NEW)
+                .developerSkillType(BACK_END)
+                .experienceYears(0)
+                .memberId(memberId)
+                .name("name")
+                .age(25)
+                .build();
+    }
+}
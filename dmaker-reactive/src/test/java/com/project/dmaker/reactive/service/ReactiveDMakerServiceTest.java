@@ -0,0 +1,208 @@
+package com.project.dmaker.reactive.service;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.reactive.repository.DeveloperRepository;
+import com.project.dmaker.reactive.repository.RetiredDeveloperRepository;
+import com.project.dmaker.type.DeveloperLevel;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static com.project.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.project.dmaker.type.DeveloperLevel.NEW;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ReactiveDMakerService Test (R2DBC H2 in-memory DB)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest
+class ReactiveDMakerServiceTest {
+
+    @Autowired
+    private ReactiveDMakerService reactiveDMakerService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+
+    /**
+     * 개발자 생성 Test - 레벨 미지정 시 경력연차로 추론, 버전은 0부터 시작 (blocking 앱과 동일)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_success_with_inferred_level() {
+        //given
+        CreateDeveloper.Request request = getCreateRequest("reactive-create", null, 7);
+
+        //when
+        //then
+        StepVerifier.create(reactiveDMakerService.createDeveloper(request))
+                .assertNext(response -> {
+                    assertEquals(JUNGNIOR, response.getDeveloperLevel());
+                    assertEquals("reactive-create", response.getMemberId());
+                })
+                .verifyComplete();
+        StepVerifier.create(reactiveDMakerService.getDeveloperDetail("reactive-create"))
+                .assertNext(detail -> {
+                    assertEquals(StatusCode.EMPLOYED, detail.getStatusCode());
+                    assertEquals(0L, detail.getVersion());
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * 개발자 생성 Test - 레벨과 경력연차가 맞지 않으면 LEVEL_EXPERIENCE_YEARS_NOT_MATCHED
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_level_experience_years_not_matched() {
+        //given
+        CreateDeveloper.Request request = getCreateRequest("reactive-not-matched", SENIOR, 1);
+
+        //when
+        //then
+        StepVerifier.create(reactiveDMakerService.createDeveloper(request))
+                .expectErrorSatisfies(e -> assertEquals(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED,
+                        ((DMakerException) e).getDMakerErrorCode()))
+                .verify();
+        StepVerifier.create(developerRepository.findByMemberId("reactive-not-matched"))
+                .verifyComplete();
+    }
+
+    /**
+     * 개발자 생성 Test - 같은 memberId 가 있으면 유니크 제약조건 위반
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_duplicated_member_id() {
+        //given
+        reactiveDMakerService.createDeveloper(getCreateRequest("reactive-duplicated", NEW, 0)).block();
+
+        //when
+        //then
+        StepVerifier.create(reactiveDMakerService.createDeveloper(getCreateRequest("reactive-duplicated", NEW, 0)))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
+    /**
+     * 개발자 정보 변경 Test - If-Match 버전이 현재 버전과 다르면 DEVELOPER_VERSION_CONFLICT
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_failed_with_version_conflict() {
+        //given
+        reactiveDMakerService.createDeveloper(getCreateRequest("reactive-update", NEW, 0)).block();
+        UpdateDeveloper.Request request = UpdateDeveloper.Request.builder()
+                .developerLevel(JUNGNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(7)
+                .build();
+
+        //when
+        //then
+        StepVerifier.create(reactiveDMakerService.updateDeveloper("reactive-update", request, 0L))
+                .assertNext(detail -> {
+                    assertEquals(JUNGNIOR, detail.getDeveloperLevel());
+                    assertEquals(1L, detail.getVersion());
+                })
+                .verifyComplete();
+        StepVerifier.create(reactiveDMakerService.updateDeveloper("reactive-update", request, 0L))
+                .expectErrorSatisfies(e -> assertEquals(DMakerErrorCode.DEVELOPER_VERSION_CONFLICT,
+                        ((DMakerException) e).getDMakerErrorCode()))
+                .verify();
+    }
+
+    /**
+     * 개발자 삭제 Test - 두 번 삭제해도 퇴직 기록은 한 건
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void deleteDeveloperTest_success_with_already_retired() {
+        //given
+        reactiveDMakerService.createDeveloper(getCreateRequest("reactive-delete", NEW, 0)).block();
+        long retiredCount = retiredDeveloperRepository.count().block();
+
+        //when
+        //then
+        StepVerifier.create(reactiveDMakerService.deleteDeveloper("reactive-delete", null))
+                .assertNext(detail -> assertEquals(StatusCode.RETIRED, detail.getStatusCode()))
+                .verifyComplete();
+        StepVerifier.create(reactiveDMakerService.deleteDeveloper("reactive-delete", null))
+                .assertNext(detail -> assertEquals(StatusCode.RETIRED, detail.getStatusCode()))
+                .verifyComplete();
+        assertEquals(retiredCount + 1, retiredDeveloperRepository.count().block());
+    }
+
+    /**
+     * 개발자 삭제 Test - 없는 개발자는 NO_DEVELOPER
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void deleteDeveloperTest_failed_with_no_developer() {
+        //given
+        //when
+        //then
+        StepVerifier.create(reactiveDMakerService.deleteDeveloper("reactive-no-developer", null))
+                .expectErrorSatisfies(e -> assertEquals(DMakerErrorCode.NO_DEVELOPER,
+                        ((DMakerException) e).getDMakerErrorCode()))
+                .verify();
+    }
+
+    /**
+     * 재직 개발자 조회 Test - 구독자가 요청한 만큼만 전달 (backpressure)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getAllEmployedDevelopersTest_success_with_backpressure() {
+        //given
+        Flux.range(0, 5)
+                .concatMap(i -> reactiveDMakerService.createDeveloper(getCreateRequest("reactive-stream" + i, NEW, 0)))
+                .blockLast();
+
+        //when
+        Flux<DeveloperDto> developers = reactiveDMakerService.getAllEmployedDevelopers();
+
+        //then
+        StepVerifier.create(developers, 2)
+                .expectNextCount(2)
+                .thenRequest(1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId,
+                                                            DeveloperLevel developerLevel,
+                                                            int experienceYears) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(developerLevel)
+                .developerSkillType(BACK_END)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .name("name")
+                .age(25)
+                .build();
+    }
+}
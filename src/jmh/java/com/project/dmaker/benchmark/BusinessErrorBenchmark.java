@@ -0,0 +1,95 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.DmakerApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비지니스 에러 응답 경로 처리량 측정 (H2, HTTP)
+ * <p>
+ *     POST /create-developer 요청 중 invalidPercent % 를 레벨/연차 불일치(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, 409)로 보내고
+ *     나머지는 정상 생성(201)으로 보낸다. 에러 로그 비용이 포함되도록 로그는 콘솔 대신 임시 파일로 기록한다.
+ *     ./gradlew jmh -Pjmh.includes=BusinessErrorBenchmark
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class BusinessErrorBenchmark {
+
+    private static final String VALID_REQUEST =
+            "{\"developerLevel\":\"JUNGNIOR\",\"developerSkillType\":\"BACK_END\",\"experienceYears\":7,"
+                    + "\"memberId\":\"%s\",\"name\":\"name\",\"age\":30}";
+    private static final String INVALID_REQUEST =
+            "{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"BACK_END\",\"experienceYears\":1,"
+                    + "\"memberId\":\"invalid\",\"name\":\"name\",\"age\":30}";
+
+    @Param({"0", "50", "100"})
+    private int invalidPercent;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private final AtomicLong memberSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        File logFile = new File(System.getProperty("java.io.tmpdir"), "dmaker-business-error-benchmark.log");
+        context = new SpringApplicationBuilder(DmakerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench-business-error;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                // application.yml 보다 우선하도록 command line 인자로 지정 (요청 수 제한 없이, 콘솔 출력 없이 측정)
+                .run("--dmaker.rate-limit.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.threshold.console=OFF",
+                        "--logging.file.name=" + logFile.getAbsolutePath());
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String createDeveloper() throws IOException, InterruptedException {
+        if (ThreadLocalRandom.current().nextInt(100) < invalidPercent) {
+            return send(INVALID_REQUEST, 409);
+        }
+
+        return send(VALID_REQUEST.formatted("bench" + memberSequence.incrementAndGet()), 201);
+    }
+
+    private String send(String body, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/create-developer"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("unexpected status: " + response.statusCode());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.DmakerApplication;
+import com.project.dmaker.cache.DeveloperDetailCache;
+import com.project.dmaker.cache.EmployedDevelopersCache;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.event.DeveloperChangedEvent;
+import com.project.dmaker.repository.DeveloperRepository;
+import com.project.dmaker.repository.RetiredDeveloperRepository;
+import com.project.dmaker.retire.RetiredDeveloperWriter;
+import com.project.dmaker.service.DMakerService;
+import com.project.dmaker.stats.DeveloperHeadcounts;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DMakerService 주요 경로 벤치마크 (H2 / in-memory Repository fake)
+ * <p>
+ *     backend=h2 는 Spring context + JPA + H2 전체 경로, backend=fake 는 {@link InMemoryRepositories}로
+ *     DB/JPA 비용을 제외한 서비스 로직(Validation, 캐시, DTO 변환, 변경 이벤트 처리)만 측정한다.
+ *     fake 의 변경 이벤트는 캐시 / 헤드카운트 listener 에 바로 전달한다. (outbox 저장은 DB 비용이므로 제외)
+ *     조회(getDeveloperDetail, getAllEmployedDevelopers)는 캐시 hit 경로이고,
+ *     변경(createDeveloper, updateDeveloper)은 레벨 Validation / 추론과 캐시 무효화를 포함한다.
+ *     결과는 build/reports/jmh/results-{version}.json 으로 저장된다.
+ *     ./gradlew jmh -Pjmh.includes=DMakerServiceBenchmark
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DMakerServiceBenchmark {
+
+    private static final int ROW_COUNT = 1000;
+
+    @Param({"fake", "h2"})
+    private String backend;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    //backend=fake 의 퇴직 기록 writer (WAL 은 임시 디렉토리)
+    private RetiredDeveloperWriter retiredDeveloperWriter;
+    private final AtomicLong memberSequence = new AtomicLong();
+    private final AtomicLong updateSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        DeveloperRepository developerRepository;
+        if ("h2".equals(backend)) {
+            context = new SpringApplicationBuilder(DmakerApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .properties(
+                            "spring.datasource.url=jdbc:h2:mem:bench-service;DB_CLOSE_DELAY=-1",
+                            "spring.jpa.show-sql=false",
+                            "logging.level.root=WARN")
+                    .run();
+            dMakerService = context.getBean(DMakerService.class);
+            developerRepository = context.getBean(DeveloperRepository.class);
+        } else {
+            developerRepository = InMemoryRepositories.developerRepository();
+            RetiredDeveloperRepository retiredDeveloperRepository = InMemoryRepositories.retiredDeveloperRepository();
+            DeveloperDetailCache developerDetailCache =
+                    new DeveloperDetailCache(new SimpleMeterRegistry(), 10000, Duration.ofMinutes(10));
+            EmployedDevelopersCache employedDevelopersCache = new EmployedDevelopersCache();
+            DeveloperHeadcounts developerHeadcounts = new DeveloperHeadcounts(developerRepository);
+            retiredDeveloperWriter = new RetiredDeveloperWriter(retiredDeveloperRepository,
+                    InMemoryRepositories.transactionManager(),
+                    Files.createTempDirectory("retired-developer-wal").toString(),
+                    DataSize.ofMegabytes(16), 10000, 500);
+            dMakerService = new DMakerService(
+                    developerRepository,
+                    retiredDeveloperRepository,
+                    InMemoryRepositories.entityManager(),
+                    Validation.buildDefaultValidatorFactory().getValidator(),
+                    developerDetailCache,
+                    employedDevelopersCache,
+                    event -> {
+                        DeveloperChangedEvent changedEvent = (DeveloperChangedEvent) event;
+                        developerDetailCache.onDeveloperChanged(changedEvent);
+                        employedDevelopersCache.onDeveloperChanged(changedEvent);
+                        developerHeadcounts.onDeveloperChanged(changedEvent);
+                    },
+                    developerHeadcounts,
+                    InMemoryRepositories.developerOutboxRepository(),
+                    retiredDeveloperWriter);
+        }
+
+        List<Developer> developers = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            developers.add(Developer.builder()
+                    .developerLevel(DeveloperLevel.SENIOR)
+                    .developerSkillType(DeveloperSkillType.BACK_END)
+                    .experienceYears(12)
+                    .memberId("member" + i)
+                    .name("name" + i)
+                    .age(30)
+                    .statusCode(StatusCode.EMPLOYED)
+                    .build());
+        }
+        developerRepository.saveAll(developers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+        if (retiredDeveloperWriter != null) {
+            retiredDeveloperWriter.destroy();
+        }
+    }
+
+    @Benchmark
+    public CreateDeveloper.Response createDeveloper() {
+        return dMakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNGNIOR)
+                .developerSkillType(DeveloperSkillType.FRONT_END)
+                .experienceYears(7)
+                .memberId("created" + memberSequence.incrementAndGet())
+                .name("name")
+                .age(30)
+                .build());
+    }
+
+    /**
+     * 기존 개발자의 경력연차를 번갈아 변경 (레벨 미지정 -> 경력연차로 추론, 매번 실제 변경)
+     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Benchmark
+    public DeveloperDetailDto updateDeveloper() {
+        long sequence = updateSequence.incrementAndGet();
+
+        return dMakerService.updateDeveloper("member" + ThreadLocalRandom.current().nextInt(ROW_COUNT),
+                UpdateDeveloper.Request.builder()
+                        .developerSkillType(DeveloperSkillType.BACK_END)
+                        .experienceYears(sequence % 2 == 0 ? 7 : 12)
+                        .build());
+    }
+
+    @Benchmark
+    public DeveloperDetailDto getDeveloperDetail() {
+        return dMakerService.getDeveloperDetail("member" + ThreadLocalRandom.current().nextInt(ROW_COUNT));
+    }
+
+    @Benchmark
+    public List<DeveloperDto> getAllEmployedDevelopers() {
+        return dMakerService.getAllEmployedDevelopers();
+    }
+}
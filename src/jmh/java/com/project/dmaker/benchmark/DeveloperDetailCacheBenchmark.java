@@ -0,0 +1,110 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.DmakerApplication;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.repository.DeveloperRepository;
+import com.project.dmaker.service.DMakerService;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개발자 상세 조회 캐시 적용 전/후 지연시간 분포(p50/p99) 비교 벤치마크 (H2)
+ * <p>
+ *     ./gradlew jmh -Pjmh.includes=DeveloperDetailCacheBenchmark
+ *     cacheMaximumSize=0 은 캐시 미적용(매 요청 DB 조회)과 같다.
+ *     mixed 그룹은 조회 7 스레드 + 변경 1 스레드로 커밋 후 무효화가 섞인 부하를 측정한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeveloperDetailCacheBenchmark {
+
+    private static final int ROW_COUNT = 10000;
+    private static final int HOT_MEMBER_COUNT = 1000;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private DeveloperRepository developerRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DmakerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-cache;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        dMakerService = context.getBean(DMakerService.class);
+        developerRepository = context.getBean(DeveloperRepository.class);
+
+        List<Developer> developers = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            developers.add(Developer.builder()
+                    .developerLevel(DeveloperLevel.SENIOR)
+                    .developerSkillType(DeveloperSkillType.BACK_END)
+                    .experienceYears(12)
+                    .memberId("member" + i)
+                    .name("name" + i)
+                    .age(30)
+                    .statusCode(StatusCode.EMPLOYED)
+                    .build());
+        }
+        developerRepository.saveAll(developers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public DeveloperDetailDto detailWithCache() {
+        return dMakerService.getDeveloperDetail(getHotMemberId());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public DeveloperDetailDto detailWithoutCache() {
+        return developerRepository.findDeveloperDetailDtoByMemberId(getHotMemberId()).orElseThrow();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(7)
+    public DeveloperDetailDto mixedDetail() {
+        return dMakerService.getDeveloperDetail(getHotMemberId());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public DeveloperDetailDto mixedUpdate() {
+        return dMakerService.updateDeveloper(getHotMemberId(), UpdateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.values()[
+                        ThreadLocalRandom.current().nextInt(DeveloperSkillType.values().length)])
+                .experienceYears(12)
+                .build());
+    }
+
+    private static String getHotMemberId() {
+        return "member" + ThreadLocalRandom.current().nextInt(HOT_MEMBER_COUNT);
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.dmaker.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.json.DeveloperJsonModule;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개발자 리스트 JSON 직렬화 벤치마크 - reflection 기반 BeanSerializer vs DeveloperJsonModule serializer
+ * <p>
+ *     HTTP 응답과 같이 OutputStream 에 바로 출력하며, 출력 비용을 제외하도록 버리는 스트림을 사용한다.
+ *     ./gradlew jmh -Pjmh.includes=DeveloperJsonBenchmark
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeveloperJsonBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private ObjectWriter beanWriter;
+    private ObjectWriter moduleWriter;
+    private List<DeveloperDto> developers;
+    private List<DeveloperDetailDto> details;
+    private OutputStream outputStream;
+
+    @Setup
+    public void setUp() {
+        //HTTP 응답 변환처럼 출력 후 스트림을 닫지 않음
+        beanWriter = new ObjectMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        moduleWriter = new ObjectMapper().registerModule(new DeveloperJsonModule()).writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        outputStream = OutputStream.nullOutputStream();
+
+        DeveloperLevel[] levels = DeveloperLevel.values();
+        DeveloperSkillType[] skillTypes = DeveloperSkillType.values();
+        developers = new ArrayList<>(size);
+        details = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DeveloperLevel level = levels[i % levels.length];
+            DeveloperSkillType skillType = skillTypes[i % skillTypes.length];
+            developers.add(new DeveloperDto(level, skillType, "member" + i, (long) i));
+            details.add(new DeveloperDetailDto(level, skillType, level.getMinExperienceYears(), StatusCode.EMPLOYED,
+                    "member" + i, "name" + i, 20 + i % 40, 0L, null));
+        }
+    }
+
+    @Benchmark
+    public void developersWithBeanSerializer() throws IOException {
+        beanWriter.writeValue(outputStream, developers);
+    }
+
+    @Benchmark
+    public void developersWithModuleSerializer() throws IOException {
+        moduleWriter.writeValue(outputStream, developers);
+    }
+
+    @Benchmark
+    public void detailsWithBeanSerializer() throws IOException {
+        beanWriter.writeValue(outputStream, details);
+    }
+
+    @Benchmark
+    public void detailsWithModuleSerializer() throws IOException {
+        moduleWriter.writeValue(outputStream, details);
+    }
+}
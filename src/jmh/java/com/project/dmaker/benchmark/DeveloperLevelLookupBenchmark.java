@@ -0,0 +1,123 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.type.DeveloperLevel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.project.dmaker.constant.DMakerConstant.MAX_JUNIOR_EXPERIENCE_YEARS;
+import static com.project.dmaker.constant.DMakerConstant.MIN_SENIOR_EXPERIENCE_YEARS;
+
+/**
+ * 경력연차 -> 레벨 Validation / 추론 방식 비교 벤치마크 (DB 없음)
+ * <p>
+ *     boxedRangeCheck / functionValidator 는 조회 테이블 도입 이전 구현
+ *     (예전 DMakerService 레벨 Validation 의 Integer 범위 비교, DeveloperLevelV2 의 Function&lt;Integer, Boolean&gt;)을
+ *     그대로 옮긴 것이며, lookupTable 은 DeveloperValidations.resolveDeveloperLevel 이 사용하는
+ *     DeveloperLevel 의 경력연차 조회 테이블이다.
+ *     요청 분포를 흉내내기 위해 임의의 (레벨, 경력연차) 조합 1024개를 순회한다.
+ *     ./gradlew jmh -Pjmh.includes=DeveloperLevelLookupBenchmark
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(DeveloperLevelLookupBenchmark.SAMPLE_SIZE)
+public class DeveloperLevelLookupBenchmark {
+
+    static final int SAMPLE_SIZE = 1024;
+
+    //이전 DeveloperLevelV2 의 Function<Integer, Boolean> (제네릭 배열 생성 없이 배열에 담기 위한 타입)
+    private interface ExperienceYearsFunction extends Function<Integer, Boolean> {
+    }
+
+    //이전 DeveloperLevel 의 Integer 경력연차 범위
+    private static final Map<DeveloperLevel, Integer[]> BOXED_RANGES = new EnumMap<>(DeveloperLevel.class);
+    //이전 DeveloperLevelV2 의 경력연차 Validation 함수
+    private static final Map<DeveloperLevel, ExperienceYearsFunction> VALIDATE_FUNCTIONS =
+            new EnumMap<>(DeveloperLevel.class);
+
+    static {
+        for (DeveloperLevel level : DeveloperLevel.values()) {
+            BOXED_RANGES.put(level, new Integer[]{level.getMinExperienceYears(), level.getMaxExperienceYears()});
+        }
+        VALIDATE_FUNCTIONS.put(DeveloperLevel.NEW, years -> years == 0);
+        VALIDATE_FUNCTIONS.put(DeveloperLevel.JUNIOR, years -> years <= MAX_JUNIOR_EXPERIENCE_YEARS);
+        VALIDATE_FUNCTIONS.put(DeveloperLevel.JUNGNIOR, years -> years > MAX_JUNIOR_EXPERIENCE_YEARS
+                && years < MIN_SENIOR_EXPERIENCE_YEARS);
+        VALIDATE_FUNCTIONS.put(DeveloperLevel.SENIOR, years -> years >= MIN_SENIOR_EXPERIENCE_YEARS);
+    }
+
+    private DeveloperLevel[] levels;
+    private Integer[] boxedRanges;
+    private ExperienceYearsFunction[] validateFunctions;
+    private int[] experienceYears;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        DeveloperLevel[] values = DeveloperLevel.values();
+        levels = new DeveloperLevel[SAMPLE_SIZE];
+        boxedRanges = new Integer[SAMPLE_SIZE * 2];
+        validateFunctions = new ExperienceYearsFunction[SAMPLE_SIZE];
+        experienceYears = new int[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            levels[i] = values[random.nextInt(values.length)];
+            boxedRanges[i * 2] = BOXED_RANGES.get(levels[i])[0];
+            boxedRanges[i * 2 + 1] = BOXED_RANGES.get(levels[i])[1];
+            validateFunctions[i] = VALIDATE_FUNCTIONS.get(levels[i]);
+            experienceYears[i] = random.nextInt(21);
+        }
+    }
+
+    @Benchmark
+    public void boxedRangeCheck(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            Integer years = experienceYears[i];
+            blackhole.consume(!(years < boxedRanges[i * 2] || years > boxedRanges[i * 2 + 1]));
+        }
+    }
+
+    @Benchmark
+    public void functionValidator(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            blackhole.consume(validateFunctions[i].apply(experienceYears[i]));
+        }
+    }
+
+    @Benchmark
+    public void lookupTable(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            blackhole.consume(levels[i].isExperienceYearsMatched(experienceYears[i]));
+        }
+    }
+
+    @Benchmark
+    public void inferByScan(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            DeveloperLevel inferred = null;
+            for (DeveloperLevel level : DeveloperLevel.values()) {
+                if (experienceYears[i] >= level.getMinExperienceYears()
+                        && experienceYears[i] <= level.getMaxExperienceYears()) {
+                    inferred = level;
+                    break;
+                }
+            }
+            blackhole.consume(inferred);
+        }
+    }
+
+    @Benchmark
+    public void inferByLookupTable(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            blackhole.consume(DeveloperLevel.fromExperienceYears(experienceYears[i]));
+        }
+    }
+}
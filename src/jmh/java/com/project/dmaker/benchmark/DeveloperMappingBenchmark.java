@@ -0,0 +1,74 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperLevelV2;
+import com.project.dmaker.type.DeveloperSkillType;
+import com.project.dmaker.util.DeveloperValidations;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> DTO 변환 및 레벨/경력 Validation 벤치마크 (DB 없음)
+ * <p>
+ *     레벨/경력 Validation 은 blocking / reactive 서비스가 공통으로 사용하는 DeveloperValidations.resolveDeveloperLevel 을 호출한다.
+ *     ./gradlew jmh -Pjmh.includes=DeveloperMappingBenchmark
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeveloperMappingBenchmark {
+
+    @Param({"JUNIOR", "SENIOR"})
+    private String level;
+
+    private Developer developer;
+    private DeveloperLevel developerLevel;
+    private DeveloperLevelV2 developerLevelV2;
+    private int experienceYears;
+
+    @Setup
+    public void setUp() {
+        developerLevel = DeveloperLevel.valueOf(level);
+        developerLevelV2 = DeveloperLevelV2.valueOf(level);
+        experienceYears = developerLevel.getMaxExperienceYears();
+        developer = Developer.builder()
+                .id(1L)
+                .developerLevel(developerLevel)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(experienceYears)
+                .memberId("member")
+                .name("name")
+                .age(30)
+                .statusCode(StatusCode.EMPLOYED)
+                .version(0L)
+                .build();
+    }
+
+    @Benchmark
+    public DeveloperDto developerDtoFromEntity() {
+        return DeveloperDto.fromEntity(developer);
+    }
+
+    @Benchmark
+    public DeveloperDetailDto developerDetailDtoFromEntity() {
+        return DeveloperDetailDto.fromEntity(developer);
+    }
+
+    @Benchmark
+    public DeveloperLevel resolveDeveloperLevel() {
+        return DeveloperValidations.resolveDeveloperLevel(developerLevel, experienceYears);
+    }
+
+    @Benchmark
+    public void validateDeveloperLevelV2() {
+        developerLevelV2.validateExperienceYears(experienceYears);
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.DmakerApplication;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.repository.DeveloperRepository;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity 조회 후 DTO 변환 vs DTO projection 조회 비교 벤치마크 (H2)
+ * <p>
+ *     ./gradlew jmh -Pjmh.includes=DeveloperReadBenchmark
+ *     (할당량 비교는 -prof gc 옵션 사용)
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeveloperReadBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private DeveloperRepository developerRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DmakerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-read;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        developerRepository = context.getBean(DeveloperRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        List<Developer> developers = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            developers.add(Developer.builder()
+                    .developerLevel(DeveloperLevel.SENIOR)
+                    .developerSkillType(DeveloperSkillType.BACK_END)
+                    .experienceYears(12)
+                    .memberId("member" + i)
+                    .name("name" + i)
+                    .age(30)
+                    .statusCode(StatusCode.EMPLOYED)
+                    .build());
+        }
+        developerRepository.saveAll(developers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DeveloperDto> listWithEntity() {
+        return readOnlyTransaction.execute(status ->
+                developerRepository.findDevelopersByStatusCodeEquals(StatusCode.EMPLOYED)
+                        .stream()
+                        .map(DeveloperDto::fromEntity)
+                        .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<DeveloperDto> listWithProjection() {
+        return readOnlyTransaction.execute(status ->
+                developerRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED));
+    }
+
+    @Benchmark
+    public DeveloperDetailDto detailWithEntity() {
+        return readOnlyTransaction.execute(status ->
+                DeveloperDetailDto.fromEntity(developerRepository.findByMemberId("member0").orElseThrow()));
+    }
+
+    @Benchmark
+    public DeveloperDetailDto detailWithProjection() {
+        return readOnlyTransaction.execute(status ->
+                developerRepository.findDeveloperDetailDtoByMemberId("member0").orElseThrow());
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.repository.DeveloperOutboxRepository;
+import com.project.dmaker.repository.DeveloperRepository;
+import com.project.dmaker.repository.RetiredDeveloperRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크용 in-memory Repository fake (dynamic proxy)
+ * <p>
+ *     DB/JPA 비용을 제외한 서비스 로직만 측정하기 위해 DMakerService 가 사용하는
+ *     단건/리스트 조회 및 저장 메소드만 Map 으로 구현하고, 나머지는 UnsupportedOperationException 을 던진다.
+ *     트랜잭션은 동기화 콜백만 실행하는 TransactionManager 로 흉내낸다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static DeveloperRepository developerRepository() {
+        Map<String, Developer> developers = new ConcurrentHashMap<>();
+        AtomicLong sequence = new AtomicLong();
+
+        return proxy(DeveloperRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "save", "saveAndFlush" -> {
+                Developer developer = (Developer) args[0];
+                if (developer.getId() == null) {
+                    developer.setId(sequence.incrementAndGet());
+                    if (developers.putIfAbsent(developer.getMemberId(), developer) != null) {
+                        throw new DataIntegrityViolationException("duplicated memberId: " + developer.getMemberId());
+                    }
+                }
+                developer.setVersion(developer.getVersion() == null ? 0L : developer.getVersion() + 1);
+                yield developer;
+            }
+            case "saveAll" -> {
+                for (Object developer : (Iterable<?>) args[0]) {
+                    Developer entity = (Developer) developer;
+                    entity.setId(sequence.incrementAndGet());
+                    entity.setVersion(0L);
+                    developers.put(entity.getMemberId(), entity);
+                }
+                yield args[0];
+            }
+            case "flush" -> null;
+            case "findByMemberId" -> Optional.ofNullable(developers.get((String) args[0]));
+            case "findDeveloperDetailDtoByMemberId" -> Optional.ofNullable(developers.get((String) args[0]))
+                    .map(DeveloperDetailDto::fromEntity);
+            case "findDeveloperDtosByStatusCode" -> developers.values().stream()
+                    .filter(developer -> developer.getStatusCode() == args[0])
+                    .map(DeveloperDto::fromEntity)
+                    .collect(Collectors.toList());
+            case "findDevelopersByStatusCodeEquals" -> developers.values().stream()
+                    .filter(developer -> developer.getStatusCode() == (StatusCode) args[0])
+                    .collect(Collectors.toList());
+            default -> unsupported(proxy, method, args);
+        });
+    }
+
+    static RetiredDeveloperRepository retiredDeveloperRepository() {
+        return proxy(RetiredDeveloperRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            // RetiredDeveloperWriter 의 batch 저장 (저장 비용은 측정하지 않음)
+            case "insertAllIfAbsent" -> null;
+            default -> unsupported(proxy, method, args);
+        });
+    }
+
+    static DeveloperOutboxRepository developerOutboxRepository() {
+        return proxy(DeveloperOutboxRepository.class, InMemoryRepositories::unsupported);
+    }
+
+    /**
+     * 영속성 컨텍스트가 없는 EntityManager (대량 생성의 clear 만 허용)
+     * @return EntityManager {@link EntityManager}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    static EntityManager entityManager() {
+        return proxy(EntityManager.class, (proxy, method, args) -> switch (method.getName()) {
+            case "clear", "flush" -> null;
+            default -> unsupported(proxy, method, args);
+        });
+    }
+
+    /**
+     * 트랜잭션 동기화만 제공하는 TransactionManager (commit 시 beforeCommit / afterCompletion 콜백 실행, DB 없음)
+     * @return PlatformTransactionManager {@link PlatformTransactionManager}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    static PlatformTransactionManager transactionManager() {
+        return new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+            }
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+            }
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {
+            }
+        };
+    }
+
+    private static Object unsupported(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "toString" -> "InMemory" + proxy.getClass().getInterfaces()[0].getSimpleName();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
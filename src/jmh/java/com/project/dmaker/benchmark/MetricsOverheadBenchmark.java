@@ -0,0 +1,118 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.DmakerApplication;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.repository.DeveloperRepository;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표 수집(Actuator/Micrometer) 오버헤드 측정 (H2, HTTP)
+ * <p>
+ *     instrumentation=false 는 모든 Meter 비활성화 + Hibernate 통계 미수집 상태이며,
+ *     instrumentation=true 는 application.yml 기본 설정(Repository Timer, 에러 Counter)에 opt-in 지표(백분위, Hibernate 통계)를 켠 상태이다.
+ *     opt-in 지표는 이 벤치마크로 오버헤드가 1% 미만임을 (fork / iteration 을 늘려 오차 범위와 함께) 확인한 뒤 기본값으로 켠다.
+ *     캐시를 거치지 않는 GET /developers/page 와, NO_DEVELOPER 에러 응답(GET /developer/{memberId})의 처리량 차이를 비교한다.
+ *     ./gradlew jmh -Pjmh.includes=MetricsOverheadBenchmark
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class MetricsOverheadBenchmark {
+
+    private static final int ROW_COUNT = 10000;
+    //opt-in 백분위 지표 설정
+    private static final String[] PERCENTILE_PROPERTIES = {
+            "management.metrics.distribution.percentiles.http.server.requests=0.5,0.95,0.99",
+            "management.metrics.distribution.percentiles.spring.data.repository.invocations=0.5,0.95,0.99"
+    };
+
+    @Param({"false", "true"})
+    private String instrumentation;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean enabled = Boolean.parseBoolean(instrumentation);
+        context = new SpringApplicationBuilder(DmakerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench-metrics;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "management.metrics.enable.all=" + enabled,
+                        "management.metrics.data.repository.autotime.enabled=" + enabled,
+                        "spring.jpa.properties.hibernate.generate_statistics=" + enabled)
+                .properties(enabled ? PERCENTILE_PROPERTIES : new String[0])
+                .run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        List<Developer> developers = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            developers.add(Developer.builder()
+                    .developerLevel(DeveloperLevel.SENIOR)
+                    .developerSkillType(DeveloperSkillType.BACK_END)
+                    .experienceYears(12)
+                    .memberId("member" + i)
+                    .name("name" + i)
+                    .age(30)
+                    .statusCode(StatusCode.EMPLOYED)
+                    .build());
+        }
+        context.getBean(DeveloperRepository.class).saveAll(developers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String developersPage() throws IOException, InterruptedException {
+        String cursor = DeveloperPage.encodeCursor((long) ThreadLocalRandom.current().nextInt(ROW_COUNT));
+        return send("/developers/page?size=20&cursor=" + cursor, 200);
+    }
+
+    @Benchmark
+    public String noDeveloperError() throws IOException, InterruptedException {
+        return send("/developer/unknown" + ThreadLocalRandom.current().nextInt(ROW_COUNT), 409);
+    }
+
+    private String send(String path, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("unexpected status: " + response.statusCode());
+        }
+        return response.body();
+    }
+}
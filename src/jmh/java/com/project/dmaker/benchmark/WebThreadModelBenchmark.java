@@ -0,0 +1,103 @@
+package com.project.dmaker.benchmark;
+
+import com.project.dmaker.DmakerApplication;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.repository.DeveloperRepository;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 pool) vs 가상 스레드 요청 처리 부하 비교 (H2, HTTP)
+ * <p>
+ *     동일한 Hikari pool 크기에서 64개 클라이언트 스레드가 매 요청 DB를 조회하는
+ *     GET /developers/page 를 호출하며, 처리량(Throughput)과 지연시간 분포(SampleTime, p99)를 측정한다.
+ *     virtualThreads=true 는 JDK 21 이상에서만 기동된다.
+ *     ./gradlew jmh -PruntimeJavaVersion=21 -Pjmh.includes=WebThreadModelBenchmark
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+public class WebThreadModelBenchmark {
+
+    private static final int ROW_COUNT = 10000;
+
+    @Param({"false", "true"})
+    private String virtualThreads;
+
+    @Param({"10"})
+    private String hikariPoolSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DmakerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench-web;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=" + hikariPoolSize,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "dmaker.virtual-threads.enabled=" + virtualThreads)
+                .run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        List<Developer> developers = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            developers.add(Developer.builder()
+                    .developerLevel(DeveloperLevel.SENIOR)
+                    .developerSkillType(DeveloperSkillType.BACK_END)
+                    .experienceYears(12)
+                    .memberId("member" + i)
+                    .name("name" + i)
+                    .age(30)
+                    .statusCode(StatusCode.EMPLOYED)
+                    .build());
+        }
+        context.getBean(DeveloperRepository.class).saveAll(developers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String developersPage() throws IOException, InterruptedException {
+        String cursor = DeveloperPage.encodeCursor((long) ThreadLocalRandom.current().nextInt(ROW_COUNT));
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/developers/page?size=20&cursor=" + cursor))
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status: " + response.statusCode());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.dmaker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.event.DeveloperChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 개발자 상세 조회 read-through 캐시 (memberId 기준, 크기 + TTL 제한)
+ * <p>
+ *     변경 이벤트는 커밋 이후(AFTER_COMMIT)에만 무효화하므로 롤백된 변경으로 캐시가 비워지지 않는다.
+ *     커밋 전에 시작된 로딩이 이전 값을 읽었더라도, 같은 key의 invalidate는 진행 중인 로딩이 끝날 때까지
+ *     대기한 뒤 제거하므로 커밋 이후 이전 값이 남지 않는다.
+ *     hit/miss/eviction 지표는 /actuator/metrics/cache.* (cache=developerDetail) 로 노출된다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Component
+public class DeveloperDetailCache {
+    public static final String CACHE_NAME = "developerDetail";
+
+    private final Cache<String, DeveloperDetailDto> cache;
+
+    public DeveloperDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.cache.developer-detail.maximum-size:10000}") long maximumSize,
+            @Value("${dmaker.cache.developer-detail.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조회 후 저장 (같은 key 동시 요청은 한 번만 로딩)
+     * @param memberId {@link String}
+     * @param loader {@link Function}
+     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public DeveloperDetailDto get(String memberId, Function<String, DeveloperDetailDto> loader) {
+        return cache.get(memberId, loader);
+    }
+
+    /**
+     * 개발자 정보 변경 커밋 이후 캐시 무효화
+     * @param event {@link DeveloperChangedEvent}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        cache.invalidateAll(event.getMemberIds());
+    }
+}
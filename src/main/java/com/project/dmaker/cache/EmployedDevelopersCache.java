@@ -0,0 +1,114 @@
+package com.project.dmaker.cache;
+
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.event.DeveloperChangedEvent;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 재직 개발자 리스트 버전 스냅샷 캐시
+ * <p>
+ *     개발자 변경이 커밋될 때마다(AFTER_COMMIT) 버전을 올리고,
+ *     조회 시 스냅샷 버전이 현재 버전과 같으면 DB 조회 없이 공유 스냅샷(불변 List)을 반환한다.
+ *     다시 적재할 때는 조회 전에 버전을 먼저 읽으므로, 적재 도중 커밋된 변경이 있으면
+ *     스냅샷은 이전 버전으로 저장되어 다음 조회에서 다시 적재된다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Component
+public class EmployedDevelopersCache {
+    // 재기동 후 이전 ETag와 겹치지 않도록 버전 앞에 붙이는 값
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+    private final Lock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    /**
+     * 현재 버전의 스냅샷 조회, 없거나 이전 버전이면 loader로 다시 적재
+     * @param loader {@link Supplier}
+     * @return Snapshot {@link Snapshot}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public Snapshot get(Supplier<List<DeveloperDto>> loader) {
+        Snapshot current = snapshot;
+        if (current != null && current.version == version.get()) {
+            return current;
+        }
+
+        // 적재 중 DB 조회로 대기하므로 synchronized 대신 Lock 사용 (가상 스레드 carrier 고정 방지)
+        loadLock.lock();
+        try {
+            current = snapshot;
+            long loadVersion = version.get();
+            if (current != null && current.version == loadVersion) {
+                return current;
+            }
+
+            current = new Snapshot(loadVersion, getETag(loadVersion), List.copyOf(loader.get()));
+            snapshot = current;
+            return current;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 버전의 ETag (스냅샷 적재 없이 If-None-Match 비교용)
+     * @return String
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public String getCurrentETag() {
+        return getETag(version.get());
+    }
+
+    /**
+     * 개발자 정보 변경 커밋 이후 버전 증가
+     * @param event {@link DeveloperChangedEvent}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 버전 -> ETag 변환
+     * <p>
+     *     같은 버전을 gzip / 비압축 응답이 함께 사용하므로 weak ETag 로 내려준다. (Tomcat 은 strong ETag 응답을 압축하지 않음)
+     * </p>
+     * @param version 리스트 버전
+     * @return String
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private String getETag(long version) {
+        return "W/\"" + epoch + "-" + version + "\"";
+    }
+
+    /**
+     * 재직 개발자 리스트 스냅샷
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Snapshot {
+        private final long version;
+        private final String eTag;
+        private final List<DeveloperDto> developers;
+    }
+}
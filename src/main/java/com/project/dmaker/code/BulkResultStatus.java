@@ -0,0 +1,16 @@
+package com.project.dmaker.code;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * 대량 처리 행(row)별 결과 상태 Enum 클래스
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@AllArgsConstructor
+public enum BulkResultStatus {
+    CREATED("생성"),
+    FAILED("실패");
+
+    private final String description;
+}
@@ -0,0 +1,17 @@
+package com.project.dmaker.code;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * 개발자 정보 변경 유형 Enum 클래스
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@AllArgsConstructor
+public enum DeveloperChangeType {
+    CREATED("생성"),
+    UPDATED("변경"),
+    RETIRED("퇴직");
+
+    private final String description;
+}
@@ -0,0 +1,57 @@
+package com.project.dmaker.code;
+
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 개발자 검색 응답 필드 선택 Enum 클래스 (DeveloperDto 필드)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@AllArgsConstructor
+@Getter
+public enum DeveloperField {
+    DEVELOPER_LEVEL("developerLevel"),
+    DEVELOPER_SKILL_TYPE("developerSkillType"),
+    MEMBER_ID("memberId");
+
+    //응답 필드명 (= Entity 속성명)
+    private final String fieldName;
+
+    /**
+     * 요청 필드명 목록 -> 선택 필드 변환 메소드 (없으면 전체 필드)
+     * @param fieldNames {@link Collection}
+     * @return Set(DeveloperField) {@link Set}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public static Set<DeveloperField> fromFieldNames(Collection<String> fieldNames) {
+        if (fieldNames == null || fieldNames.isEmpty()) {
+            return EnumSet.allOf(DeveloperField.class);
+        }
+
+        Set<DeveloperField> fields = EnumSet.noneOf(DeveloperField.class);
+        for (String fieldName : fieldNames) {
+            fields.add(fromFieldName(fieldName.trim()));
+        }
+
+        return fields;
+    }
+
+    private static DeveloperField fromFieldName(String fieldName) {
+        for (DeveloperField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+
+        throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "선택할 수 없는 필드입니다. (" + fieldName + ")");
+    }
+}
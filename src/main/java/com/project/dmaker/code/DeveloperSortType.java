@@ -0,0 +1,27 @@
+package com.project.dmaker.code;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 개발자 검색 정렬 Enum 클래스
+ * <p>
+ *     모든 정렬은 동률을 id 오름차순으로 정렬하며, (정렬값, id) 기준 keyset 페이지네이션에 사용된다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@AllArgsConstructor
+@Getter
+public enum DeveloperSortType {
+    ID("id 오름차순", null, true),
+    EXPERIENCE_YEARS_ASC("경력연차 오름차순", "experienceYears", true),
+    EXPERIENCE_YEARS_DESC("경력연차 내림차순", "experienceYears", false);
+
+    //설명
+    private final String description;
+    //정렬 대상 Entity 속성 (id 정렬은 null)
+    private final String sortAttribute;
+    //오름차순 여부
+    private final boolean ascending;
+}
@@ -0,0 +1,42 @@
+package com.project.dmaker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.idempotency.IdempotencyFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 응답 재전송 Config 클래스 (개발자 생성 / 삭제 요청)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration(proxyBeanMethods = false)
+public class IdempotencyConfig {
+
+    /**
+     * 개발자 생성(POST /create-developer), 삭제(DELETE /developer/{memberId}) 요청에 IdempotencyFilter 등록
+     * @param objectMapper {@link ObjectMapper}
+     * @param maximumSize 저장할 최대 응답 수
+     * @param expireAfterWrite 응답 저장 후 만료 시간
+     * @return FilterRegistrationBean {@link FilterRegistrationBean}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            ObjectMapper objectMapper,
+            @Value("${dmaker.idempotency.maximum-size:10000}") long maximumSize,
+            @Value("${dmaker.idempotency.expire-after-write:PT1H}") Duration expireAfterWrite) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(objectMapper, maximumSize, expireAfterWrite));
+        registration.addUrlPatterns("/create-developer", "/developer/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+
+        return registration;
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.dmaker.config;
+
+import com.project.dmaker.outbox.DeveloperChangeSink;
+import com.project.dmaker.outbox.InMemoryDeveloperChangeSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 개발자 변경 이벤트 outbox 발행 대상(sink) Config 클래스
+ * <p>
+ *     외부 시스템 연동 sink 를 {@link DeveloperChangeSink} Bean 으로 등록하면 기본 in-memory sink 는 등록하지 않는다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfig {
+
+    /**
+     * 기본 in-memory sink 등록
+     * @param capacity 보관할 최근 변경 이벤트 수
+     * @return DeveloperChangeSink {@link DeveloperChangeSink}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    @ConditionalOnMissingBean(DeveloperChangeSink.class)
+    public DeveloperChangeSink developerChangeSink(
+            @Value("${dmaker.outbox.in-memory-sink.capacity:10000}") int capacity) {
+        return new InMemoryDeveloperChangeSink(capacity);
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.dmaker.config;
+
+import com.project.dmaker.query.QueryCountAspect;
+import com.project.dmaker.query.QueryCountFilter;
+import com.project.dmaker.query.QueryCounter;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 수 집계 Config 클래스 (dmaker.query-count.enabled=false 이면 적용하지 않음)
+ * <p>
+ *     DataSource 를 datasource-proxy 로 감싸 스레드별 SQL 실행 수를 누적하고,
+ *     HTTP 요청 / @Transactional 서비스 메소드 단위로 budget 초과 시 경고 로그를 남긴다.
+ *     테스트에서는 QueryCountAssertions 로 실행 수를 고정(검증)한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "dmaker.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountConfig {
+
+    /**
+     * DataSource 를 SQL 실행 수 집계 proxy 로 감싸는 BeanPostProcessor
+     * <p>
+     *     다른 DataSource 에 위임하는 DataSource (replica 라우팅 등) 는 중복 집계되지 않도록 감싸지 않는다.
+     * </p>
+     * @return BeanPostProcessor {@link BeanPostProcessor}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public static BeanPostProcessor queryCountDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                        || bean instanceof DelegatingDataSource || bean instanceof AbstractRoutingDataSource) {
+                    return bean;
+                }
+
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(QueryCounter.DATA_SOURCE_NAME)
+                        .countQuery()
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * HTTP 요청 단위 SQL 실행 수 집계 Filter 등록
+     * @param requestBudget 요청당 허용 SQL 실행 수
+     * @return FilterRegistrationBean {@link FilterRegistrationBean}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            @Value("${dmaker.query-count.request-budget:20}") long requestBudget) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(requestBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+
+    /**
+     * @Transactional 서비스 메소드 단위 SQL 실행 수 집계 Aspect 등록
+     * @param transactionBudget 트랜잭션당 허용 SQL 실행 수
+     * @return QueryCountAspect {@link QueryCountAspect}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public QueryCountAspect queryCountAspect(
+            @Value("${dmaker.query-count.transaction-budget:10}") long transactionBudget) {
+        return new QueryCountAspect(transactionBudget);
+    }
+}
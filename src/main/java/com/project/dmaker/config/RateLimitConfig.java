@@ -0,0 +1,63 @@
+package com.project.dmaker.config;
+
+import com.project.dmaker.ratelimit.AdaptiveConcurrencyLimiter;
+import com.project.dmaker.ratelimit.ClientRateLimiter;
+import com.project.dmaker.ratelimit.WriteRateLimitInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 요청 요청 수 / 동시 처리 수 제한 Config 클래스 (dmaker.rate-limit.enabled=false 이면 적용하지 않음)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "dmaker.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final WriteRateLimitInterceptor writeRateLimitInterceptor;
+
+    public RateLimitConfig(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${dmaker.rate-limit.permits-per-second:20}") double permitsPerSecond,
+            @Value("${dmaker.rate-limit.burst:40}") int burst,
+            @Value("${dmaker.rate-limit.max-clients:100000}") long maxClients,
+            @Value("${dmaker.rate-limit.concurrency.initial-limit:8}") int initialLimit,
+            @Value("${dmaker.rate-limit.concurrency.min-limit:2}") int minLimit,
+            @Value("${dmaker.rate-limit.concurrency.max-limit:8}") int maxLimit,
+            @Value("${dmaker.rate-limit.concurrency.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${dmaker.rate-limit.concurrency.window:PT1S}") Duration window,
+            @Value("${dmaker.rate-limit.concurrency.retry-after:PT1S}") Duration retryAfter) {
+        AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, latencyTolerance, window.toNanos(), System::nanoTime);
+        this.writeRateLimitInterceptor = new WriteRateLimitInterceptor(
+                new ClientRateLimiter(permitsPerSecond, burst, maxClients, System::nanoTime),
+                concurrencyLimiter, retryAfter);
+
+        // MeterRegistry 가 없는 환경(@WebMvcTest 등)에서는 지표를 등록하지 않음
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("dmaker.rate-limit.concurrency.limit", concurrencyLimiter,
+                            AdaptiveConcurrencyLimiter::getLimit)
+                    .description("쓰기 요청 동시 처리 한도")
+                    .register(registry);
+            Gauge.builder("dmaker.rate-limit.concurrency.in-flight", concurrencyLimiter,
+                            AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("처리 중인 쓰기 요청 수")
+                    .register(registry);
+        });
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(writeRateLimitInterceptor);
+    }
+}
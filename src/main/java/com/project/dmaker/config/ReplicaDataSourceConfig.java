@@ -0,0 +1,149 @@
+package com.project.dmaker.config;
+
+import com.project.dmaker.datasource.ReadWriteRoutingDataSource;
+import com.project.dmaker.datasource.ReadYourWritesFilter;
+import com.project.dmaker.datasource.ReplicaHealthMonitor;
+import com.project.dmaker.datasource.ReplicaRouting;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 Config 클래스 (dmaker.datasource.replica.enabled=true 일 때만 적용)
+ * <p>
+ *     spring.datasource.* 를 primary, dmaker.datasource.replica.* 를 replica 커넥션 풀로 만들고,
+ *     읽기 전용 트랜잭션은 replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖 SQL, Flyway)는 primary 로 보낸다.
+ *     replica 스키마는 복제로 맞춰지는 것을 전제로 하며, Flyway 는 primary 에만 적용한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "dmaker.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * primary 커넥션 풀 (spring.datasource.*, spring.datasource.hikari.*)
+     * @param properties {@link DataSourceProperties}
+     * @return HikariDataSource {@link HikariDataSource}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+
+        return dataSource;
+    }
+
+    /**
+     * replica 커넥션 풀 (dmaker.datasource.replica.url/username/password, dmaker.datasource.replica.hikari.*)
+     * @return HikariDataSource {@link HikariDataSource}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    @ConfigurationProperties("dmaker.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${dmaker.datasource.replica.url}") String url,
+            @Value("${dmaker.datasource.replica.username:}") String username,
+            @Value("${dmaker.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+
+        return dataSource;
+    }
+
+    /**
+     * replica 복제 지연 확인
+     * @return ReplicaHealthMonitor {@link ReplicaHealthMonitor}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${dmaker.datasource.replica.max-lag:PT5S}") Duration maxLag,
+            MeterRegistry meterRegistry) {
+        return new ReplicaHealthMonitor(primaryDataSource, replicaDataSource, maxLag, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 DataSource (JPA, JdbcTemplate, Flyway)
+     * <p>
+     *     읽기 전용 여부가 등록된 뒤 첫 SQL 실행 시점에 라우팅하도록 LazyConnectionDataSourceProxy 로 감싼다.
+     * </p>
+     * @return DataSource {@link DataSource}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaHealthMonitor replicaHealthMonitor) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaHealthMonitor::isAvailable);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 쓰기 요청 이후 read-your-writes Filter 등록
+     * @param window 쓰기 요청 이후 primary 에서 읽는 시간
+     * @return FilterRegistrationBean {@link FilterRegistrationBean}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${dmaker.datasource.replica.read-your-writes-window:PT5S}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registration;
+    }
+
+    /**
+     * 비동기 요청 처리(StreamingResponseBody 등) executor 에 primary 고정 상태 전달
+     * <p>
+     *     가상 스레드 모드(VirtualThreadConfig)의 executor 에는 적용되지 않는다.
+     * </p>
+     * @return TaskDecorator {@link TaskDecorator}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public TaskDecorator replicaRoutingTaskDecorator() {
+        return ReplicaRouting::propagate;
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.dmaker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+
+/**
+ * @EnableRetry 사용을 위한 Config 클래스
+ * <p>
+ *     Retry advice는 트랜잭션 advice보다 바깥에서 동작하므로 재시도마다 새 트랜잭션으로 다시 실행된다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration
+@EnableRetry
+public class RetryConfig {
+
+}
@@ -0,0 +1,16 @@
+package com.project.dmaker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+
+/**
+ * @EnableScheduling 사용을 위한 Config 클래스
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
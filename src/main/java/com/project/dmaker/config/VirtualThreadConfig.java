@@ -0,0 +1,80 @@
+package com.project.dmaker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 요청 처리 모드 Config 클래스 (dmaker.virtual-threads.enabled=true 일 때만 적용)
+ * <p>
+ *     Tomcat 요청 처리 스레드와 비동기 작업(StreamingResponseBody, @Async) executor를
+ *     요청마다 가상 스레드를 만드는 executor로 교체한다.
+ *     DMakerService 트랜잭션은 요청 스레드에서 실행되므로 함께 가상 스레드에서 실행된다.
+ *     컴파일 대상은 Java 17 이므로 JDK 21 API는 reflection으로 호출하며, JDK 21 미만에서 켜면 기동 시 실패한다.
+ *     (실행: ./gradlew bootRun -PruntimeJavaVersion=21 --args='--dmaker.virtual-threads.enabled=true')
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "dmaker.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * 요청(작업)마다 가상 스레드를 생성하는 executor
+     * @return ExecutorService {@link ExecutorService}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            log.info("virtual thread mode enabled (java {})", Runtime.version());
+
+            return executor;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("dmaker.virtual-threads.enabled=true 는 JDK 21 이상에서만 사용할 수 있습니다. " +
+                    "(현재: " + Runtime.version() + ")", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 executor 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * Tomcat 요청 처리 executor 교체
+     * @param virtualThreadExecutor {@link ExecutorService}
+     * @return TomcatProtocolHandlerCustomizer {@link TomcatProtocolHandlerCustomizer}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    /**
+     * Spring MVC 비동기 요청 처리 및 @Async 기본 executor 교체
+     * @param virtualThreadExecutor {@link ExecutorService}
+     * @return AsyncTaskExecutor {@link AsyncTaskExecutor}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+}
@@ -8,4 +8,27 @@ package com.project.dmaker.constant;
 public class DMakerConstant {
     public static final Integer MIN_SENIOR_EXPERIENCE_YEARS = 10;
     public static final Integer MAX_JUNIOR_EXPERIENCE_YEARS = 4;
+
+    //DEVELOPER.member_id 유니크 제약조건 이름 (중복 memberId 판별용)
+    public static final String DEVELOPER_MEMBER_ID_UNIQUE_CONSTRAINT = "uk_developer_member_id";
+
+    //DEVELOPER id sequence 할당 크기 (V3 migration 의 developer_seq increment 와 동일해야 함)
+    public static final int DEVELOPER_ID_ALLOCATION_SIZE = 50;
+    //DEVELOPER_OUTBOX id sequence 할당 크기 (V6 migration 의 developer_outbox_seq increment 와 동일해야 함)
+    public static final int DEVELOPER_OUTBOX_ID_ALLOCATION_SIZE = 50;
+    //대량 등록 시 중복 조회 및 INSERT 처리 단위
+    public static final Integer DEVELOPER_BULK_CHUNK_SIZE = 500;
+
+    //개발자 리스트 페이지 기본 크기
+    public static final Integer DEFAULT_DEVELOPER_PAGE_SIZE = 100;
+    //개발자 리스트 페이지 최대 크기
+    public static final Integer MAX_DEVELOPER_PAGE_SIZE = 1000;
+    //스트리밍 조회 시 JDBC fetch size
+    public static final String DEVELOPER_STREAM_FETCH_SIZE = "500";
+
+    //개발자 변경/삭제 낙관적 락 충돌 시 최대 시도 횟수 (최초 시도 포함)
+    public static final int DEVELOPER_UPDATE_MAX_ATTEMPTS = 3;
+    //재시도 대기 시간(ms), 재시도마다 배수만큼 증가 (random jitter 적용)
+    public static final long DEVELOPER_UPDATE_RETRY_DELAY = 20;
+    public static final double DEVELOPER_UPDATE_RETRY_MULTIPLIER = 2;
 }
@@ -1,16 +1,42 @@
 package com.project.dmaker.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.project.dmaker.cache.EmployedDevelopersCache;
+import com.project.dmaker.dto.BulkCreateDeveloper;
+import com.project.dmaker.dto.BulkRetireDeveloper;
 import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperChangeFeed;
 import com.project.dmaker.dto.DeveloperDetailDto;
 import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.DeveloperHeadcount;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.dto.RetiredDeveloperDto;
+import com.project.dmaker.dto.SearchDeveloper;
 import com.project.dmaker.dto.UpdateDeveloper;
 import com.project.dmaker.service.DMakerService;
+import com.project.dmaker.util.DeveloperCsvReader;
+import com.project.dmaker.util.VersionETags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 /**
@@ -24,32 +50,183 @@ import java.util.List;
 public class DMakerController {
 
     private final DMakerService dMakerService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 모든 개발자 조회 요청 메소드
-     * @return List(DeveloperDto) {@link List}
+     * <p>
+     *     리스트 스냅샷 버전을 ETag로 내려주며, If-None-Match가 현재 버전과 같으면
+     *     스냅샷 조회 및 직렬화 없이 304를 응답한다.
+     * </p>
+     * @param webRequest {@link WebRequest}
+     * @return ResponseEntity(List(DeveloperDto)) {@link ResponseEntity}
      * @author cyh68
      * @since 2023-05-08
      **/
     @GetMapping("/developers")
-    public List<DeveloperDto> getAllDevelopers() {
+    public ResponseEntity<List<DeveloperDto>> getAllDevelopers(WebRequest webRequest) {
         log.info("GET /developers HTTP/1.1");
 
-        return dMakerService.getAllEmployedDevelopers();
+        if (webRequest.checkNotModified(dMakerService.getEmployedDevelopersETag())) {
+            return null;
+        }
+
+        EmployedDevelopersCache.Snapshot snapshot = dMakerService.getEmployedDevelopersSnapshot();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.getETag())
+                .body(snapshot.getDevelopers());
+    }
+
+    /**
+     * 모든 개발자 스트리밍 조회 요청 메소드 (Accept: application/x-ndjson)
+     * <p>
+     *     DTO를 한 줄에 하나씩 NDJSON 형식으로 응답 스트림에 바로 기록한다.
+     * </p>
+     * @return ResponseEntity(StreamingResponseBody) {@link StreamingResponseBody}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @GetMapping(value = "/developers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllDevelopers() {
+        log.info("GET /developers HTTP/1.1 (application/x-ndjson)");
+
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                dMakerService.streamEmployedDevelopers(developerDto -> writeValue(writer, developerDto));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 개발자 리스트 페이지 조회 요청 메소드
+     * @param cursor {@link String} 이전 페이지 응답의 nextCursor
+     * @param size {@link Integer} 페이지 크기
+     * @return DeveloperPage {@link DeveloperPage}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @GetMapping("/developers/page")
+    public DeveloperPage getDevelopersPage(@RequestParam(value = "cursor", required = false) final String cursor,
+                                           @RequestParam(value = "size", required = false) final Integer size) {
+        log.info("GET /developers/page HTTP/1.1");
+
+        return dMakerService.getEmployedDevelopersPage(cursor, size);
+    }
+
+    /**
+     * 개발자 검색 요청 메소드
+     * <p>
+     *     레벨, 직무 타입, 경력 연차 / 나이 범위, 재직 상태, 이름 prefix 조건을 SQL 조건으로 조회하며,
+     *     sort 기준 keyset 페이지네이션과 fields 로 응답 필드 선택을 지원한다.
+     *     (예: GET /developers/search?developerSkillType=BACK_END&minExperienceYears=5&sort=EXPERIENCE_YEARS_DESC&fields=memberId)
+     * </p>
+     * @param request {@link SearchDeveloper.Request}
+     * @return DeveloperPage {@link DeveloperPage}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @GetMapping("/developers/search")
+    public DeveloperPage searchDevelopers(@Validated @ModelAttribute final SearchDeveloper.Request request) {
+        log.info("GET /developers/search HTTP/1.1");
+
+        return dMakerService.searchDevelopers(request);
+    }
+
+    /**
+     * 개발자 퇴직 이력 조회 요청 메소드
+     * <p>
+     *     (예: GET /developer/{memberId}/retired-history?from=2026-01-01T00:00:00&to=2026-12-31T23:59:59)
+     * </p>
+     * @param memberId {@link String}
+     * @param from {@link LocalDateTime} 조회 시작 일시 (ISO-8601)
+     * @param to {@link LocalDateTime} 조회 종료 일시 (ISO-8601)
+     * @return List(RetiredDeveloperDto) {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @GetMapping("/developer/{memberId}/retired-history")
+    public List<RetiredDeveloperDto> getRetiredDeveloperHistory(
+            @PathVariable("memberId") final String memberId,
+            @RequestParam(value = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @RequestParam(value = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to) {
+        log.info("GET /developer/{memberId}/retired-history HTTP/1.1");
+
+        return dMakerService.getRetiredDeveloperHistory(memberId, from, to);
+    }
+
+    /**
+     * 개발자 change feed 조회 요청 메소드
+     * <p>
+     *     생성 / 변경 / 퇴직 이벤트를 발행 순서대로 반환하며, 응답의 nextOffset 으로 이어 읽을 수 있다.
+     *     (예: GET /developers/changes?offset=0&size=100)
+     * </p>
+     * @param offset 마지막으로 읽은 feed offset (처음부터 읽을 때는 0)
+     * @param size {@link Integer} 최대 건수
+     * @return DeveloperChangeFeed {@link DeveloperChangeFeed}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @GetMapping("/developers/changes")
+    public DeveloperChangeFeed getDeveloperChanges(
+            @RequestParam(value = "offset", defaultValue = "0") final long offset,
+            @RequestParam(value = "size", required = false) final Integer size) {
+        log.info("GET /developers/changes HTTP/1.1");
+
+        return dMakerService.getDeveloperChanges(offset, size);
+    }
+
+    /**
+     * 개발자 헤드카운트 통계 조회 요청 메소드
+     * <p>
+     *     레벨 x 직무 타입 x 재직 상태별 인원 수를 메모리 집계에서 조회하며 DB 조회는 발생하지 않는다.
+     * </p>
+     * @return List(DeveloperHeadcount) {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @GetMapping("/developers/stats")
+    public List<DeveloperHeadcount> getDeveloperHeadcounts() {
+        log.info("GET /developers/stats HTTP/1.1");
+
+        return dMakerService.getDeveloperHeadcounts();
     }
 
     /**
      * 특정 개발자 조회 요청 메소드
+     * <p>
+     *     낙관적 락 버전을 ETag로, 마지막 변경 날짜를 Last-Modified로 내려주며, 변경/삭제 요청 시 If-Match로 사용할 수 있다.
+     *     If-None-Match(없으면 If-Modified-Since)가 현재 값과 같으면 직렬화 없이 304를 응답한다.
+     * </p>
      * @param memberId {@link String}
-     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @param webRequest {@link WebRequest}
+     * @return ResponseEntity(DeveloperDetailDto) {@link DeveloperDetailDto}
      * @author cyh68
      * @since 2023-05-08
      **/
     @GetMapping("/developer/{memberId}")
-    public DeveloperDetailDto getDeveloperDetail(@PathVariable("memberId") final String memberId) {
+    public ResponseEntity<DeveloperDetailDto> getDeveloperDetail(@PathVariable("memberId") final String memberId,
+                                                                 WebRequest webRequest) {
         log.info("GET /developers/{memberId} HTTP/1.1");
 
-        return dMakerService.getDeveloperDetail(memberId);
+        DeveloperDetailDto developerDetail = dMakerService.getDeveloperDetail(memberId);
+        // 304 가 아니면 ETag / Last-Modified 헤더가 이미 설정되어 있음
+        if (webRequest.checkNotModified(VersionETags.format(developerDetail.getVersion()),
+                toLastModified(developerDetail))) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(developerDetail);
     }
 
     /**
@@ -67,32 +244,138 @@ public class DMakerController {
         return dMakerService.createDeveloper(request);
     }
 
+    /**
+     * 개발자 대량 생성 요청 메소드 (JSON 배열)
+     * <p>
+     *     JSON 배열은 요청 본문 전체를 List 로 바인딩한 뒤 처리하므로 요청 크기만큼 메모리를 사용한다.
+     *     행 단위 스트리밍(chunk 저장)으로 메모리를 제한하는 대량 등록은 CSV(text/csv) 요청에만 적용된다.
+     * </p>
+     * @param requests {@link List}
+     * @return BulkCreateDeveloper.Response {@link BulkCreateDeveloper.Response}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @PostMapping(value = "/developers/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkCreateDeveloper.Response createDevelopers(@RequestBody final List<CreateDeveloper.Request> requests) {
+        log.info("POST /developers/bulk HTTP/1.1 (rows = {})", requests.size());
+
+        return dMakerService.createDevelopers(requests.iterator());
+    }
+
+    /**
+     * 개발자 대량 생성 요청 메소드 (CSV 스트림)
+     * @param inputStream {@link InputStream} text/csv 요청 본문
+     * @return BulkCreateDeveloper.Response {@link BulkCreateDeveloper.Response}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @PostMapping(value = "/developers/bulk", consumes = "text/csv")
+    public BulkCreateDeveloper.Response createDevelopersFromCsv(final InputStream inputStream) throws IOException {
+        log.info("POST /developers/bulk HTTP/1.1 (text/csv)");
+
+        try (DeveloperCsvReader reader = new DeveloperCsvReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            return dMakerService.createDevelopers(reader);
+        }
+    }
+
     /**
      * 특정 개발자 정보 변경 요청 메소드
+     * <p>
+     *     If-Match 헤더가 있으면 해당 버전일 때만 변경하며, 다르면 DEVELOPER_VERSION_CONFLICT(409)를 응답한다.
+     * </p>
      * @param memberId {@link String}
+     * @param ifMatch {@link String} 조회 시 받은 ETag (선택)
      * @param request {@link UpdateDeveloper.Request}
-     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @return ResponseEntity(DeveloperDetailDto) {@link DeveloperDetailDto}
      * @author cyh68
      * @since 2023-05-08
      **/
     @PutMapping("/developer/{memberId}")
-    public DeveloperDetailDto updateDeveloper(@PathVariable("memberId") final String memberId,
-                                              @Validated @RequestBody final UpdateDeveloper.Request request) {
+    public ResponseEntity<DeveloperDetailDto> updateDeveloper(
+            @PathVariable("memberId") final String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @Validated @RequestBody final UpdateDeveloper.Request request) {
         log.info("requestDto = {}", request);
 
-        return dMakerService.updateDeveloper(memberId, request);
+        return toVersionedResponse(dMakerService.updateDeveloper(memberId, request, VersionETags.parse(ifMatch)));
     }
 
     /**
      * 특정 개발자 삭제 요청 메소드
+     * <p>
+     *     If-Match 헤더가 있으면 해당 버전일 때만 삭제하며, 다르면 DEVELOPER_VERSION_CONFLICT(409)를 응답한다.
+     * </p>
      * @param memberId {@link String}
-     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @param ifMatch {@link String} 조회 시 받은 ETag (선택)
+     * @return ResponseEntity(DeveloperDetailDto) {@link DeveloperDetailDto}
      * @author cyh68
      * @since 2023-05-08
      **/
     @DeleteMapping("/developer/{memberId}")
-    public DeveloperDetailDto deleteDeveloper(@PathVariable("memberId") final String memberId) {
+    public ResponseEntity<DeveloperDetailDto> deleteDeveloper(
+            @PathVariable("memberId") final String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch) {
 
-        return dMakerService.deleteDeveloper(memberId);
+        return toVersionedResponse(dMakerService.deleteDeveloper(memberId, VersionETags.parse(ifMatch)));
+    }
+
+    /**
+     * 개발자 대량 퇴직 처리 요청 메소드
+     * @param request {@link BulkRetireDeveloper.Request}
+     * @return BulkRetireDeveloper.Response {@link BulkRetireDeveloper.Response}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @PostMapping("/developers/retire")
+    public BulkRetireDeveloper.Response retireDevelopers(@Validated @RequestBody final BulkRetireDeveloper.Request request) {
+        log.info("POST /developers/retire HTTP/1.1 (memberIds = {})", request.getMemberIds().size());
+
+        return dMakerService.retireDevelopers(request.getMemberIds());
+    }
+
+    /**
+     * 개발자 상세 응답 생성 (버전을 ETag 헤더로 설정)
+     * @param developerDetail {@link DeveloperDetailDto}
+     * @return ResponseEntity(DeveloperDetailDto) {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static ResponseEntity<DeveloperDetailDto> toVersionedResponse(DeveloperDetailDto developerDetail) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        String eTag = VersionETags.format(developerDetail.getVersion());
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+
+        return builder.body(developerDetail);
+    }
+
+    /**
+     * 개발자 상세 마지막 변경 날짜 -> Last-Modified 값 변환 (epoch millis, 없으면 -1)
+     * @param developerDetail {@link DeveloperDetailDto}
+     * @return long
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static long toLastModified(DeveloperDetailDto developerDetail) {
+        // JPA Auditing 은 서버 기본 time zone 의 LocalDateTime 으로 저장
+        return developerDetail.getUpdateAt() == null ? -1
+                : developerDetail.getUpdateAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 스트리밍 응답에 DTO 한 건 기록
+     * @param writer {@link SequenceWriter}
+     * @param value {@link Object}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static void writeValue(SequenceWriter writer, Object value) {
+        try {
+            writer.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,11 @@
+package com.project.dmaker.datasource;
+
+/**
+ * 읽기/쓰기 라우팅 대상 DataSource
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
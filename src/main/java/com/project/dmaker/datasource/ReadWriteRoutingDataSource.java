@@ -0,0 +1,55 @@
+package com.project.dmaker.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로, 그 외를 primary 로 보내는 라우팅 DataSource
+ * <p>
+ *     트랜잭션 시작 시점에는 읽기 전용 여부가 아직 등록되지 않으므로
+ *     {@link LazyConnectionDataSourceProxy} 로 감싸 첫 SQL 실행 시점에 대상을 결정해야 한다.
+ *     replica 가 비정상(조회 실패, 허용 지연 초과)이거나 현재 스레드가 primary 고정 상태이면 primary 를 사용한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final BooleanSupplier replicaAvailable;
+
+    public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                      BooleanSupplier replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+        setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentDataSourceType();
+    }
+
+    /**
+     * 현재 스레드에서 사용할 DataSource
+     * @return DataSourceType {@link DataSourceType}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public DataSourceType currentDataSourceType() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRouting.isPrimaryPinned()
+                && replicaAvailable.getAsBoolean()) {
+            return DataSourceType.REPLICA;
+        }
+
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.dmaker.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * read-your-writes 보장 Filter
+ * <p>
+ *     쓰기 요청(GET/HEAD/OPTIONS 외)의 응답에 primary 고정 만료 시각(epoch millis) cookie 를 내려주고,
+ *     만료 전까지 같은 client 의 요청은 replica 대신 primary 에서 읽도록 한다. (복제 지연 동안 자신이 쓴 값을 못 읽는 것 방지)
+ *     상태를 cookie 로 주고받으므로 인스턴스 간 공유 저장소가 필요 없다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "DMAKER_PRIMARY_UNTIL";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (write) {
+            //응답 본문 이후에는 cookie 를 추가할 수 없으므로 처리 전에 추가 (실패한 쓰기도 window 동안 primary 에서 읽음)
+            response.addCookie(primaryUntilCookie(now + window.toMillis()));
+        }
+        if (!write && getPrimaryUntil(request) <= now) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean previous = ReplicaRouting.pinPrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRouting.restore(previous);
+        }
+    }
+
+    private Cookie primaryUntilCookie(long primaryUntil) {
+        Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(primaryUntil));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+
+        return cookie;
+    }
+
+    //cookie 가 없거나 잘못된 값이면 0
+    private static long getPrimaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.dmaker.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * replica 상태(복제 지연) 확인
+ * <p>
+ *     primary 의 replication_heartbeat 에 현재 시각을 기록하고, replica 에 복제된 마지막 시각과의 차이를 복제 지연으로 본다.
+ *     (replica 조회 후 primary 에 기록하므로 정상 상태에서도 확인 주기만큼의 지연이 측정된다. max-lag 는 확인 주기보다 크게 지정)
+ *     replica 조회에 실패하거나 지연이 max-lag 를 넘으면 다음 확인까지 읽기 전용 트랜잭션도 primary 를 사용한다.
+ *     복제 지연은 /actuator/metrics/dmaker.datasource.replica.lag (초, 조회 실패 시 NaN) 로 노출된다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+public class ReplicaHealthMonitor {
+    private static final String SELECT_HEARTBEAT = "select beat_at from replication_heartbeat where id = 1";
+    private static final String UPDATE_HEARTBEAT = "update replication_heartbeat set beat_at = ? where id = 1";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+
+    //마지막 확인 결과 (조회 실패 시 null)
+    private volatile Duration lag;
+    private volatile boolean available;
+
+    public ReplicaHealthMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag,
+                                MeterRegistry meterRegistry) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+
+        Gauge.builder("dmaker.datasource.replica.lag", this,
+                        monitor -> monitor.lag == null ? Double.NaN : monitor.lag.toMillis() / 1000d)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * replica 사용 가능 여부 (마지막 확인 기준)
+     * @return boolean
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * replica 복제 지연 확인 후 primary heartbeat 갱신 (dmaker.datasource.replica.check-interval 주기)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Scheduled(fixedDelayString = "${dmaker.datasource.replica.check-interval:PT1S}")
+    public void check() {
+        LocalDateTime now = LocalDateTime.now();
+        Duration currentLag = null;
+        try {
+            LocalDateTime replicaBeat = replicaJdbcTemplate.queryForObject(SELECT_HEARTBEAT, LocalDateTime.class);
+            currentLag = replicaBeat == null || replicaBeat.isAfter(now)
+                    ? Duration.ZERO
+                    : Duration.between(replicaBeat, now);
+        } catch (DataAccessException e) {
+            log.debug("replica heartbeat check failed", e);
+        }
+        update(currentLag);
+
+        try {
+            primaryJdbcTemplate.update(UPDATE_HEARTBEAT, now);
+        } catch (DataAccessException e) {
+            log.warn("primary heartbeat update failed: {}", e.getMessage());
+        }
+    }
+
+    private void update(Duration currentLag) {
+        boolean currentAvailable = currentLag != null && currentLag.compareTo(maxLag) <= 0;
+        if (available != currentAvailable) {
+            if (currentAvailable) {
+                log.info("replica available (lag: {})", currentLag);
+            } else {
+                log.warn("replica unavailable, routing reads to primary (lag: {}, max-lag: {})",
+                        currentLag == null ? "unknown" : currentLag, maxLag);
+            }
+        }
+        this.lag = currentLag;
+        this.available = currentAvailable;
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.dmaker.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 replica 라우팅 제외(primary 고정) 상태
+ * <p>
+ *     primary 고정 상태에서는 읽기 전용 트랜잭션도 primary 로 라우팅한다.
+ *     (읽기 후 캐시에 저장하는 조회, 쓰기 직후의 read-your-writes 요청 등)
+ *     replica 라우팅을 사용하지 않으면 (dmaker.datasource.replica.enabled=false) 아무 영향이 없다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class ReplicaRouting {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * primary 고정 상태 여부
+     * @return boolean
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    /**
+     * supplier 실행 동안 primary 고정
+     * @param supplier {@link Supplier}
+     * @return T
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static <T> T onPrimary(Supplier<T> supplier) {
+        boolean previous = pinPrimary();
+        try {
+            return supplier.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 현재 스레드의 primary 고정 상태를 다른 스레드에서 실행할 작업에 전달 (비동기 요청 처리용 TaskDecorator)
+     * @param runnable {@link Runnable}
+     * @return Runnable {@link Runnable}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static Runnable propagate(Runnable runnable) {
+        if (!isPrimaryPinned()) {
+            return runnable;
+        }
+
+        return () -> {
+            boolean previous = pinPrimary();
+            try {
+                runnable.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    //primary 고정 후 이전 상태 반환
+    static boolean pinPrimary() {
+        boolean previous = isPrimaryPinned();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+
+        return previous;
+    }
+
+    static void restore(boolean previous) {
+        if (previous) {
+            PRIMARY_PINNED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_PINNED.remove();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.dmaker.dto;
+
+import com.project.dmaker.code.BulkResultStatus;
+import com.project.dmaker.exception.DMakerErrorCode;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 개발자 대량 등록 응답 DTO
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class BulkCreateDeveloper {
+
+    /**
+     * 개발자 대량 등록 응답 DTO (전체 건수 및 행별 결과)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private Integer totalCount;
+        private Integer createdCount;
+        private Integer failedCount;
+        private List<Result> results;
+
+        /**
+         * 행별 결과 -> Response 객체 변환 메소드
+         * @param results {@link List}
+         * @return Response {@link Response}
+         * @author cyh68
+         * @since 2026-10-18
+         **/
+        public static Response fromResults(@NonNull List<Result> results) {
+            int createdCount = (int) results.stream()
+                    .filter(result -> result.getStatus() == BulkResultStatus.CREATED)
+                    .count();
+
+            return Response.builder()
+                    .totalCount(results.size())
+                    .createdCount(createdCount)
+                    .failedCount(results.size() - createdCount)
+                    .results(results)
+                    .build();
+        }
+    }
+
+    /**
+     * 개발자 대량 등록 행별 결과 DTO
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result {
+        //요청 내 행 번호 (1부터 시작)
+        private Integer row;
+        private String memberId;
+        private BulkResultStatus status;
+        private DMakerErrorCode errorCode;
+        private String errorMessage;
+
+        /**
+         * 실패 처리
+         * @param errorCode {@link DMakerErrorCode}
+         * @param errorMessage {@link String}
+         * @author cyh68
+         * @since 2026-10-18
+         **/
+        public void fail(DMakerErrorCode errorCode, String errorMessage) {
+            this.status = BulkResultStatus.FAILED;
+            this.errorCode = errorCode;
+            this.errorMessage = errorMessage;
+        }
+    }
+}
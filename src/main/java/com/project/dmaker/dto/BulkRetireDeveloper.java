@@ -0,0 +1,51 @@
+package com.project.dmaker.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 개발자 대량 퇴직 처리 요청 및 응답 DTO
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class BulkRetireDeveloper {
+
+    /**
+     * 개발자 대량 퇴직 처리 요청 DTO
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class Request {
+        //퇴직 처리할 memberId 목록
+        @NotEmpty
+        @Size(max = 10000, message = "memberIds size must be 1-10000")
+        private List<@NotNull String> memberIds;
+    }
+
+    /**
+     * 개발자 대량 퇴직 처리 응답 DTO
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        //퇴직 처리된 memberId
+        private List<String> retiredMemberIds;
+        //존재하지 않거나 이미 퇴직한 memberId
+        private List<String> missingMemberIds;
+    }
+}
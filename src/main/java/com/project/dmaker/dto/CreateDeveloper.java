@@ -28,8 +28,7 @@ public class CreateDeveloper {
     @Builder
     @ToString
     public static class Request {
-        //개발자 레벨
-        @NotNull
+        //개발자 레벨 (생략 시 경력 연차로 추론)
         private DeveloperLevel developerLevel;
         //개발자 직무 타입
         @NotNull
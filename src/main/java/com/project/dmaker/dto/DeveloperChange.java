@@ -0,0 +1,55 @@
+package com.project.dmaker.dto;
+
+import com.project.dmaker.code.DeveloperChangeType;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.entity.DeveloperOutbox;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개발자 변경 이벤트 DTO (sink 발행 및 change feed 응답)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DeveloperChange {
+    //change feed 순번 (다음 조회 시 offset 으로 사용)
+    private Long offset;
+    //이벤트 ID (sink 는 at-least-once 발행이므로 중복 제거용)
+    private Long eventId;
+    private String memberId;
+    private DeveloperChangeType changeType;
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private StatusCode statusCode;
+    //변경 일시
+    private LocalDateTime changedAt;
+
+    /**
+     * DeveloperOutbox -> DeveloperChange 객체 변환 메소드
+     * @param outbox {@link DeveloperOutbox}
+     * @return DeveloperChange {@link DeveloperChange}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static DeveloperChange fromEntity(DeveloperOutbox outbox) {
+        return DeveloperChange.builder()
+                .offset(outbox.getFeedOffset())
+                .eventId(outbox.getId())
+                .memberId(outbox.getMemberId())
+                .changeType(outbox.getChangeType())
+                .developerLevel(outbox.getDeveloperLevel())
+                .developerSkillType(outbox.getDeveloperSkillType())
+                .statusCode(outbox.getStatusCode())
+                .changedAt(outbox.getCreateAt())
+                .build();
+    }
+}
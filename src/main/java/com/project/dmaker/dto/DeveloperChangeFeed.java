@@ -0,0 +1,21 @@
+package com.project.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 개발자 change feed 응답 DTO (offset 기반 이어 읽기)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperChangeFeed {
+    private List<DeveloperChange> changes;
+    //다음 조회 시 사용할 offset (새 변경이 없으면 요청 offset 그대로)
+    private Long nextOffset;
+}
@@ -1,12 +1,15 @@
 package com.project.dmaker.dto;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.project.dmaker.code.StatusCode;
 import com.project.dmaker.entity.Developer;
 import com.project.dmaker.type.DeveloperLevel;
 import com.project.dmaker.type.DeveloperSkillType;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 
 /**
  * 개발자 상세 정보 DTO
@@ -27,6 +30,12 @@ public class DeveloperDetailDto {
     private String memberId;
     private String name;
     private Integer age;
+    //낙관적 락 버전 (응답 본문 대신 ETag 헤더로 전달)
+    @JsonIgnore
+    private Long version;
+    //마지막 변경 날짜 (응답 본문 대신 Last-Modified 헤더로 전달)
+    @JsonIgnore
+    private LocalDateTime updateAt;
 
     /**
      * Developer -> DeveloperDetailDto 객체 변환 메소드
@@ -44,6 +53,8 @@ public class DeveloperDetailDto {
                 .memberId(developer.getMemberId())
                 .name(developer.getName())
                 .age(developer.getAge())
+                .version(developer.getVersion())
+                .updateAt(developer.getUpdateAt())
                 .build();
     }
 }
@@ -1,12 +1,14 @@
 package com.project.dmaker.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.project.dmaker.entity.Developer;
 import com.project.dmaker.type.DeveloperLevel;
 import com.project.dmaker.type.DeveloperSkillType;
 import lombok.*;
 
 /**
- * 개발자 정보 DTO
+ * 개발자 정보 DTO (검색 필드 선택 시 선택하지 않은 필드는 null 로 응답에서 제외)
  * @author cyh68
  * @since 2023-05-08
  **/
@@ -16,10 +18,14 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class DeveloperDto {
     private DeveloperLevel developerLevel;
     private DeveloperSkillType developerSkillType;
     private String memberId;
+    //keyset 페이지네이션 커서 생성용 (응답에는 노출하지 않음)
+    @JsonIgnore
+    private Long id;
 
     /**
      * Developer -> DeveloperDto 객체 변환 메소드
@@ -33,6 +39,7 @@ public class DeveloperDto {
                 .developerLevel(developer.getDeveloperLevel())
                 .developerSkillType(developer.getDeveloperSkillType())
                 .memberId(developer.getMemberId())
+                .id(developer.getId())
                 .build();
     }
 }
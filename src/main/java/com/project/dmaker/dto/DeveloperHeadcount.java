@@ -0,0 +1,25 @@
+package com.project.dmaker.dto;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+/**
+ * 개발자 헤드카운트 DTO (레벨 x 직무 타입 x 재직 상태별 인원 수)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DeveloperHeadcount {
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private StatusCode statusCode;
+    //인원 수
+    private Long count;
+}
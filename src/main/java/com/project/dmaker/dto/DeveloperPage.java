@@ -0,0 +1,60 @@
+package com.project.dmaker.dto;
+
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 개발자 리스트 페이지 DTO (커서 기반 페이지네이션)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperPage {
+    private List<DeveloperDto> developers;
+    //다음 페이지 조회용 커서 (마지막 페이지인 경우 null)
+    private String nextCursor;
+
+    /**
+     * 마지막으로 조회된 id -> 불투명(opaque) 커서 문자열 변환 메소드
+     * @param id {@link Long}
+     * @return String {@link String}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static String encodeCursor(@NonNull Long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 -> 마지막으로 조회된 id 변환 메소드 (커서가 없으면 처음부터 조회)
+     * @param cursor {@link String}
+     * @return Long {@link Long}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            return Long.parseLong(
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+            );
+        } catch (IllegalArgumentException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
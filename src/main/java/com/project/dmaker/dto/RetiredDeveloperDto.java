@@ -0,0 +1,23 @@
+package com.project.dmaker.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 퇴직 이력 DTO
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class RetiredDeveloperDto {
+    private String memberId;
+    private String name;
+    //퇴직 일시
+    private LocalDateTime retiredAt;
+}
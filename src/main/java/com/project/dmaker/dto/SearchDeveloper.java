@@ -0,0 +1,123 @@
+package com.project.dmaker.dto;
+
+import com.project.dmaker.code.DeveloperSortType;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 개발자 검색 요청 DTO (필터 / 정렬 / keyset 페이지네이션 / 응답 필드 선택)
+ * <p>
+ *     응답은 {@link DeveloperPage} 이며, 검색 결과의 nextCursor 는 정렬 기준별 (정렬값, id) 커서이다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class SearchDeveloper {
+
+    /**
+     * 개발자 검색 요청 DTO (query parameter)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class Request {
+        //개발자 레벨
+        private DeveloperLevel developerLevel;
+        //개발자 직무 타입
+        private DeveloperSkillType developerSkillType;
+        //경력 연차 범위 (이상 / 이하)
+        @Min(0)
+        private Integer minExperienceYears;
+        @Min(0)
+        private Integer maxExperienceYears;
+        //나이 범위 (이상 / 이하)
+        @Min(0)
+        private Integer minAge;
+        @Min(0)
+        private Integer maxAge;
+        //재직 상태 (생략 시 EMPLOYED)
+        private StatusCode statusCode;
+        //이름 prefix (name like 'prefix%')
+        @Size(min = 1, max = 20, message = "namePrefix size must be 1-20")
+        private String namePrefix;
+        //정렬 (생략 시 ID)
+        private DeveloperSortType sort;
+        //이전 페이지의 nextCursor (첫 페이지는 생략)
+        private String cursor;
+        //페이지 크기
+        private Integer size;
+        //응답 필드 선택 (예: fields=memberId,developerLevel, 생략 시 전체)
+        private Set<String> fields;
+    }
+
+    /**
+     * 검색 keyset 커서 (마지막으로 조회된 행의 정렬값, id)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Cursor {
+        //정렬값 (id 정렬은 null)
+        private final Integer sortValue;
+        private final Long id;
+
+        /**
+         * 커서 -> 불투명(opaque) 커서 문자열 변환 메소드
+         * @return String {@link String}
+         * @author cyh68
+         * @since 2026-10-18
+         **/
+        public String encode() {
+            String value = sortValue == null ? String.valueOf(id) : sortValue + ":" + id;
+
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 커서 문자열 -> 커서 변환 메소드 (커서가 없으면 null)
+         * @param cursor {@link String}
+         * @param sortType {@link DeveloperSortType}
+         * @return Cursor {@link Cursor}
+         * @author cyh68
+         * @since 2026-10-18
+         * @throws DMakerException
+         **/
+        public static Cursor decode(String cursor, @NonNull DeveloperSortType sortType) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                if (sortType.getSortAttribute() == null) {
+                    return new Cursor(null, Long.parseLong(value));
+                }
+
+                int separator = value.indexOf(':');
+                return new Cursor(Integer.parseInt(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+            }
+        }
+    }
+}
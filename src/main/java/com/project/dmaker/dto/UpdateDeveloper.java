@@ -28,7 +28,7 @@ public class UpdateDeveloper {
     @Builder
     @ToString
     public static class Request {
-        @NotNull
+        //개발자 레벨 (생략 시 경력 연차로 추론)
         private DeveloperLevel developerLevel;
         @NotNull
         private DeveloperSkillType developerSkillType;
@@ -11,6 +11,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_ID_ALLOCATION_SIZE;
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_MEMBER_ID_UNIQUE_CONSTRAINT;
+
 /**
  * 개발자 Entity
  * @author cyh68
@@ -23,12 +26,22 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "DEVELOPER")
+@Table(name = "DEVELOPER",
+        uniqueConstraints = @UniqueConstraint(name = DEVELOPER_MEMBER_ID_UNIQUE_CONSTRAINT, columnNames = "memberId"),
+        indexes = {
+                @Index(name = "idx_developer_status_code", columnList = "statusCode, id"),
+                @Index(name = "idx_developer_status_level", columnList = "statusCode, developerLevel, id"),
+                @Index(name = "idx_developer_status_skill_type", columnList = "statusCode, developerSkillType, id"),
+                @Index(name = "idx_developer_status_experience", columnList = "statusCode, experienceYears, id"),
+                @Index(name = "idx_developer_name", columnList = "name")
+        })
 public class Developer {
 
     //고유 ID
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_seq_generator")
+    @SequenceGenerator(name = "developer_seq_generator", sequenceName = "developer_seq",
+            allocationSize = DEVELOPER_ID_ALLOCATION_SIZE)
     protected Long id;
 
     //개발자 레벨
@@ -62,4 +75,8 @@ public class Developer {
     //마지막 변경 날짜
     @LastModifiedDate
     private LocalDateTime updateAt;
+
+    //낙관적 락 버전 (변경 시마다 증가, ETag/If-Match 값으로 사용)
+    @Version
+    private Long version;
 }
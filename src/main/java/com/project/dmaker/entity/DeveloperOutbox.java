@@ -0,0 +1,71 @@
+package com.project.dmaker.entity;
+
+import com.project.dmaker.code.DeveloperChangeType;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_OUTBOX_ID_ALLOCATION_SIZE;
+
+/**
+ * 개발자 변경 이벤트 outbox Entity
+ * <p>
+ *     개발자 변경과 같은 트랜잭션에서 저장되며, feedOffset 이 null 이면 아직 발행되지 않은 이벤트이다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "DEVELOPER_OUTBOX",
+        indexes = @Index(name = "uk_developer_outbox_feed_offset", columnList = "feedOffset", unique = true))
+public class DeveloperOutbox {
+
+    //고유 ID (이벤트 ID)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_outbox_seq_generator")
+    @SequenceGenerator(name = "developer_outbox_seq_generator", sequenceName = "developer_outbox_seq",
+            allocationSize = DEVELOPER_OUTBOX_ID_ALLOCATION_SIZE)
+    private Long id;
+
+    //고유 멤버 ID
+    @Column(nullable = false)
+    private String memberId;
+
+    //변경 유형
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeveloperChangeType changeType;
+
+    //변경 후 개발자 레벨
+    @Enumerated(EnumType.STRING)
+    private DeveloperLevel developerLevel;
+
+    //변경 후 개발자 직무 타입
+    @Enumerated(EnumType.STRING)
+    private DeveloperSkillType developerSkillType;
+
+    //변경 후 재직 상태
+    @Enumerated(EnumType.STRING)
+    private StatusCode statusCode;
+
+    @CreatedDate
+    private LocalDateTime createAt;
+
+    //change feed 순번 (발행 시 부여, 미발행이면 null)
+    private Long feedOffset;
+
+    //발행 일시
+    private LocalDateTime publishedAt;
+}
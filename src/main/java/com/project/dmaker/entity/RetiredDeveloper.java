@@ -23,13 +23,20 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "RETIRED_DEVELOPER")
+@Table(name = "RETIRED_DEVELOPER",
+        indexes = {
+                @Index(name = "uk_retired_developer_event_id", columnList = "eventId", unique = true),
+                @Index(name = "idx_retired_developer_member_id_create_at", columnList = "memberId, createAt")
+        })
 public class RetiredDeveloper {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     protected Long id;
+    //고유 멤버 ID (DEVELOPER.member_id 참조)
     private String memberId;
     private String name;
+    //비동기 저장 기록의 중복 저장 방지 키 (대량 퇴직 기록은 null)
+    private String eventId;
 
     @CreatedDate
     private LocalDateTime createAt;
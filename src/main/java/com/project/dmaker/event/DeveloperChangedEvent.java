@@ -0,0 +1,44 @@
+package com.project.dmaker.event;
+
+import com.project.dmaker.code.DeveloperChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 개발자 정보 변경 이벤트
+ * <p>
+ *     DMakerService 의 변경 트랜잭션 안에서 발행되며,
+ *     outbox 저장은 커밋 직전(BEFORE_COMMIT), 캐시 무효화, 헤드카운트 집계 등 후속 처리는 커밋 이후(AFTER_COMMIT)
+ *     리스너에서 수행한다.
+ *     previousStates / currentStates 는 memberIds 와 같은 순서의 변경 전 / 후 상태이다. (생성은 변경 전 상태 없음)
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@ToString
+@AllArgsConstructor
+public class DeveloperChangedEvent {
+    private final DeveloperChangeType changeType;
+    private final List<String> memberIds;
+    //변경 전 상태
+    private final List<DeveloperState> previousStates;
+    //변경 후 상태
+    private final List<DeveloperState> currentStates;
+
+    public static DeveloperChangedEvent of(DeveloperChangeType changeType, String memberId) {
+        return new DeveloperChangedEvent(changeType, Collections.singletonList(memberId),
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    public static DeveloperChangedEvent of(DeveloperChangeType changeType, String memberId,
+                                           DeveloperState previousState, DeveloperState currentState) {
+        return new DeveloperChangedEvent(changeType, Collections.singletonList(memberId),
+                previousState == null ? Collections.emptyList() : Collections.singletonList(previousState),
+                currentState == null ? Collections.emptyList() : Collections.singletonList(currentState));
+    }
+}
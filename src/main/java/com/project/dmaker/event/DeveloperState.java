@@ -0,0 +1,31 @@
+package com.project.dmaker.event;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 개발자 집계 기준 상태 (레벨 x 직무 타입 x 재직 상태)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class DeveloperState {
+    private final DeveloperLevel developerLevel;
+    private final DeveloperSkillType developerSkillType;
+    private final StatusCode statusCode;
+
+    public static DeveloperState of(@NonNull Developer developer) {
+        return new DeveloperState(developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                developer.getStatusCode());
+    }
+}
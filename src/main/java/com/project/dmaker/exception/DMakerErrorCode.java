@@ -16,7 +16,12 @@ public enum DMakerErrorCode {
     LEVEL_EXPERIENCE_YEARS_NOT_MATCHED("개발자 레발과 연차가 맞지 않습니다."),
     INTERNAL_SERVER_ERROR("서버에 오류가 발생했습니다"),
     INVALID_REQUEST("잘못된 요청입니다."),
-    NULL_VALUE("Null 값이 존재합니다.")
+    NULL_VALUE("Null 값이 존재합니다."),
+    DEVELOPER_VERSION_CONFLICT("다른 요청에 의해 개발자 정보가 변경되었습니다. 다시 조회 후 시도해주세요."),
+    RATE_LIMIT_EXCEEDED("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    CONCURRENCY_LIMIT_EXCEEDED("처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS("같은 Idempotency-Key 의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED("같은 Idempotency-Key 로 다른 요청 본문을 보냈습니다. 새 Idempotency-Key 를 사용해주세요.")
     ;
 
     private final String description;
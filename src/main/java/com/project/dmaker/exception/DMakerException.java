@@ -2,27 +2,52 @@ package com.project.dmaker.exception;
 
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * 커스텀 Exception 정의 클래스
+ * <p>
+ *     비지니스 에러는 응답/로그에 stack trace 를 사용하지 않으므로 stack trace 와 suppressed 를 기록하지 않는다.
+ *     상세 메시지가 에러 코드 설명과 같은 경우 {@link #of(DMakerErrorCode)} 로 미리 생성해 둔 인스턴스를 재사용한다.
+ * </p>
  * @author cyh68
  * @since 2023-05-08
  **/
 @Getter
 public class DMakerException extends RuntimeException{
+    //에러 코드별 미리 생성해 둔 Exception (상세 메시지 = 에러 코드 설명)
+    private static final Map<DMakerErrorCode, DMakerException> PREALLOCATED = new EnumMap<>(DMakerErrorCode.class);
+
+    static {
+        for (DMakerErrorCode errorCode : DMakerErrorCode.values()) {
+            PREALLOCATED.put(errorCode, new DMakerException(errorCode));
+        }
+    }
+
     //에러 코드
-    private DMakerErrorCode dMakerErrorCode;
+    private final DMakerErrorCode dMakerErrorCode;
     //에러 상세 메시지
-    private String detailMessage;
+    private final String detailMessage;
 
     public DMakerException(DMakerErrorCode errorCode) {
-        super(errorCode.getDescription());
-        this.dMakerErrorCode = errorCode;
-        this.detailMessage = errorCode.getDescription();
+        this(errorCode, errorCode.getDescription());
     }
 
     public DMakerException(DMakerErrorCode errorCode, String detailMessage) {
-        super(detailMessage);
+        super(detailMessage, null, false, false);
         this.dMakerErrorCode = errorCode;
         this.detailMessage = detailMessage;
     }
+
+    /**
+     * 에러 코드별 미리 생성해 둔 Exception 조회 (stack trace / cause 가 없어 여러 요청에서 공유해도 안전)
+     * @param errorCode {@link DMakerErrorCode}
+     * @return DMakerException {@link DMakerException}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static DMakerException of(DMakerErrorCode errorCode) {
+        return PREALLOCATED.get(errorCode);
+    }
 }
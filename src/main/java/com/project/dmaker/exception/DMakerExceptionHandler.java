@@ -1,15 +1,33 @@
 package com.project.dmaker.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.dmaker.dto.DMakerErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_MEMBER_ID_UNIQUE_CONSTRAINT;
 import static com.project.dmaker.exception.DMakerErrorCode.*;
 
 /**
@@ -21,26 +39,123 @@ import static com.project.dmaker.exception.DMakerErrorCode.*;
 @Slf4j
 @RestControllerAdvice
 public class DMakerExceptionHandler {
+    //에러 응답 수 지표 이름 (tag: errorCode)
+    public static final String ERROR_METRIC_NAME = "dmaker.errors";
+
+    //에러 코드별 Counter (요청마다 registry 조회 없이 사용하도록 미리 등록)
+    private final Map<DMakerErrorCode, Counter> errorCounters = new EnumMap<>(DMakerErrorCode.class);
+    //에러 코드별 미리 직렬화해 둔 응답 본문 (errorMessage = 에러 코드 설명)
+    private final Map<DMakerErrorCode, byte[]> errorBodies = new EnumMap<>(DMakerErrorCode.class);
+    //예상된 비지니스 에러 로그 샘플러
+    private final ErrorLogSampler errorLogSampler;
+
+    public DMakerExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry,
+                                  ObjectMapper objectMapper,
+                                  @Value("${dmaker.error-log.interval:PT1S}") Duration errorLogInterval) {
+        // MeterRegistry 가 없는 환경(@WebMvcTest 등)에서는 아무 registry 에도 기록되지 않는 global registry 사용
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        for (DMakerErrorCode errorCode : DMakerErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder(ERROR_METRIC_NAME)
+                    .description("DMakerErrorCode 별 에러 응답 수")
+                    .tag("errorCode", errorCode.name())
+                    .register(registry));
+            errorBodies.put(errorCode, serialize(objectMapper, errorCode));
+        }
+        this.errorLogSampler = new ErrorLogSampler(errorLogInterval.toNanos(), System::nanoTime);
+    }
 
     /**
      * DMakerException 예외 처리
+     * <p>
+     *     예상된 비지니스 에러이므로 WARN 으로 샘플링해 기록한다.
+     * </p>
      *
      * @param e       {@link DMakerException}
      * @param request {@link HttpServletRequest}
-     * @return DMakerErrorResponse {@link DMakerErrorResponse}
+     * @return ResponseEntity(DMakerErrorResponse) {@link DMakerErrorResponse}
      * @author cyh68
      * @since 2023-05-08
      **/
-    @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler(DMakerException.class)
-    public DMakerErrorResponse handleException(DMakerException e, HttpServletRequest request) {
-        log.error("errorCode: {}, url: {}, message: {}",
-                e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
-
-        return DMakerErrorResponse.builder()
-                .errorCode(e.getDMakerErrorCode())
-                .errorMessage(e.getDetailMessage())
-                .build();
+    public ResponseEntity<Object> handleException(DMakerException e, HttpServletRequest request) {
+        errorCounters.get(e.getDMakerErrorCode()).increment();
+        logSampled(e.getDMakerErrorCode(), request, e.getDetailMessage());
+
+        return errorResponse(HttpStatus.CONFLICT, e.getDMakerErrorCode(), e.getDetailMessage());
+    }
+
+    /**
+     * DMakerRateLimitException 예외 처리
+     * <p>
+     *     요청 수 / 동시 처리 수 제한 초과는 429 와 Retry-After(초) 로 응답한다.
+     *     과부하 상황에서 반복되므로 WARN 으로 샘플링해 기록한다.
+     * </p>
+     *
+     * @param e       {@link DMakerRateLimitException}
+     * @param request {@link HttpServletRequest}
+     * @return ResponseEntity(DMakerErrorResponse) {@link DMakerErrorResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @ExceptionHandler(DMakerRateLimitException.class)
+    public ResponseEntity<Object> handleRateLimit(DMakerRateLimitException e, HttpServletRequest request) {
+        errorCounters.get(e.getDMakerErrorCode()).increment();
+        logSampled(e.getDMakerErrorCode(), request, e.getDetailMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodies.get(e.getDMakerErrorCode()));
+    }
+
+    /**
+     * DataIntegrityViolationException 예외 처리
+     * <p>
+     *     DEVELOPER.member_id 유니크 제약조건 위반은 DUPLICATED_MEMBER_ID(409)로 변환하고,
+     *     그 외 제약조건 위반은 INTERNAL_SERVER_ERROR(500)로 처리한다.
+     * </p>
+     *
+     * @param e       {@link DataIntegrityViolationException}
+     * @param request {@link HttpServletRequest}
+     * @return ResponseEntity(DMakerErrorResponse) {@link DMakerErrorResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolation(
+            DataIntegrityViolationException e, HttpServletRequest request) {
+        if (isDuplicatedMemberId(e)) {
+            errorCounters.get(DUPLICATED_MEMBER_ID).increment();
+            logSampled(DUPLICATED_MEMBER_ID, request, DUPLICATED_MEMBER_ID.getDescription());
+
+            return errorResponse(HttpStatus.CONFLICT, DUPLICATED_MEMBER_ID);
+        }
+
+        errorCounters.get(INTERNAL_SERVER_ERROR).increment();
+        log.error("url : {}, message : {}", request.getRequestURI(), e.getMessage());
+
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * OptimisticLockingFailureException 예외 처리
+     * <p>
+     *     개발자 변경/삭제 재시도 횟수를 모두 소진한 낙관적 락 충돌은 DEVELOPER_VERSION_CONFLICT(409)로 처리한다.
+     * </p>
+     *
+     * @param e       {@link OptimisticLockingFailureException}
+     * @param request {@link HttpServletRequest}
+     * @return ResponseEntity(DMakerErrorResponse) {@link DMakerErrorResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException e, HttpServletRequest request) {
+        errorCounters.get(DEVELOPER_VERSION_CONFLICT).increment();
+        logSampled(DEVELOPER_VERSION_CONFLICT, request, e.getMessage());
+
+        return errorResponse(HttpStatus.CONFLICT, DEVELOPER_VERSION_CONFLICT);
     }
 
     /**
@@ -48,21 +163,17 @@ public class DMakerExceptionHandler {
      *
      * @param e       {@link Exception}
      * @param request {@link HttpServletRequest}
-     * @return DMakerErrorResponse {@link DMakerErrorResponse}
+     * @return ResponseEntity(DMakerErrorResponse) {@link DMakerErrorResponse}
      * @author cyh68
      * @since 2023-05-08
      **/
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler({HttpRequestMethodNotSupportedException.class
             , MethodArgumentNotValidException.class})
-    public DMakerErrorResponse handleBadRequest(Exception e, HttpServletRequest request) {
-
-        log.error("url : {}, message : {}", request.getRequestURI(), e.getMessage());
+    public ResponseEntity<Object> handleBadRequest(Exception e, HttpServletRequest request) {
+        errorCounters.get(INVALID_REQUEST).increment();
+        logSampled(INVALID_REQUEST, request, e.getMessage());
 
-        return DMakerErrorResponse.builder()
-                .errorCode(INVALID_REQUEST)
-                .errorMessage(INVALID_REQUEST.getDescription())
-                .build();
+        return errorResponse(HttpStatus.BAD_REQUEST, INVALID_REQUEST);
     }
 
     /**
@@ -70,21 +181,106 @@ public class DMakerExceptionHandler {
      *
      * @param e       {@link Exception}
      * @param request {@link HttpServletRequest}
-     * @return DMakerErrorResponse {@link DMakerErrorResponse}
+     * @return ResponseEntity(DMakerErrorResponse) {@link DMakerErrorResponse}
      * @author cyh68
      * @since 2023-05-08
      **/
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
-    public DMakerErrorResponse handleException(Exception e, HttpServletRequest request) {
-
+    public ResponseEntity<Object> handleException(Exception e, HttpServletRequest request) {
+        errorCounters.get(INTERNAL_SERVER_ERROR).increment();
         log.error("url : {}, message : {}", request.getRequestURI(), e.getMessage());
 
-        return DMakerErrorResponse.builder()
-                .errorCode(INTERNAL_SERVER_ERROR)
-                .errorMessage(INTERNAL_SERVER_ERROR.getDescription())
-                .build();
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * 에러 코드 설명을 메시지로 하는 에러 응답 (미리 직렬화해 둔 본문 사용)
+     * @param status {@link HttpStatus}
+     * @param errorCode {@link DMakerErrorCode}
+     * @return ResponseEntity(DMakerErrorResponse) {@link DMakerErrorResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private ResponseEntity<Object> errorResponse(HttpStatus status, DMakerErrorCode errorCode) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodies.get(errorCode));
     }
 
+    /**
+     * 에러 응답 (상세 메시지가 에러 코드 설명과 다를 때만 DMakerErrorResponse 를 직렬화)
+     * @param status {@link HttpStatus}
+     * @param errorCode {@link DMakerErrorCode}
+     * @param errorMessage {@link String}
+     * @return ResponseEntity(DMakerErrorResponse) {@link DMakerErrorResponse}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private ResponseEntity<Object> errorResponse(HttpStatus status, DMakerErrorCode errorCode, String errorMessage) {
+        if (errorCode.getDescription().equals(errorMessage)) {
+            return errorResponse(status, errorCode);
+        }
+
+        return ResponseEntity.status(status)
+                .body(DMakerErrorResponse.builder()
+                        .errorCode(errorCode)
+                        .errorMessage(errorMessage)
+                        .build());
+    }
 
+    /**
+     * 예상된 비지니스 에러 WARN 로그 (에러 코드별 interval 마다 한 건, 생략된 건수 포함)
+     * @param errorCode {@link DMakerErrorCode}
+     * @param request {@link HttpServletRequest}
+     * @param message {@link String}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private void logSampled(DMakerErrorCode errorCode, HttpServletRequest request, String message) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+
+        long suppressed = errorLogSampler.tryAcquire(errorCode);
+        if (suppressed >= 0) {
+            log.warn("errorCode: {}, url: {}, message: {}, suppressed: {}",
+                    errorCode, request.getRequestURI(), message, suppressed);
+        }
+    }
+
+    /**
+     * 에러 코드 설명을 메시지로 하는 에러 응답 본문 직렬화
+     * @param objectMapper {@link ObjectMapper}
+     * @param errorCode {@link DMakerErrorCode}
+     * @return byte[]
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static byte[] serialize(ObjectMapper objectMapper, DMakerErrorCode errorCode) {
+        try {
+            return objectMapper.writeValueAsBytes(DMakerErrorResponse.builder()
+                    .errorCode(errorCode)
+                    .errorMessage(errorCode.getDescription())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 본문을 직렬화할 수 없습니다. (" + errorCode + ")", e);
+        }
+    }
+
+    /**
+     * memberId 유니크 제약조건 위반 여부 확인
+     * @param e {@link DataIntegrityViolationException}
+     * @return boolean
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static boolean isDuplicatedMemberId(DataIntegrityViolationException e) {
+        // DB마다 제약조건 이름 형식이 달라(H2: PUBLIC.UK_..._INDEX_x ON ...) 포함 여부로 판별
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : e.getMostSpecificCause().getMessage();
+
+        return constraintName != null && constraintName.toLowerCase(Locale.ROOT)
+                .contains(DEVELOPER_MEMBER_ID_UNIQUE_CONSTRAINT);
+    }
 }
@@ -0,0 +1,19 @@
+package com.project.dmaker.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 수 / 동시 처리 수 제한 초과 Exception (429, Retry-After)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+public class DMakerRateLimitException extends DMakerException {
+    //재시도까지 대기할 시간(초)
+    private final long retryAfterSeconds;
+
+    public DMakerRateLimitException(DMakerErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.dmaker.exception;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 예상된 비지니스 에러 로그 샘플러
+ * <p>
+ *     에러 코드별로 interval 마다 한 건만 기록하고, 나머지는 건수만 누적해 다음 기록에 함께 남긴다.
+ *     전체 에러 수는 dmaker.errors Counter 로 집계되므로 로그는 샘플로 충분하다.
+ *     기록하지 않는 경우에는 메모리를 할당하지 않는다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class ErrorLogSampler {
+    //에러 코드별 로그 기록 구간
+    private final Map<DMakerErrorCode, Window> windows = new EnumMap<>(DMakerErrorCode.class);
+    //로그 기록 간격 (nanos)
+    private final long intervalNanos;
+    //nanoTime 공급자 (테스트에서 교체)
+    private final LongSupplier nanoClock;
+
+    public ErrorLogSampler(long intervalNanos, LongSupplier nanoClock) {
+        this.intervalNanos = intervalNanos;
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        for (DMakerErrorCode errorCode : DMakerErrorCode.values()) {
+            windows.put(errorCode, new Window(now));
+        }
+    }
+
+    /**
+     * 로그 기록 여부 확인
+     * @param errorCode {@link DMakerErrorCode}
+     * @return long 기록해야 하면 직전 기록 이후 생략된 건수(0 이상), 생략해야 하면 -1
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public long tryAcquire(DMakerErrorCode errorCode) {
+        Window window = windows.get(errorCode);
+        long now = nanoClock.getAsLong();
+        long nextLogAt = window.nextLogAt.get();
+        // nanoTime 은 음수 / overflow 가 가능하므로 차이로 비교
+        if (now - nextLogAt < 0 || !window.nextLogAt.compareAndSet(nextLogAt, now + intervalNanos)) {
+            window.suppressed.increment();
+            return -1;
+        }
+
+        return window.suppressed.sumThenReset();
+    }
+
+    /**
+     * 에러 코드별 다음 기록 가능 시각 / 생략 건수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static final class Window {
+        //다음 로그 기록 가능 시각 (nanos)
+        private final AtomicLong nextLogAt;
+        //직전 기록 이후 생략된 건수
+        private final LongAdder suppressed = new LongAdder();
+
+        private Window(long nextLogAt) {
+            this.nextLogAt = new AtomicLong(nextLogAt);
+        }
+    }
+}
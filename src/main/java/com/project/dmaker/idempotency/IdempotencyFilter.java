@@ -0,0 +1,214 @@
+package com.project.dmaker.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.dmaker.dto.DMakerErrorResponse;
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.util.ClientKeys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Idempotency-Key 요청의 응답 저장 및 재전송 Filter
+ * <p>
+ *     Idempotency-Key header 가 있는 POST / DELETE 요청의 성공(2xx) 응답을 (client, method, URI, key) 기준으로
+ *     요청 본문의 SHA-256 과 함께 저장하고, 같은 client 가 같은 key / 본문으로 다시 요청하면
+ *     컨트롤러와 트랜잭션을 실행하지 않고 저장된 응답을 그대로 보낸다. (Idempotent-Replayed: true)
+ *     client 는 {@link ClientKeys} 로 식별하므로 다른 client 가 같은 key 를 사용해도 서로의 응답이 재전송되지 않으며,
+ *     같은 key 를 다른 요청 본문에 재사용하면 실행하지 않고 422 로 응답한다.
+ *     실패 응답은 저장하지 않으므로 재시도 시 다시 실행되며, 같은 key 의 요청이 처리 중이면 409 로 응답한다.
+ *     저장소는 인스턴스 메모리(Caffeine, 최대 건수 + 저장 후 만료)이므로 다른 인스턴스로 간 재시도는 재전송되지 않는다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("POST", "DELETE");
+
+    private final ObjectMapper objectMapper;
+    //(client, method, URI, key) -> 요청 본문 hash 와 응답
+    private final ConcurrentMap<String, Entry> responses;
+
+    public IdempotencyFilter(ObjectMapper objectMapper, long maximumSize, Duration expireAfterWrite) {
+        this.objectMapper = objectMapper;
+        Cache<String, Entry> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.responses = cache.asMap();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null || !IDEMPOTENT_METHODS.contains(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, DMakerErrorCode.INVALID_REQUEST);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = ClientKeys.of(request) + ' ' + request.getMethod() + ' ' + request.getRequestURI()
+                + ' ' + idempotencyKey;
+        Entry created = new Entry(sha256(cachedRequest.body), new CompletableFuture<>());
+        Entry existing = responses.putIfAbsent(key, created);
+        if (existing != null) {
+            if (!MessageDigest.isEqual(existing.requestHash, created.requestHash)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, DMakerErrorCode.IDEMPOTENCY_KEY_REUSED);
+            } else if (!existing.response.isDone() || existing.response.join() == null) {
+                // 처리 중이거나, 실패해서 저장소에서 제거되는 중인 요청
+                writeError(response, HttpStatus.CONFLICT, DMakerErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            } else {
+                replay(existing.response.join(), response);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        IdempotentResponse stored = null;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+            if (HttpStatus.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+                stored = new IdempotentResponse(responseWrapper.getStatus(), responseWrapper.getContentType(),
+                        responseWrapper.getHeader(HttpHeaders.ETAG), responseWrapper.getContentAsByteArray());
+            }
+        } finally {
+            if (stored == null) {
+                responses.remove(key, created);
+            }
+            created.response.complete(stored);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getETag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.getETag());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, DMakerErrorCode errorCode)
+            throws IOException {
+        log.warn("errorCode: {}, status: {}", errorCode, status.value());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), DMakerErrorResponse.builder()
+                .errorCode(errorCode)
+                .errorMessage(errorCode.getDescription())
+                .build());
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 저장된 요청 본문 hash 와 응답 (처리 중이면 완료되지 않은 future)
+     **/
+    private static final class Entry {
+        private final byte[] requestHash;
+        private final CompletableFuture<IdempotentResponse> response;
+
+        private Entry(byte[] requestHash, CompletableFuture<IdempotentResponse> response) {
+            this.requestHash = requestHash;
+            this.response = response;
+        }
+    }
+
+    /**
+     * hash 계산을 위해 미리 읽은 요청 본문을 컨트롤러에 다시 제공하는 요청
+     **/
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            String encoding = getCharacterEncoding();
+
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8.name() : encoding));
+        }
+    }
+}
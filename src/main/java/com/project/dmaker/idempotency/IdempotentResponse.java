@@ -0,0 +1,18 @@
+package com.project.dmaker.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Idempotency-Key 요청의 저장된 응답 (상태 코드, Content-Type, ETag, 본문)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@AllArgsConstructor
+public class IdempotentResponse {
+    private final int status;
+    private final String contentType;
+    private final String eTag;
+    private final byte[] body;
+}
@@ -0,0 +1,33 @@
+package com.project.dmaker.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.project.dmaker.dto.CreateDeveloper;
+
+import java.io.IOException;
+
+import static com.project.dmaker.json.DeveloperJsonFields.*;
+
+/**
+ * {@link CreateDeveloper.Response} 직렬화
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class CreateDeveloperResponseSerializer extends StdSerializer<CreateDeveloper.Response> {
+
+    CreateDeveloperResponseSerializer() {
+        super(CreateDeveloper.Response.class);
+    }
+
+    @Override
+    public void serialize(CreateDeveloper.Response value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        writeEnum(gen, DEVELOPER_LEVEL, DEVELOPER_LEVELS, value.getDeveloperLevel());
+        writeEnum(gen, DEVELOPER_SKILL_TYPE, DEVELOPER_SKILL_TYPES, value.getDeveloperSkillType());
+        writeNumber(gen, EXPERIENCE_YEARS, value.getExperienceYears());
+        writeString(gen, MEMBER_ID, value.getMemberId());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.dmaker.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.project.dmaker.dto.DeveloperDetailDto;
+
+import java.io.IOException;
+
+import static com.project.dmaker.json.DeveloperJsonFields.*;
+
+/**
+ * {@link DeveloperDetailDto} 직렬화 (version 제외와 동일한 출력)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class DeveloperDetailDtoSerializer extends StdSerializer<DeveloperDetailDto> {
+
+    DeveloperDetailDtoSerializer() {
+        super(DeveloperDetailDto.class);
+    }
+
+    @Override
+    public void serialize(DeveloperDetailDto value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(value);
+        writeEnum(gen, DEVELOPER_LEVEL, DEVELOPER_LEVELS, value.getDeveloperLevel());
+        writeEnum(gen, DEVELOPER_SKILL_TYPE, DEVELOPER_SKILL_TYPES, value.getDeveloperSkillType());
+        writeNumber(gen, EXPERIENCE_YEARS, value.getExperienceYears());
+        writeEnum(gen, STATUS_CODE, STATUS_CODES, value.getStatusCode());
+        writeString(gen, MEMBER_ID, value.getMemberId());
+        writeString(gen, NAME, value.getName());
+        writeNumber(gen, AGE, value.getAge());
+        gen.writeEndObject();
+    }
+}
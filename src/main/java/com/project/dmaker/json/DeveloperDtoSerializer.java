@@ -0,0 +1,37 @@
+package com.project.dmaker.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.project.dmaker.dto.DeveloperDto;
+
+import java.io.IOException;
+
+import static com.project.dmaker.json.DeveloperJsonFields.*;
+
+/**
+ * {@link DeveloperDto} 직렬화 (@JsonInclude(NON_NULL), id 제외와 동일한 출력)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class DeveloperDtoSerializer extends StdSerializer<DeveloperDto> {
+
+    DeveloperDtoSerializer() {
+        super(DeveloperDto.class);
+    }
+
+    @Override
+    public void serialize(DeveloperDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        if (value.getDeveloperLevel() != null) {
+            writeEnum(gen, DEVELOPER_LEVEL, DEVELOPER_LEVELS, value.getDeveloperLevel());
+        }
+        if (value.getDeveloperSkillType() != null) {
+            writeEnum(gen, DEVELOPER_SKILL_TYPE, DEVELOPER_SKILL_TYPES, value.getDeveloperSkillType());
+        }
+        if (value.getMemberId() != null) {
+            writeString(gen, MEMBER_ID, value.getMemberId());
+        }
+        gen.writeEndObject();
+    }
+}
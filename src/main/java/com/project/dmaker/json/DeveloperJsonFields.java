@@ -0,0 +1,62 @@
+package com.project.dmaker.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+
+import java.io.IOException;
+
+/**
+ * 개발자 DTO 직렬화에 공통으로 쓰는 필드 이름 / enum 값 및 출력 메소드
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+final class DeveloperJsonFields {
+    static final SerializedString DEVELOPER_LEVEL = new SerializedString("developerLevel");
+    static final SerializedString DEVELOPER_SKILL_TYPE = new SerializedString("developerSkillType");
+    static final SerializedString EXPERIENCE_YEARS = new SerializedString("experienceYears");
+    static final SerializedString STATUS_CODE = new SerializedString("statusCode");
+    static final SerializedString MEMBER_ID = new SerializedString("memberId");
+    static final SerializedString NAME = new SerializedString("name");
+    static final SerializedString AGE = new SerializedString("age");
+
+    static final SerializedEnumNames<DeveloperLevel> DEVELOPER_LEVELS = SerializedEnumNames.of(DeveloperLevel.class);
+    static final SerializedEnumNames<DeveloperSkillType> DEVELOPER_SKILL_TYPES =
+            SerializedEnumNames.of(DeveloperSkillType.class);
+    static final SerializedEnumNames<StatusCode> STATUS_CODES = SerializedEnumNames.of(StatusCode.class);
+
+    private DeveloperJsonFields() {
+    }
+
+    //null 이면 null 로 출력
+    static void writeString(JsonGenerator gen, SerializableString fieldName, String value) throws IOException {
+        gen.writeFieldName(fieldName);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    static void writeNumber(JsonGenerator gen, SerializableString fieldName, Integer value) throws IOException {
+        gen.writeFieldName(fieldName);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    static <E extends Enum<E>> void writeEnum(JsonGenerator gen, SerializableString fieldName,
+                                              SerializedEnumNames<E> names, E value) throws IOException {
+        gen.writeFieldName(fieldName);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(names.get(value));
+        }
+    }
+}
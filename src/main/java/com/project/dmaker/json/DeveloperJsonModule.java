@@ -0,0 +1,30 @@
+package com.project.dmaker.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * 개발자 응답 DTO 직렬화 Jackson Module
+ * <p>
+ *     대량 리스트 응답에서 reflection 기반 BeanSerializer 대신 필드를 직접 출력하는 serializer 를 사용한다.
+ *     필드 이름과 enum 값은 미리 인코딩한 {@link com.fasterxml.jackson.core.io.SerializedString} 을 그대로 쓴다.
+ *     Module Bean 은 Spring Boot 의 ObjectMapper 에 자동 등록되며, HTTP 응답은 기존처럼 응답 스트림에 바로 출력된다.
+ *     출력은 DTO 의 Jackson 어노테이션(@JsonInclude, @JsonIgnore) 기준 기존 출력과 같아야 하므로,
+ *     DTO 필드를 변경하면 serializer 도 함께 변경해야 한다. (DeveloperJsonModuleTest 로 확인)
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Component
+public class DeveloperJsonModule extends SimpleModule {
+
+    public DeveloperJsonModule() {
+        super(DeveloperJsonModule.class.getSimpleName());
+        addSerializer(DeveloperDto.class, new DeveloperDtoSerializer());
+        addSerializer(DeveloperDetailDto.class, new DeveloperDetailDtoSerializer());
+        addSerializer(CreateDeveloper.Response.class, new CreateDeveloperResponseSerializer());
+    }
+}
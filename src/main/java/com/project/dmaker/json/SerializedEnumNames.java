@@ -0,0 +1,33 @@
+package com.project.dmaker.json;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * enum 상수별 미리 인코딩한 JSON 문자열 (ordinal 로 인덱싱)
+ * <p>
+ *     상수 이름을 한 번만 인코딩해 두고 {@link com.fasterxml.jackson.core.JsonGenerator#writeString(com.fasterxml.jackson.core.SerializableString)}
+ *     로 그대로 출력하므로 매번 이름 조회 / 문자 escape 를 하지 않는다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+final class SerializedEnumNames<E extends Enum<E>> {
+
+    private final SerializedString[] names;
+
+    private SerializedEnumNames(Class<E> enumClass) {
+        E[] constants = enumClass.getEnumConstants();
+        this.names = new SerializedString[constants.length];
+        for (E constant : constants) {
+            names[constant.ordinal()] = new SerializedString(constant.name());
+        }
+    }
+
+    static <E extends Enum<E>> SerializedEnumNames<E> of(Class<E> enumClass) {
+        return new SerializedEnumNames<>(enumClass);
+    }
+
+    SerializedString get(E constant) {
+        return names[constant.ordinal()];
+    }
+}
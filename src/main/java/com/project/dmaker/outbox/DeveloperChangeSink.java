@@ -0,0 +1,26 @@
+package com.project.dmaker.outbox;
+
+import com.project.dmaker.dto.DeveloperChange;
+
+import java.util.List;
+
+/**
+ * 개발자 변경 이벤트 발행 대상
+ * <p>
+ *     {@link DeveloperOutboxRelay}가 feed offset 순서대로 batch 단위로 호출한다.
+ *     발행 후 outbox 커밋이 실패하면 같은 이벤트가 다시 발행될 수 있으므로(at-least-once)
+ *     구현체 / 소비자는 eventId 로 중복을 제거해야 한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public interface DeveloperChangeSink {
+
+    /**
+     * 변경 이벤트 발행 (예외를 던지면 해당 batch 는 미발행으로 남아 다음 relay 에서 다시 발행)
+     * @param changes {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    void publish(List<DeveloperChange> changes);
+}
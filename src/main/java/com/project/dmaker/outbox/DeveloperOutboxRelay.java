@@ -0,0 +1,99 @@
+package com.project.dmaker.outbox;
+
+import com.project.dmaker.dto.DeveloperChange;
+import com.project.dmaker.entity.DeveloperOutbox;
+import com.project.dmaker.repository.DeveloperOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 개발자 변경 이벤트 outbox relay
+ * <p>
+ *     dmaker.outbox.relay-interval 주기로 미발행 outbox 를 batch-size 단위로 읽어
+ *     feed offset 을 순서대로 부여하고 {@link DeveloperChangeSink}로 발행한다.
+ *     offset 부여와 발행은 한 트랜잭션에서 처리하며, 발행이나 커밋이 실패하면 롤백되어 다음 주기에 다시 발행한다.
+ *     여러 인스턴스가 동시에 relay 하면 feed_offset 유니크 제약조건으로 한쪽만 커밋된다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+@Component
+public class DeveloperOutboxRelay {
+    private final DeveloperOutboxRepository developerOutboxRepository;
+    private final DeveloperChangeSink developerChangeSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public DeveloperOutboxRelay(DeveloperOutboxRepository developerOutboxRepository,
+                                DeveloperChangeSink developerChangeSink,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${dmaker.outbox.batch-size:100}") int batchSize) {
+        this.developerOutboxRepository = developerOutboxRepository;
+        this.developerChangeSink = developerChangeSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 미발행 outbox 가 남지 않을 때까지 batch 단위 발행
+     * @return int 발행한 이벤트 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Scheduled(fixedDelayString = "${dmaker.outbox.relay-interval:PT1S}",
+            initialDelayString = "${dmaker.outbox.relay-interval:PT1S}")
+    public int relay() {
+        int published = 0;
+        try {
+            int count;
+            do {
+                count = relayBatch();
+                published += count;
+            } while (count == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("developer outbox relay failed (published: {})", published, e);
+        }
+
+        return published;
+    }
+
+    /**
+     * 미발행 outbox 1 batch 발행
+     * @return int 발행한 이벤트 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<DeveloperOutbox> outboxes =
+                    developerOutboxRepository.findByFeedOffsetIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (outboxes.isEmpty()) {
+                return 0;
+            }
+
+            long offset = developerOutboxRepository.findMaxFeedOffset();
+            LocalDateTime publishedAt = LocalDateTime.now();
+            List<DeveloperChange> changes = new ArrayList<>(outboxes.size());
+            for (DeveloperOutbox outbox : outboxes) {
+                outbox.setFeedOffset(++offset);
+                outbox.setPublishedAt(publishedAt);
+                changes.add(DeveloperChange.fromEntity(outbox));
+            }
+
+            developerChangeSink.publish(changes);
+            return outboxes.size();
+        });
+
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.dmaker.outbox;
+
+import com.project.dmaker.entity.DeveloperOutbox;
+import com.project.dmaker.event.DeveloperChangedEvent;
+import com.project.dmaker.event.DeveloperState;
+import com.project.dmaker.repository.DeveloperOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 개발자 변경 이벤트 outbox 저장
+ * <p>
+ *     커밋 직전(BEFORE_COMMIT)에 변경 트랜잭션 안에서 저장하므로 개발자 변경과 outbox 는 함께 커밋 / 롤백된다.
+ *     (id 는 sequence 로 할당하므로 커밋 시 flush 에서 JDBC batch INSERT 1회)
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Component
+@RequiredArgsConstructor
+public class DeveloperOutboxWriter {
+    private final DeveloperOutboxRepository developerOutboxRepository;
+
+    /**
+     * 변경된 개발자마다 outbox 저장
+     * @param event {@link DeveloperChangedEvent}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        List<String> memberIds = event.getMemberIds();
+        List<DeveloperState> currentStates = event.getCurrentStates();
+        List<DeveloperOutbox> outboxes = new ArrayList<>(memberIds.size());
+
+        for (int i = 0; i < memberIds.size(); i++) {
+            DeveloperState state = i < currentStates.size() ? currentStates.get(i) : null;
+            outboxes.add(DeveloperOutbox.builder()
+                    .memberId(memberIds.get(i))
+                    .changeType(event.getChangeType())
+                    .developerLevel(state == null ? null : state.getDeveloperLevel())
+                    .developerSkillType(state == null ? null : state.getDeveloperSkillType())
+                    .statusCode(state == null ? null : state.getStatusCode())
+                    .build());
+        }
+
+        developerOutboxRepository.saveAll(outboxes);
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.dmaker.outbox;
+
+import com.project.dmaker.dto.DeveloperChange;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 최근 변경 이벤트를 메모리에 보관하는 sink (다른 sink Bean 이 없을 때의 기본값, 테스트용)
+ * <p>
+ *     capacity 를 넘으면 오래된 이벤트부터 버린다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class InMemoryDeveloperChangeSink implements DeveloperChangeSink {
+    private final int capacity;
+    private final Deque<DeveloperChange> changes = new ArrayDeque<>();
+
+    public InMemoryDeveloperChangeSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<DeveloperChange> changes) {
+        for (DeveloperChange change : changes) {
+            if (this.changes.size() >= capacity) {
+                this.changes.pollFirst();
+            }
+            this.changes.addLast(change);
+        }
+    }
+
+    /**
+     * 보관 중인 변경 이벤트 조회 (발행 순서)
+     * @return List(DeveloperChange) {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public synchronized List<DeveloperChange> getChanges() {
+        return new ArrayList<>(changes);
+    }
+}
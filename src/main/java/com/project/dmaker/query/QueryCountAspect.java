@@ -0,0 +1,44 @@
+package com.project.dmaker.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * @Transactional 서비스 메소드 단위 SQL 실행 수 집계 Aspect
+ * <p>
+ *     트랜잭션/재시도 advice 보다 바깥에서 동작하므로 커밋 시점의 flush 와 재시도 횟수까지 포함해 집계하며,
+ *     budget 을 넘으면 경고 로그를 남긴다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountAspect {
+
+    private final long transactionBudget;
+
+    public QueryCountAspect(long transactionBudget) {
+        this.transactionBudget = transactionBudget;
+    }
+
+    @Around("within(com.project.dmaker.service..*) && " +
+            "@annotation(org.springframework.transaction.annotation.Transactional)")
+    public Object countQueries(ProceedingJoinPoint joinPoint) throws Throwable {
+        long before = QueryCounter.currentCount();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long count = QueryCounter.currentCount() - before;
+            if (count > transactionBudget) {
+                log.warn("SQL budget exceeded - {} executed {} statements (budget: {})",
+                        joinPoint.getSignature().toShortString(), count, transactionBudget);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.dmaker.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 단위 SQL 실행 수 집계 Filter
+ * <p>
+ *     요청 처리 중 실행된 SQL 수가 budget 을 넘으면 경고 로그를 남긴다.
+ *     (StreamingResponseBody 등 비동기 처리 스레드에서 실행된 SQL 은 포함되지 않는다.)
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final long requestBudget;
+
+    public QueryCountFilter(long requestBudget) {
+        this.requestBudget = requestBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long before = QueryCounter.currentCount();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long count = QueryCounter.currentCount() - before;
+            if (count > requestBudget) {
+                log.warn("SQL budget exceeded - {} {} executed {} statements (budget: {})",
+                        request.getMethod(), request.getRequestURI(), count, requestBudget);
+            }
+        }
+    }
+}
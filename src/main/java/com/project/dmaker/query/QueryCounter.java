@@ -0,0 +1,30 @@
+package com.project.dmaker.query;
+
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수 조회 유틸 클래스
+ * <p>
+ *     datasource-proxy 가 스레드별로 누적한 실행 수(DB round-trip, batch 는 1회)를 읽는다.
+ *     요청 / 트랜잭션 단위 집계는 시작 시점 값과의 차이로 계산하므로 중첩되어도 서로 영향을 주지 않는다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class QueryCounter {
+    //datasource-proxy 에 등록하는 DataSource 이름
+    public static final String DATA_SOURCE_NAME = "dmaker";
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 실행된 SQL 수
+     * @return long
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static long currentCount() {
+        return QueryCountHolder.getGrandTotal().getTotal();
+    }
+}
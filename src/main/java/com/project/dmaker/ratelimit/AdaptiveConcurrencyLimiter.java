@@ -0,0 +1,128 @@
+package com.project.dmaker.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 응답 지연에 따라 한도를 조정하는 전역 동시 처리 수 제한
+ * <p>
+ *     window 마다 평균 처리 시간을 기준 처리 시간(지금까지의 최소 평균, window 마다 평균 쪽으로 조금씩 이동)과 비교해
+ *     tolerance 배를 넘으면 한도를 줄이고(x0.9), 지연이 정상이면서 한도까지 사용했으면 1 늘린다. (AIMD)
+ *     처리 중 수는 CAS, 처리 시간 집계는 LongAdder 로 누적하며, window 정산은 window 를 넘긴 첫 스레드만 수행한다.
+ *     (정산 중 함께 완료된 요청은 다음 window 에 포함될 수 있다.)
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    //정산에 필요한 window 최소 완료 수 (요청이 적으면 한도를 조정하지 않음)
+    static final int MIN_WINDOW_SAMPLES = 10;
+    private static final double BACKOFF_RATIO = 0.9;
+    //기준 처리 시간이 window 평균 쪽으로 이동하는 비율 (1/n)
+    private static final int BASELINE_DRIFT = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicLong windowStart;
+    private volatile int limit;
+    //기준 처리 시간 (0 이면 아직 측정 전)
+    private volatile long baselineLatencyNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyTolerance,
+                                      long windowNanos, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("1 <= minLimit <= initialLimit <= maxLimit 이어야 합니다.");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.windowNanos = windowNanos;
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 처리 시작 (한도에 도달했으면 false)
+     * @return boolean
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 완료 (tryAcquire 가 true 인 요청마다 한 번 호출)
+     * @param latencyNanos 처리 시간
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(latencyNanos);
+        windowSamples.increment();
+
+        long start = windowStart.get();
+        if (nanoClock.getAsLong() - start >= windowNanos && windowStart.compareAndSet(start, nanoClock.getAsLong())) {
+            adjust();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void adjust() {
+        long samples = windowSamples.sumThenReset();
+        long latencySum = windowLatencyNanos.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        if (samples < MIN_WINDOW_SAMPLES) {
+            return;
+        }
+
+        long average = latencySum / samples;
+        long baseline = baselineLatencyNanos;
+        baseline = baseline == 0 || average < baseline ? average : baseline + (average - baseline) / BASELINE_DRIFT;
+        baselineLatencyNanos = baseline;
+
+        int current = limit;
+        int next = current;
+        if (average > baseline * latencyTolerance) {
+            next = Math.max(minLimit, (int) (current * BACKOFF_RATIO));
+        } else if (maxInFlight >= current) {
+            next = Math.min(maxLimit, current + 1);
+        }
+        if (next != current) {
+            limit = next;
+            log.debug("write concurrency limit {} -> {} (latency: {}us, baseline: {}us)",
+                    current, next, average / 1000, baseline / 1000);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.dmaker.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * client 별 token bucket 요청 수 제한
+ * <p>
+ *     token bucket 과 같은 동작을 GCRA(다음 요청의 이론상 도착 시각, TAT) 하나로 표현해
+ *     client 마다 AtomicLong 하나를 CAS 로만 갱신한다. (lock 없음)
+ *     client 별 상태는 Caffeine 캐시(내부적으로 분할된 ConcurrentHashMap)에 두며,
+ *     bucket 이 가득 찰 만큼 요청이 없던 client 는 만료시켜 메모리를 제한한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class ClientRateLimiter {
+
+    //token 1개가 채워지는 시간
+    private final long emissionIntervalNanos;
+    //연속 허용 요청 수(burst) 만큼 TAT 가 현재 시각보다 앞설 수 있는 시간
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> theoreticalArrivalTimes;
+
+    public ClientRateLimiter(double permitsPerSecond, int burst, long maxClients, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond 는 0 보다, burst 는 1 이상이어야 합니다.");
+        }
+        this.emissionIntervalNanos = (long) (Duration.ofSeconds(1).toNanos() / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.theoreticalArrivalTimes = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(emissionIntervalNanos + burstToleranceNanos))
+                .build();
+    }
+
+    /**
+     * token 1개 사용 시도
+     * @param clientKey {@link String}
+     * @return long 허용되면 0, 제한되면 다음 token 까지 남은 시간 (nanos)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public long tryAcquire(String clientKey) {
+        long start = nanoClock.getAsLong();
+        AtomicLong tat = theoreticalArrivalTimes.get(clientKey, key -> new AtomicLong(start));
+        long now = start;
+        while (true) {
+            long current = tat.get();
+            //TAT 가 지났으면 bucket 이 가득 찬 상태 (nanoTime 은 overflow 를 고려해 차이로 비교)
+            long base = current - now < 0 ? now : current;
+            long waitNanos = base - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, base + emissionIntervalNanos)) {
+                return 0;
+            }
+            now = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * tryAcquire 로 사용한 token 1개 반환 (이후 단계에서 요청이 처리되지 않고 거절된 경우)
+     * @param clientKey {@link String}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public void refund(String clientKey) {
+        AtomicLong tat = theoreticalArrivalTimes.getIfPresent(clientKey);
+        if (tat != null) {
+            tat.addAndGet(-emissionIntervalNanos);
+        }
+    }
+}
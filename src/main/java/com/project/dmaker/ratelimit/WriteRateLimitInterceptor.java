@@ -0,0 +1,77 @@
+package com.project.dmaker.ratelimit;
+
+import com.project.dmaker.exception.DMakerRateLimitException;
+import com.project.dmaker.util.ClientKeys;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static com.project.dmaker.exception.DMakerErrorCode.CONCURRENCY_LIMIT_EXCEEDED;
+import static com.project.dmaker.exception.DMakerErrorCode.RATE_LIMIT_EXCEEDED;
+
+/**
+ * 쓰기 요청(GET/HEAD/OPTIONS 외) 요청 수 / 동시 처리 수 제한 Interceptor
+ * <p>
+ *     client(인증된 사용자, 없으면 접속 IP) 별 token bucket 과 전역 동시 처리 수 한도를 넘은 쓰기 요청은
+ *     컨트롤러 호출 전에 {@link DMakerRateLimitException} 으로 거절하며, DMakerExceptionHandler 가 429 + Retry-After 로 응답한다.
+ *     조회 요청은 제한하지 않으므로 쓰기 요청이 몰려도 커넥션 풀을 조회 요청에 남겨둘 수 있다.
+ *     client 식별은 {@link ClientKeys} 를 따른다. (client 가 보내는 header 값은 사용하지 않음)
+ *     동시 처리 수 한도로 거절된 요청은 처리되지 않았으므로 사용한 token 을 client 에게 돌려준다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class WriteRateLimitInterceptor implements HandlerInterceptor {
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final String START_NANOS_ATTRIBUTE = WriteRateLimitInterceptor.class.getName() + ".START_NANOS";
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final long concurrencyRetryAfterSeconds;
+
+    public WriteRateLimitInterceptor(ClientRateLimiter clientRateLimiter,
+                                     AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                     Duration concurrencyRetryAfter) {
+        this.clientRateLimiter = clientRateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.concurrencyRetryAfterSeconds = Math.max(1, concurrencyRetryAfter.toSeconds());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (READ_METHODS.contains(request.getMethod())) {
+            return true;
+        }
+
+        String clientKey = ClientKeys.of(request);
+        long waitNanos = clientRateLimiter.tryAcquire(clientKey);
+        if (waitNanos > 0) {
+            throw new DMakerRateLimitException(RATE_LIMIT_EXCEEDED, toRetryAfterSeconds(waitNanos));
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            // 전역 과부하로 거절된 요청이 client 의 허용량을 소모하지 않도록 token 반환
+            clientRateLimiter.refund(clientKey);
+            throw new DMakerRateLimitException(CONCURRENCY_LIMIT_EXCEEDED, concurrencyRetryAfterSeconds);
+        }
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(START_NANOS_ATTRIBUTE) instanceof Long startNanos) {
+            request.removeAttribute(START_NANOS_ATTRIBUTE);
+            concurrencyLimiter.release(System.nanoTime() - startNanos);
+        }
+    }
+
+    //초 단위 올림
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + Duration.ofSeconds(1).toNanos() - 1) / Duration.ofSeconds(1).toNanos());
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.dmaker.repository;
+
+import com.project.dmaker.dto.DeveloperChange;
+import com.project.dmaker.entity.DeveloperOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 개발자 변경 이벤트 outbox 저장 / 조회를 위한 Jpa Repository
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Repository
+public interface DeveloperOutboxRepository
+        extends JpaRepository<DeveloperOutbox, Long> {
+
+    //미발행 이벤트 조회 (저장 순서)
+    List<DeveloperOutbox> findByFeedOffsetIsNullOrderByIdAsc(Pageable pageable);
+
+    //마지막으로 부여된 feed offset (발행된 이벤트가 없으면 0)
+    @Query("select coalesce(max(o.feedOffset), 0) from DeveloperOutbox o")
+    long findMaxFeedOffset();
+
+    //offset 이후 발행된 변경 이벤트 조회 (change feed)
+    @Query("select new com.project.dmaker.dto.DeveloperChange(" +
+            "o.feedOffset, o.id, o.memberId, o.changeType, o.developerLevel, o.developerSkillType, o.statusCode, " +
+            "o.createAt) " +
+            "from DeveloperOutbox o where o.feedOffset > :offset order by o.feedOffset")
+    List<DeveloperChange> findChangesAfter(@Param("offset") long offset, Pageable pageable);
+}
@@ -1,22 +1,96 @@
 package com.project.dmaker.repository;
 
 import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.DeveloperHeadcount;
 import com.project.dmaker.entity.Developer;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_STREAM_FETCH_SIZE;
 
 /**
  * 개발자 정보 저장을 위한 Jpa Repository
+ * <p>
+ *     조회 전용 메소드는 Entity 대신 DTO를 SELECT 절에서 바로 생성(projection)하여
+ *     필요한 컬럼만 읽고 영속성 컨텍스트(스냅샷, dirty checking)를 거치지 않는다.
+ *     조건 검색은 {@link DeveloperRepositoryCustom} 참고.
+ * </p>
  * @author cyh68
  * @since 2023-05-08
  **/
 @Repository
 public interface DeveloperRepository
-        extends JpaRepository<Developer, Long> {
+        extends JpaRepository<Developer, Long>, DeveloperRepositoryCustom {
     Optional<Developer> findByMemberId(String memberId);
 
     List<Developer> findDevelopersByStatusCodeEquals(StatusCode statusCode);
+
+    //대량 퇴직 대상 재직자 조회 및 행 잠금 (SELECT ... FOR UPDATE, 헤드카운트 반영용 레벨/직무 타입 포함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.project.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId, d.id) " +
+            "from Developer d where d.memberId in :memberIds and d.statusCode = :statusCode")
+    List<DeveloperDto> findDeveloperDtosForUpdate(@Param("memberIds") Collection<String> memberIds,
+                                                  @Param("statusCode") StatusCode statusCode);
+
+    //재직 상태 일괄 변경 (UPDATE 1회, 동시 단건 변경이 충돌을 감지하도록 version 도 증가)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Developer d set d.statusCode = :statusCode, d.updateAt = :updateAt, " +
+            "d.version = d.version + 1 " +
+            "where d.memberId in :memberIds")
+    int updateStatusCodeByMemberIdIn(@Param("memberIds") Collection<String> memberIds,
+                                     @Param("statusCode") StatusCode statusCode,
+                                     @Param("updateAt") LocalDateTime updateAt);
+
+    //대량 등록 시 이미 존재하는 memberId 일괄 조회 (IN 쿼리 1회)
+    @Query("select d.memberId from Developer d where d.memberId in :memberIds")
+    List<String> findMemberIdsByMemberIdIn(@Param("memberIds") Collection<String> memberIds);
+
+    @Query("select new com.project.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId, d.id) " +
+            "from Developer d where d.statusCode = :statusCode")
+    List<DeveloperDto> findDeveloperDtosByStatusCode(@Param("statusCode") StatusCode statusCode);
+
+    //id 기준 keyset 페이지네이션 (OFFSET 없이 id > cursor 조건으로 조회)
+    @Query("select new com.project.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId, d.id) " +
+            "from Developer d where d.statusCode = :statusCode and d.id > :id order by d.id asc")
+    Slice<DeveloperDto> findDeveloperDtosByStatusCodeAndIdGreaterThan(
+            @Param("statusCode") StatusCode statusCode, @Param("id") Long id, Pageable pageable);
+
+    //전체 결과를 메모리에 올리지 않고 커서로 순회 (반드시 트랜잭션 안에서 close 해야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = DEVELOPER_STREAM_FETCH_SIZE))
+    @Query("select new com.project.dmaker.dto.DeveloperDto(" +
+            "d.developerLevel, d.developerSkillType, d.memberId, d.id) " +
+            "from Developer d where d.statusCode = :statusCode order by d.id asc")
+    Stream<DeveloperDto> streamDeveloperDtosByStatusCode(@Param("statusCode") StatusCode statusCode);
+
+    //레벨 x 직무 타입 x 재직 상태별 인원 수 (헤드카운트 reconcile 용)
+    @Query("select new com.project.dmaker.dto.DeveloperHeadcount(" +
+            "d.developerLevel, d.developerSkillType, d.statusCode, count(d)) " +
+            "from Developer d group by d.developerLevel, d.developerSkillType, d.statusCode")
+    List<DeveloperHeadcount> countHeadcounts();
+
+    @Query("select new com.project.dmaker.dto.DeveloperDetailDto(" +
+            "d.developerLevel, d.developerSkillType, d.experienceYears, d.statusCode, d.memberId, d.name, d.age, d.version, " +
+            "d.updateAt) from Developer d where d.memberId = :memberId")
+    Optional<DeveloperDetailDto> findDeveloperDetailDtoByMemberId(@Param("memberId") String memberId);
 }
@@ -0,0 +1,32 @@
+package com.project.dmaker.repository;
+
+import com.project.dmaker.code.DeveloperField;
+import com.project.dmaker.code.DeveloperSortType;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.dto.SearchDeveloper;
+import com.project.dmaker.entity.Developer;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/**
+ * 개발자 검색 Custom Repository (Criteria API)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public interface DeveloperRepositoryCustom {
+
+    /**
+     * 조건 / 정렬 / keyset 커서로 개발자 검색 (선택한 필드 컬럼만 조회)
+     * @param specification {@link Specification} 검색 조건
+     * @param sortType {@link DeveloperSortType}
+     * @param cursor {@link SearchDeveloper.Cursor} 이전 페이지 마지막 행 (첫 페이지는 null)
+     * @param fields {@link Set} 조회할 필드
+     * @param size 페이지 크기
+     * @return DeveloperPage {@link DeveloperPage}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    DeveloperPage searchDeveloperDtos(Specification<Developer> specification, DeveloperSortType sortType,
+                                      SearchDeveloper.Cursor cursor, Set<DeveloperField> fields, int size);
+}
@@ -0,0 +1,144 @@
+package com.project.dmaker.repository;
+
+import com.project.dmaker.code.DeveloperField;
+import com.project.dmaker.code.DeveloperSortType;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.dto.SearchDeveloper;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 개발자 검색 Custom Repository 구현체
+ * <p>
+ *     OFFSET / count 쿼리 없이 (정렬값, id) 기준 keyset 조건으로 size + 1 건을 조회하여 다음 페이지 여부를 판단한다.
+ *     선택한 필드의 컬럼과 커서 생성에 필요한 컬럼(id, 정렬값)만 SELECT 한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class DeveloperRepositoryImpl implements DeveloperRepositoryCustom {
+    private static final String SORT_VALUE_ALIAS = "sortValue";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public DeveloperPage searchDeveloperDtos(Specification<Developer> specification, DeveloperSortType sortType,
+                                             SearchDeveloper.Cursor cursor, Set<DeveloperField> fields, int size) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Developer> root = query.from(Developer.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias("id"));
+        if (sortType.getSortAttribute() != null) {
+            selections.add(root.get(sortType.getSortAttribute()).alias(SORT_VALUE_ALIAS));
+        }
+        for (DeveloperField field : fields) {
+            selections.add(root.get(field.getFieldName()).alias(field.getFieldName()));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = Specification.where(specification)
+                .and(keysetAfter(sortType, cursor))
+                .toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(orderBy(sortType, root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        List<DeveloperDto> developers = new ArrayList<>(Math.min(rows.size(), size));
+        for (int i = 0; i < rows.size() && i < size; i++) {
+            developers.add(toDeveloperDto(rows.get(i), fields));
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            Tuple last = rows.get(size - 1);
+            nextCursor = new SearchDeveloper.Cursor(
+                    sortType.getSortAttribute() == null ? null : last.get(SORT_VALUE_ALIAS, Integer.class),
+                    last.get("id", Long.class)
+            ).encode();
+        }
+
+        return DeveloperPage.builder()
+                .developers(developers)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * keyset 조건 - 정렬 순서상 커서 행 이후 (정렬값이 뒤이거나, 같으면 id 가 큰 행)
+     * @param sortType {@link DeveloperSortType}
+     * @param cursor {@link SearchDeveloper.Cursor}
+     * @return Specification(Developer) {@link Specification}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static Specification<Developer> keysetAfter(DeveloperSortType sortType, SearchDeveloper.Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (sortType.getSortAttribute() == null) {
+            return (root, query, cb) -> cb.greaterThan(root.get("id"), cursor.getId());
+        }
+
+        return (root, query, cb) -> {
+            Path<Integer> sortValue = root.get(sortType.getSortAttribute());
+            Predicate after = sortType.isAscending()
+                    ? cb.greaterThan(sortValue, cursor.getSortValue())
+                    : cb.lessThan(sortValue, cursor.getSortValue());
+
+            return cb.or(after, cb.and(
+                    cb.equal(sortValue, cursor.getSortValue()),
+                    cb.greaterThan(root.get("id"), cursor.getId())));
+        };
+    }
+
+    private static List<Order> orderBy(DeveloperSortType sortType, Root<Developer> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>(2);
+        if (sortType.getSortAttribute() != null) {
+            Path<Object> sortValue = root.get(sortType.getSortAttribute());
+            orders.add(sortType.isAscending() ? cb.asc(sortValue) : cb.desc(sortValue));
+        }
+        orders.add(cb.asc(root.get("id")));
+
+        return orders;
+    }
+
+    private static DeveloperDto toDeveloperDto(Tuple row, Set<DeveloperField> fields) {
+        DeveloperDto.DeveloperDtoBuilder builder = DeveloperDto.builder()
+                .id(row.get("id", Long.class));
+        for (DeveloperField field : fields) {
+            switch (field) {
+                case DEVELOPER_LEVEL -> builder.developerLevel(row.get(field.getFieldName(), DeveloperLevel.class));
+                case DEVELOPER_SKILL_TYPE ->
+                        builder.developerSkillType(row.get(field.getFieldName(), DeveloperSkillType.class));
+                case MEMBER_ID -> builder.memberId(row.get(field.getFieldName(), String.class));
+            }
+        }
+
+        return builder.build();
+    }
+}
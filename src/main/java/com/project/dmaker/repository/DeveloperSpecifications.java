@@ -0,0 +1,77 @@
+package com.project.dmaker.repository;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 개발자 검색 조건 Specification 모음
+ * <p>
+ *     조건 값이 null 이면 null 을 반환하며, {@link Specification#and} 조합 시 해당 조건은 제외된다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class DeveloperSpecifications {
+
+    private DeveloperSpecifications() {
+    }
+
+    public static Specification<Developer> statusCodeEquals(StatusCode statusCode) {
+        return statusCode == null ? null
+                : (root, query, cb) -> cb.equal(root.get("statusCode"), statusCode);
+    }
+
+    public static Specification<Developer> developerLevelEquals(DeveloperLevel developerLevel) {
+        return developerLevel == null ? null
+                : (root, query, cb) -> cb.equal(root.get("developerLevel"), developerLevel);
+    }
+
+    public static Specification<Developer> developerSkillTypeEquals(DeveloperSkillType developerSkillType) {
+        return developerSkillType == null ? null
+                : (root, query, cb) -> cb.equal(root.get("developerSkillType"), developerSkillType);
+    }
+
+    public static Specification<Developer> experienceYearsBetween(Integer min, Integer max) {
+        return between("experienceYears", min, max);
+    }
+
+    public static Specification<Developer> ageBetween(Integer min, Integer max) {
+        return between("age", min, max);
+    }
+
+    /**
+     * 이름 prefix 조건 (name like 'prefix%', 와일드카드 문자는 escape 하여 index range scan 가능)
+     * @param prefix {@link String}
+     * @return Specification(Developer) {@link Specification}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static Specification<Developer> nameStartsWith(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return null;
+        }
+
+        String pattern = prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+
+        return (root, query, cb) -> cb.like(root.get("name"), pattern, '\\');
+    }
+
+    private static Specification<Developer> between(String attribute, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        if (max == null) {
+            return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), min);
+        }
+        if (min == null) {
+            return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), max);
+        }
+
+        return (root, query, cb) -> cb.between(root.get(attribute), min, max);
+    }
+}
@@ -1,11 +1,16 @@
 package com.project.dmaker.repository;
 
-import com.project.dmaker.entity.Developer;
+import com.project.dmaker.dto.RetiredDeveloperDto;
 import com.project.dmaker.entity.RetiredDeveloper;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 퇴직자 정보 저장을 위한 Jpa Repository
@@ -14,5 +19,21 @@ import java.util.Optional;
  **/
 @Repository
 public interface RetiredDeveloperRepository
-        extends JpaRepository<RetiredDeveloper, Long> {
+        extends JpaRepository<RetiredDeveloper, Long>, RetiredDeveloperRepositoryCustom {
+
+    //DEVELOPER 테이블에서 퇴직자 정보 일괄 복사 (INSERT ... SELECT 1회)
+    @Modifying(flushAutomatically = true)
+    @Query("insert into RetiredDeveloper (memberId, name, createAt, updateAt) " +
+            "select d.memberId, d.name, :retiredAt, :retiredAt from Developer d where d.memberId in :memberIds")
+    int insertFromDevelopers(@Param("memberIds") Collection<String> memberIds,
+                             @Param("retiredAt") LocalDateTime retiredAt);
+
+    //개발자 퇴직 이력 조회 (기간 조건이 null 이면 제한 없음, 최근 순)
+    @Query("select new com.project.dmaker.dto.RetiredDeveloperDto(r.memberId, r.name, r.createAt) " +
+            "from RetiredDeveloper r where r.memberId = :memberId " +
+            "and r.createAt >= coalesce(:from, r.createAt) and r.createAt <= coalesce(:to, r.createAt) " +
+            "order by r.createAt desc")
+    List<RetiredDeveloperDto> findHistory(@Param("memberId") String memberId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,24 @@
+package com.project.dmaker.repository;
+
+import com.project.dmaker.retire.RetirementRecord;
+
+import java.util.List;
+
+/**
+ * 퇴직 기록 저장 Custom Repository (JDBC batch)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public interface RetiredDeveloperRepositoryCustom {
+
+    /**
+     * 퇴직한 개발자의 퇴직 기록 일괄 저장 (JDBC batch 1회)
+     * <p>
+     *     같은 eventId 기록이 이미 있거나 퇴직 상태가 아닌 개발자의 기록은 저장하지 않는다.
+     * </p>
+     * @param records {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    void insertAllIfAbsent(List<RetirementRecord> records);
+}
@@ -0,0 +1,52 @@
+package com.project.dmaker.repository;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.retire.RetirementRecord;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 퇴직 기록 저장 Custom Repository 구현체
+ * <p>
+ *     INSERT ... SELECT 를 기록마다 실행하지 않고, 현재 트랜잭션의 커넥션에서 JDBC batch 로 한 번에 실행한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class RetiredDeveloperRepositoryImpl implements RetiredDeveloperRepositoryCustom {
+    private static final String INSERT_IF_ABSENT = "insert into retired_developer "
+            + "(member_id, name, event_id, create_at, update_at) "
+            + "select d.member_id, d.name, ?, ?, ? from developer d "
+            + "where d.member_id = ? and d.status_code = '" + StatusCode.RETIRED.name() + "' "
+            + "and not exists (select r.id from retired_developer r where r.event_id = ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAllIfAbsent(List<RetirementRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_IF_ABSENT)) {
+                for (RetirementRecord record : records) {
+                    Timestamp retiredAt = Timestamp.valueOf(record.getRetiredAt());
+                    statement.setString(1, record.getEventId());
+                    statement.setTimestamp(2, retiredAt);
+                    statement.setTimestamp(3, retiredAt);
+                    statement.setString(4, record.getMemberId());
+                    statement.setString(5, record.getEventId());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,269 @@
+package com.project.dmaker.retire;
+
+import com.project.dmaker.repository.RetiredDeveloperRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 퇴직 기록(RETIRED_DEVELOPER) 비동기 batch 저장
+ * <p>
+ *     개발자 삭제 트랜잭션의 커밋 직전에 기록을 WAL 에 fsync 하고, 커밋되면 bounded queue 에 넣는다.
+ *     동시에 커밋하는 트랜잭션의 기록은 먼저 도착한 스레드(leader)가 모아서 한 번에 fsync 하고(WAL group commit),
+ *     나머지 스레드(follower)는 fsync 완료만 기다린다.
+ *     dmaker.retired-writer.flush-interval 주기로 queue 를 batch-size 단위로 꺼내 한 트랜잭션에서 저장(group commit)하며,
+ *     queue 가 가득 차면 호출 스레드에서 바로 저장한다. 한 batch 는 JDBC batch INSERT 1회로 저장한다.
+ *     기동 시 WAL 에 남은 기록을 다시 저장하고, 저장(또는 롤백 확인)된 기록의 WAL segment 는 다른 기록이 대기 중이어도 회수한다.
+ *     저장은 event_id 기준으로 멱등이고 퇴직 상태인 개발자만 저장하므로, 롤백된 트랜잭션의 WAL 기록이나
+ *     이미 저장된 기록을 다시 처리해도 중복 저장되지 않는다.
+ *     (WAL 은 인스턴스별 로컬 디렉토리이므로 dmaker.retired-writer.wal-dir 는 인스턴스마다 다른 영구 저장소 경로로 지정해야 하며,
+ *     지정하지 않으면 기동에 실패한다.)
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+@Component
+public class RetiredDeveloperWriter implements DisposableBean {
+    private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RetirementWal wal;
+    private final BlockingQueue<RetirementRecord> queue;
+    private final int batchSize;
+
+    // WAL 기록 / release 보호
+    private final Lock walLock = new ReentrantLock();
+    // WAL group commit 상태(openGroup, syncing) 보호
+    private final Lock groupLock = new ReentrantLock();
+    // leader 의 fsync 완료 알림
+    private final Condition groupSynced = groupLock.newCondition();
+    // 저장 스레드(주기 flush / queue 가 가득 찬 호출 스레드) 직렬화 및 retryRecords 보호
+    private final Lock flushLock = new ReentrantLock();
+    //다음 fsync 에 함께 기록할 기록 모음
+    private WalGroup openGroup = new WalGroup();
+    //leader 가 fsync 중인지 여부
+    private boolean syncing;
+    //기동 시 WAL 에서 읽은 기록 및 저장 실패로 다시 저장할 기록
+    private final List<RetirementRecord> retryRecords = new ArrayList<>();
+
+    public RetiredDeveloperWriter(RetiredDeveloperRepository retiredDeveloperRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${dmaker.retired-writer.wal-dir:}") String walDir,
+                                  @Value("${dmaker.retired-writer.wal-segment-size:16MB}") DataSize walSegmentSize,
+                                  @Value("${dmaker.retired-writer.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${dmaker.retired-writer.batch-size:500}") int batchSize) {
+        this.retiredDeveloperRepository = retiredDeveloperRepository;
+        // 커밋 이후(afterCommit) 호출 스레드에서 저장하는 경우에도 새 트랜잭션으로 저장
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        // 임시 디렉토리는 재부팅 시 지워지거나 tmpfs 일 수 있으므로 기본값 없이 영구 저장소 경로를 지정해야 함
+        if (walDir.isBlank()) {
+            throw new IllegalStateException("dmaker.retired-writer.wal-dir must be set to a persistent directory");
+        }
+        this.wal = new RetirementWal(Path.of(walDir), walSegmentSize.toBytes());
+
+        retryRecords.addAll(wal.getRecoveredRecords());
+        if (!retryRecords.isEmpty()) {
+            log.info("{} retirement records recovered from WAL", retryRecords.size());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 퇴직 기록 저장
+     * @param memberId {@link String}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws IllegalStateException 트랜잭션 밖에서 호출한 경우
+     **/
+    public void write(String memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("retirement record must be written in a transaction");
+        }
+
+        RetirementRecord record = new RetirementRecord(UUID.randomUUID().toString(), memberId, LocalDateTime.now());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean appended;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                append(record);
+                appended = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!appended) {
+                    return;
+                }
+                if (status == STATUS_COMMITTED) {
+                    enqueue(record);
+                } else {
+                    release(List.of(record));
+                }
+            }
+        });
+    }
+
+    /**
+     * 저장 대기 중인 기록을 batch 단위로 저장
+     * @return int 저장을 시도한 기록 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Scheduled(fixedDelayString = "${dmaker.retired-writer.flush-interval:PT0.2S}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            int flushed = 0;
+            List<RetirementRecord> batch = new ArrayList<>(retryRecords);
+            retryRecords.clear();
+            queue.drainTo(batch, Math.max(0, batchSize - batch.size()));
+
+            while (!batch.isEmpty()) {
+                if (!save(batch)) {
+                    retryRecords.addAll(batch);
+                    return flushed;
+                }
+                flushed += batch.size();
+                batch = new ArrayList<>(batchSize);
+                queue.drainTo(batch, batchSize);
+            }
+
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        wal.close();
+    }
+
+    /**
+     * WAL group commit
+     * <p>
+     *     fsync 중인 leader 가 없으면 호출 스레드가 leader 가 되어 그동안 모인 기록을 한 번에 fsync 하고,
+     *     있으면 다음 group 에 기록을 넣고 그 group 의 fsync 가 끝날 때까지 기다린다.
+     *     fsync 에 실패하면 group 의 모든 호출 스레드에서 예외가 발생해 각 트랜잭션이 롤백된다.
+     * </p>
+     * @param record {@link RetirementRecord}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private void append(RetirementRecord record) {
+        WalGroup group;
+        groupLock.lock();
+        try {
+            group = openGroup;
+            group.records.add(record);
+            while (syncing && !group.synced) {
+                groupSynced.awaitUninterruptibly();
+            }
+            if (group.synced) {
+                if (group.failure != null) {
+                    throw new IllegalStateException("could not append retirement WAL", group.failure);
+                }
+                return;
+            }
+            syncing = true;
+            openGroup = new WalGroup();
+        } finally {
+            groupLock.unlock();
+        }
+
+        RuntimeException failure = null;
+        walLock.lock();
+        try {
+            wal.append(group.records);
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            walLock.unlock();
+        }
+
+        groupLock.lock();
+        try {
+            group.synced = true;
+            group.failure = failure;
+            syncing = false;
+            groupSynced.signalAll();
+        } finally {
+            groupLock.unlock();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void enqueue(RetirementRecord record) {
+        if (queue.offer(record)) {
+            return;
+        }
+
+        // queue 가 가득 차면 호출 스레드에서 저장 (back-pressure)
+        flushLock.lock();
+        try {
+            retryRecords.add(record);
+        } finally {
+            flushLock.unlock();
+        }
+        flush();
+    }
+
+    private boolean save(List<RetirementRecord> records) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> retiredDeveloperRepository.insertAllIfAbsent(records));
+        } catch (RuntimeException e) {
+            log.warn("could not save {} retirement records, will retry", records.size(), e);
+            return false;
+        }
+
+        release(records);
+        return true;
+    }
+
+    private void release(List<RetirementRecord> records) {
+        walLock.lock();
+        try {
+            wal.release(records);
+        } finally {
+            walLock.unlock();
+        }
+    }
+
+    /**
+     * 한 번의 fsync 로 함께 기록하는 기록 모음 (groupLock 으로 보호)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static class WalGroup {
+        private final List<RetirementRecord> records = new ArrayList<>();
+        //fsync 완료 여부
+        private boolean synced;
+        //fsync 실패 원인 (성공 시 null)
+        private RuntimeException failure;
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.dmaker.retire;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 저장 대기 중인 퇴직 기록 (WAL 한 줄)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class RetirementRecord {
+    private static final String SEPARATOR = "\t";
+
+    //중복 저장 방지 키 (RETIRED_DEVELOPER.event_id)
+    private final String eventId;
+    private final String memberId;
+    private final LocalDateTime retiredAt;
+
+    /**
+     * WAL 한 줄로 변환 (memberId 는 구분자와 겹치지 않도록 Base64 인코딩)
+     * @return String
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public String toLine() {
+        return eventId + SEPARATOR
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(memberId.getBytes(StandardCharsets.UTF_8))
+                + SEPARATOR + retiredAt;
+    }
+
+    /**
+     * WAL 한 줄 -> RetirementRecord 변환 (기록 도중 중단되어 잘린 줄은 null)
+     * @param line {@link String}
+     * @return RetirementRecord {@link RetirementRecord}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static RetirementRecord fromLine(String line) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length != 3) {
+            return null;
+        }
+
+        try {
+            return new RetirementRecord(fields[0],
+                    new String(Base64.getUrlDecoder().decode(fields[1]), StandardCharsets.UTF_8),
+                    LocalDateTime.parse(fields[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
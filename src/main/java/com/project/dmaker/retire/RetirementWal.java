@@ -0,0 +1,200 @@
+package com.project.dmaker.retire;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 퇴직 기록 write-ahead log (로컬 디렉토리의 segment 파일)
+ * <p>
+ *     기록을 현재 segment 에 한 줄씩 덧붙이고 fsync 한 뒤 반환하므로, 반환된 기록은 프로세스가 중단되어도 재기동 시 다시 읽을 수 있다.
+ *     segment 가 segmentBytes 이상 차면 새 segment 에 기록하고, segment 의 기록이 모두 release 되면 파일을 지운다. (현재 segment 는 비운다)
+ *     다른 segment 에 저장 대기 중인 기록이 남아 있어도 release 된 segment 는 회수되므로,
+ *     WAL 크기와 재기동 시 다시 저장할 기록 수는 저장 대기 중인 기록이 남은 segment 로 제한된다.
+ *     호출자({@link RetiredDeveloperWriter})가 동기화하며, 이 클래스는 thread-safe 하지 않다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class RetirementWal implements AutoCloseable {
+    private static final String SEGMENT_PREFIX = "retired-developer-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final long segmentBytes;
+    //segment 번호 -> 아직 release 되지 않은 기록 수
+    private final NavigableMap<Long, Integer> pendingCounts = new TreeMap<>();
+    //release 되지 않은 기록 -> 기록된 segment 번호 (같은 내용의 기록도 구분하도록 identity 기준)
+    private final Map<RetirementRecord, Long> segments = new IdentityHashMap<>();
+    //기동 시 남아 있던 기록 (release 전까지 pending)
+    private final List<RetirementRecord> recoveredRecords = new ArrayList<>();
+
+    private long activeSegment;
+    private FileChannel activeChannel;
+
+    public RetirementWal(Path directory, long segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            for (long segment : listSegments()) {
+                List<RetirementRecord> records = read(segment);
+                records.forEach(record -> segments.put(record, segment));
+                recoveredRecords.addAll(records);
+                pendingCounts.put(segment, records.size());
+                activeSegment = segment;
+            }
+            // 기존 segment 에는 더 기록하지 않고 새 segment 에 기록 (기록이 없는 segment 는 바로 삭제)
+            openSegment(activeSegment + 1);
+            deleteReleasedSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not open retirement WAL: " + directory, e);
+        }
+    }
+
+    /**
+     * 기동 시 WAL 에 남아 있던 기록 조회 (잘린 마지막 줄 등 읽을 수 없는 줄은 제외, 기록 순)
+     * @return List(RetirementRecord) {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public List<RetirementRecord> getRecoveredRecords() {
+        return List.copyOf(recoveredRecords);
+    }
+
+    /**
+     * 기록 추가 후 fsync (현재 segment 가 segmentBytes 이상이면 새 segment 에 기록)
+     * @param records {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public void append(List<RetirementRecord> records) {
+        StringBuilder lines = new StringBuilder();
+        for (RetirementRecord record : records) {
+            lines.append(record.toLine()).append('\n');
+        }
+
+        try {
+            if (activeChannel.size() >= segmentBytes) {
+                activeChannel.close();
+                openSegment(activeSegment + 1);
+                deleteReleasedSegments();
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                activeChannel.write(buffer);
+            }
+            activeChannel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not append retirement WAL: " + directory, e);
+        }
+
+        records.forEach(record -> segments.put(record, activeSegment));
+        pendingCounts.merge(activeSegment, records.size(), Integer::sum);
+    }
+
+    /**
+     * DB 에 저장(또는 롤백 확인)된 기록 release
+     * <p>
+     *     기록이 모두 release 된 segment 는 삭제하고, 현재 segment 는 비운다.
+     * </p>
+     * @param records {@link Collection}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public void release(Collection<RetirementRecord> records) {
+        for (RetirementRecord record : records) {
+            Long segment = segments.remove(record);
+            if (segment != null) {
+                pendingCounts.merge(segment, -1, Integer::sum);
+            }
+        }
+
+        try {
+            deleteReleasedSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not release retirement WAL: " + directory, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            activeChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not close retirement WAL: " + directory, e);
+        }
+    }
+
+    private void openSegment(long segment) throws IOException {
+        activeChannel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeSegment = segment;
+        pendingCounts.putIfAbsent(segment, 0);
+    }
+
+    private void deleteReleasedSegments() throws IOException {
+        List<Long> released = pendingCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() == 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        for (long segment : released) {
+            if (segment == activeSegment) {
+                if (activeChannel.size() > 0) {
+                    activeChannel.truncate(0);
+                    activeChannel.force(false);
+                }
+                continue;
+            }
+            Files.deleteIfExists(segmentPath(segment));
+            pendingCounts.remove(segment);
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> parseSegment(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private List<RetirementRecord> read(long segment) throws IOException {
+        return Files.readAllLines(segmentPath(segment), StandardCharsets.UTF_8).stream()
+                .map(RetirementRecord::fromLine)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Path segmentPath(long segment) {
+        // 파일 이름 순서 = segment 순서
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static Long parseSegment(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
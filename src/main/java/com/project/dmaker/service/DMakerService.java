@@ -1,26 +1,71 @@
 package com.project.dmaker.service;
 
+import com.project.dmaker.cache.DeveloperDetailCache;
+import com.project.dmaker.cache.EmployedDevelopersCache;
+import com.project.dmaker.code.BulkResultStatus;
+import com.project.dmaker.code.DeveloperChangeType;
+import com.project.dmaker.code.DeveloperField;
+import com.project.dmaker.code.DeveloperSortType;
 import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.datasource.ReplicaRouting;
+import com.project.dmaker.dto.BulkCreateDeveloper;
+import com.project.dmaker.dto.BulkRetireDeveloper;
 import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperChange;
+import com.project.dmaker.dto.DeveloperChangeFeed;
 import com.project.dmaker.dto.DeveloperDetailDto;
 import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.DeveloperHeadcount;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.dto.RetiredDeveloperDto;
+import com.project.dmaker.dto.SearchDeveloper;
 import com.project.dmaker.dto.UpdateDeveloper;
 import com.project.dmaker.entity.Developer;
-import com.project.dmaker.entity.RetiredDeveloper;
+import com.project.dmaker.event.DeveloperChangedEvent;
+import com.project.dmaker.event.DeveloperState;
 import com.project.dmaker.exception.DMakerErrorCode;
 import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.repository.DeveloperOutboxRepository;
 import com.project.dmaker.repository.DeveloperRepository;
+import com.project.dmaker.repository.DeveloperSpecifications;
 import com.project.dmaker.repository.RetiredDeveloperRepository;
+import com.project.dmaker.retire.RetiredDeveloperWriter;
+import com.project.dmaker.stats.DeveloperHeadcounts;
 import com.project.dmaker.type.DeveloperLevel;
 import com.project.dmaker.type.DeveloperLevelV2;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.project.dmaker.constant.DMakerConstant.DEFAULT_DEVELOPER_PAGE_SIZE;
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_BULK_CHUNK_SIZE;
+import static com.project.dmaker.constant.DMakerConstant.MAX_DEVELOPER_PAGE_SIZE;
+import static com.project.dmaker.util.DeveloperValidations.resolveDeveloperLevel;
+import static com.project.dmaker.util.DeveloperValidations.validateVersion;
 
 /**
  * 각 요청에 대한 비지니스 로직 처리 Layer
@@ -33,9 +78,23 @@ import java.util.stream.Collectors;
 public class DMakerService {
     private final DeveloperRepository developerRepository;
     private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final DeveloperDetailCache developerDetailCache;
+    private final EmployedDevelopersCache employedDevelopersCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeveloperHeadcounts developerHeadcounts;
+    private final DeveloperOutboxRepository developerOutboxRepository;
+    private final RetiredDeveloperWriter retiredDeveloperWriter;
 
     /**
      * 개발자 생성
+     * <p>
+     *     memberId 중복 여부는 사전 SELECT 없이 DEVELOPER.member_id 유니크 제약조건으로 판별한다.
+     *     (INSERT 1회로 처리되며 동시 요청도 DB가 정확히 하나만 허용)
+     *     제약조건 위반은 {@link org.springframework.dao.DataIntegrityViolationException}으로 전파되어
+     *     {@link com.project.dmaker.exception.DMakerExceptionHandler}에서 DUPLICATED_MEMBER_ID로 변환된다.
+     * </p>
      * @param request {@link CreateDeveloper.Request}
      * @return CreateDeveloper.Response {@link CreateDeveloper.Response}
      * @author cyh68
@@ -44,11 +103,74 @@ public class DMakerService {
      **/
     @Transactional
     public CreateDeveloper.Response createDeveloper(CreateDeveloper.Request request) {
-        validateCreateDeveloperRequest(request);
+        DeveloperLevel developerLevel = validateCreateDeveloperRequest(request);
 
-        return CreateDeveloper.Response.fromEntity(
-                developerRepository.save(createDeveloperFromRequest(request))
-        );
+        Developer developer = developerRepository.saveAndFlush(createDeveloperFromRequest(request, developerLevel));
+        eventPublisher.publishEvent(DeveloperChangedEvent.of(DeveloperChangeType.CREATED, developer.getMemberId(),
+                null, DeveloperState.of(developer)));
+
+        return CreateDeveloper.Response.fromEntity(developer);
+    }
+
+    /**
+     * 개발자 대량 생성
+     * <p>
+     *     행마다 Bean Validation 및 레벨/경력 Validation을 수행하고, 요청 내 memberId 중복은 메모리에서 걸러낸다.
+     *     {@link com.project.dmaker.constant.DMakerConstant#DEVELOPER_BULK_CHUNK_SIZE} 단위로
+     *     기존 memberId를 IN 쿼리 1회로 확인한 뒤 JDBC batch INSERT 하고 영속성 컨텍스트를 비운다.
+     *     실패한 행은 건너뛰고 행별 결과로 반환한다.
+     * </p>
+     * @param requests {@link Iterator} 요청 행 (CSV 스트림의 경우 한 줄씩 읽힘)
+     * @return BulkCreateDeveloper.Response {@link BulkCreateDeveloper.Response}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Transactional
+    public BulkCreateDeveloper.Response createDevelopers(@NonNull Iterator<CreateDeveloper.Request> requests) {
+        List<BulkCreateDeveloper.Result> results = new ArrayList<>();
+        Set<String> requestedMemberIds = new HashSet<>();
+        Map<String, BulkCreateDeveloper.Result> pendingResults = new LinkedHashMap<>();
+        Map<String, Developer> pendingDevelopers = new LinkedHashMap<>();
+        List<DeveloperState> createdStates = new ArrayList<>();
+
+        while (requests.hasNext()) {
+            CreateDeveloper.Request request = requests.next();
+            BulkCreateDeveloper.Result result = BulkCreateDeveloper.Result.builder()
+                    .row(results.size() + 1)
+                    .memberId(request == null ? null : request.getMemberId())
+                    .build();
+            results.add(result);
+
+            DeveloperLevel developerLevel;
+            try {
+                developerLevel = validateBulkCreateDeveloperRequest(request);
+            } catch (DMakerException e) {
+                result.fail(e.getDMakerErrorCode(), e.getDetailMessage());
+                continue;
+            }
+
+            if (!requestedMemberIds.add(request.getMemberId())) {
+                result.fail(DMakerErrorCode.DUPLICATED_MEMBER_ID, DMakerErrorCode.DUPLICATED_MEMBER_ID.getDescription());
+                continue;
+            }
+
+            pendingResults.put(request.getMemberId(), result);
+            pendingDevelopers.put(request.getMemberId(), createDeveloperFromRequest(request, developerLevel));
+            if (pendingDevelopers.size() >= DEVELOPER_BULK_CHUNK_SIZE) {
+                insertDevelopers(pendingDevelopers, pendingResults, createdStates);
+            }
+        }
+        insertDevelopers(pendingDevelopers, pendingResults, createdStates);
+
+        BulkCreateDeveloper.Response response = BulkCreateDeveloper.Response.fromResults(results);
+        if (response.getCreatedCount() > 0) {
+            eventPublisher.publishEvent(new DeveloperChangedEvent(DeveloperChangeType.CREATED, results.stream()
+                    .filter(result -> result.getStatus() == BulkResultStatus.CREATED)
+                    .map(BulkCreateDeveloper.Result::getMemberId)
+                    .collect(Collectors.toList()), Collections.emptyList(), createdStates));
+        }
+
+        return response;
     }
 
     /**
@@ -57,83 +179,397 @@ public class DMakerService {
      * @author cyh68
      * @since 2023-05-08
      **/
-    @Transactional(readOnly = true)
     public List<DeveloperDto> getAllEmployedDevelopers() {
-        return developerRepository.findDevelopersByStatusCodeEquals(StatusCode.EMPLOYED)
-                .stream()
-                .map(DeveloperDto::fromEntity)
-                .collect(Collectors.toList());
+        return getEmployedDevelopersSnapshot().getDevelopers();
+    }
+
+    /**
+     * 개발자 리스트 스냅샷 조회
+     * <p>
+     *     커밋된 변경이 없으면 DB 조회 없이 {@link EmployedDevelopersCache}의 공유 스냅샷을 반환한다.
+     *     캐시는 커밋 시점 무효화를 전제로 하므로, 복제 지연된 값이 다시 캐시되지 않도록 적재는 primary 에서 조회한다.
+     * </p>
+     * @return EmployedDevelopersCache.Snapshot {@link EmployedDevelopersCache.Snapshot}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public EmployedDevelopersCache.Snapshot getEmployedDevelopersSnapshot() {
+        return employedDevelopersCache.get(() -> ReplicaRouting.onPrimary(
+                () -> developerRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED)));
+    }
+
+    /**
+     * 현재 개발자 리스트 버전의 ETag 조회
+     * @return String
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public String getEmployedDevelopersETag() {
+        return employedDevelopersCache.getCurrentETag();
+    }
+
+    /**
+     * 개발자 리스트 페이지 조회 (id 기준 keyset 페이지네이션)
+     * @param cursor {@link String} 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size {@link Integer} 페이지 크기 (최대 {@link com.project.dmaker.constant.DMakerConstant#MAX_DEVELOPER_PAGE_SIZE})
+     * @return DeveloperPage {@link DeveloperPage}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    @Transactional(readOnly = true)
+    public DeveloperPage getEmployedDevelopersPage(String cursor, Integer size) {
+        Slice<DeveloperDto> slice = developerRepository
+                .findDeveloperDtosByStatusCodeAndIdGreaterThan(
+                        StatusCode.EMPLOYED,
+                        DeveloperPage.decodeCursor(cursor),
+                        PageRequest.of(0, getPageSize(size))
+                );
+        List<DeveloperDto> developers = slice.getContent();
+
+        return DeveloperPage.builder()
+                .developers(developers)
+                .nextCursor(slice.hasNext()
+                        ? DeveloperPage.encodeCursor(developers.get(developers.size() - 1).getId())
+                        : null)
+                .build();
+    }
+
+    /**
+     * 개발자 검색 ((정렬값, id) 기준 keyset 페이지네이션)
+     * @param request {@link SearchDeveloper.Request}
+     * @return DeveloperPage {@link DeveloperPage}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    @Transactional(readOnly = true)
+    public DeveloperPage searchDevelopers(@NonNull SearchDeveloper.Request request) {
+        DeveloperSortType sortType = request.getSort() == null ? DeveloperSortType.ID : request.getSort();
+        Specification<Developer> specification = Specification
+                .where(DeveloperSpecifications.statusCodeEquals(
+                        request.getStatusCode() == null ? StatusCode.EMPLOYED : request.getStatusCode()))
+                .and(DeveloperSpecifications.developerLevelEquals(request.getDeveloperLevel()))
+                .and(DeveloperSpecifications.developerSkillTypeEquals(request.getDeveloperSkillType()))
+                .and(DeveloperSpecifications.experienceYearsBetween(
+                        request.getMinExperienceYears(), request.getMaxExperienceYears()))
+                .and(DeveloperSpecifications.ageBetween(request.getMinAge(), request.getMaxAge()))
+                .and(DeveloperSpecifications.nameStartsWith(request.getNamePrefix()));
+
+        return developerRepository.searchDeveloperDtos(
+                specification,
+                sortType,
+                SearchDeveloper.Cursor.decode(request.getCursor(), sortType),
+                DeveloperField.fromFieldNames(request.getFields()),
+                getPageSize(request.getSize())
+        );
+    }
+
+    /**
+     * 개발자 리스트 스트리밍 조회
+     * <p>
+     *     결과를 List로 모으지 않고 DB 커서를 순회하며 한 건씩 consumer에 전달한다.
+     *     DTO projection으로 조회하므로 영속성 컨텍스트에 Entity가 쌓이지 않아
+     *     조회 건수와 무관하게 메모리 사용량이 일정하게 유지된다.
+     * </p>
+     * @param consumer {@link Consumer}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Transactional(readOnly = true)
+    public void streamEmployedDevelopers(Consumer<DeveloperDto> consumer) {
+        try (Stream<DeveloperDto> developers = developerRepository
+                .streamDeveloperDtosByStatusCode(StatusCode.EMPLOYED)) {
+            developers.forEach(consumer);
+        }
     }
 
     /**
      * 개발자 상세 조회
+     * <p>
+     *     {@link DeveloperDetailCache}를 통해 조회하며, 캐시에 없을 때만 DB를 조회한다.
+     *     캐시 hit 시 커넥션을 점유하지 않도록 트랜잭션은 repository 조회에만 적용된다.
+     *     (존재하지 않는 memberId는 캐시하지 않음, 적재는 primary 에서 조회)
+     * </p>
      * @param memberId {@link String}
      * @return DeveloperDetailDto {@link DeveloperDetailDto}
      * @author cyh68
      * @since 2023-05-08
+     * @throws DMakerException
      **/
-    @Transactional(readOnly = true)
     public DeveloperDetailDto getDeveloperDetail(String memberId) {
-        return DeveloperDetailDto.fromEntity(getDeveloperByMemberId(memberId));
+        return developerDetailCache.get(memberId, id -> ReplicaRouting.onPrimary(
+                () -> developerRepository.findDeveloperDetailDtoByMemberId(id))
+                .orElseThrow(() -> DMakerException.of(DMakerErrorCode.NO_DEVELOPER)));
+    }
+
+    /**
+     * 개발자 헤드카운트 통계 조회
+     * <p>
+     *     {@link DeveloperHeadcounts}의 커밋 기준 메모리 집계를 반환한다. (인원이 0인 조합은 제외)
+     * </p>
+     * @return List(DeveloperHeadcount) {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public List<DeveloperHeadcount> getDeveloperHeadcounts() {
+        return developerHeadcounts.getAll();
+    }
+
+    /**
+     * 개발자 퇴직 이력 조회 (최근 순)
+     * <p>
+     *     개별 삭제의 퇴직 기록은 비동기로 저장되므로 삭제 직후에는 아직 조회되지 않을 수 있다.
+     * </p>
+     * @param memberId {@link String}
+     * @param from {@link LocalDateTime} 조회 시작 일시 (null 이면 제한 없음)
+     * @param to {@link LocalDateTime} 조회 종료 일시 (null 이면 제한 없음)
+     * @return List(RetiredDeveloperDto) {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    @Transactional(readOnly = true)
+    public List<RetiredDeveloperDto> getRetiredDeveloperHistory(@NonNull String memberId,
+                                                               LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "조회 시작 일시가 종료 일시보다 늦습니다.");
+        }
+
+        return retiredDeveloperRepository.findHistory(memberId, from, to);
+    }
+
+    /**
+     * 개발자 change feed 조회 (offset 이후 발행된 변경 이벤트)
+     * <p>
+     *     응답의 nextOffset 을 다음 요청의 offset 으로 넘겨 이어 읽는다. (처음부터 읽을 때는 0)
+     * </p>
+     * @param offset 마지막으로 읽은 feed offset
+     * @param size {@link Integer} 최대 건수 (최대 {@link com.project.dmaker.constant.DMakerConstant#MAX_DEVELOPER_PAGE_SIZE})
+     * @return DeveloperChangeFeed {@link DeveloperChangeFeed}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    @Transactional(readOnly = true)
+    public DeveloperChangeFeed getDeveloperChanges(long offset, Integer size) {
+        if (offset < 0) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "offset 은 0 이상이어야 합니다.");
+        }
+
+        List<DeveloperChange> changes =
+                developerOutboxRepository.findChangesAfter(offset, PageRequest.of(0, getPageSize(size)));
+
+        return DeveloperChangeFeed.builder()
+                .changes(changes)
+                .nextOffset(changes.isEmpty() ? offset : changes.get(changes.size() - 1).getOffset())
+                .build();
     }
 
     /**
      * 개발자 정보 변경
+     * <p>
+     *     동시 변경으로 낙관적 락 충돌이 발생하면 새 트랜잭션에서 최신 상태를 다시 읽어
+     *     {@link com.project.dmaker.constant.DMakerConstant#DEVELOPER_UPDATE_MAX_ATTEMPTS}회까지 재시도한다.
+     * </p>
      * @param memberId {@link String}
      * @param request {@link UpdateDeveloper.Request}
      * @return DeveloperDetailDto {@link DeveloperDetailDto}
      * @author cyh68
      * @since 2023-05-08
-     * @throws
+     * @throws DMakerException
      **/
+    @OptimisticLockRetryable
     @Transactional
     public DeveloperDetailDto updateDeveloper(String memberId, UpdateDeveloper.Request request) {
+        return doUpdateDeveloper(memberId, request, null);
+    }
 
-        validateDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears());
-
-        return DeveloperDetailDto.fromEntity(
-                setDeveloperFromRequest(request, getDeveloperByMemberId(memberId))
-        );
+    /**
+     * 개발자 정보 변경 (If-Match 버전 확인)
+     * <p>
+     *     expectedVersion이 현재 버전과 다르면 DEVELOPER_VERSION_CONFLICT 예외를 던진다.
+     *     커밋 시점 충돌로 재시도된 경우에도 다시 읽은 버전이 달라지므로 같은 예외로 끝난다.
+     * </p>
+     * @param memberId {@link String}
+     * @param request {@link UpdateDeveloper.Request}
+     * @param expectedVersion {@link Long} If-Match 버전 (null이면 확인하지 않음)
+     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    @OptimisticLockRetryable
+    @Transactional
+    public DeveloperDetailDto updateDeveloper(String memberId, UpdateDeveloper.Request request,
+                                              Long expectedVersion) {
+        return doUpdateDeveloper(memberId, request, expectedVersion);
     }
 
     /**
      * 개발자 삭제
      * <p>
      *     실제 삭제가 아닌, DEVELOPER 테이블에 StatusCode를 RETIRED로 변경, RETIRED_DEVELOPER 테이블에 INSERT
+     *     이미 퇴직한 개발자는 변경 없이 현재 상태를 반환한다. (재시도 요청이 퇴직 기록을 중복 저장하지 않도록)
      * </p>
      * @param memberId {@link String}
      * @return DeveloperDetailDto {@link DeveloperDetailDto}
      * @author cyh68
      * @since 2023-05-08
      **/
+    @OptimisticLockRetryable
     @Transactional
     public DeveloperDetailDto deleteDeveloper(String memberId) {
+        return doDeleteDeveloper(memberId, null);
+    }
+
+    /**
+     * 개발자 삭제 (If-Match 버전 확인)
+     * @param memberId {@link String}
+     * @param expectedVersion {@link Long} If-Match 버전 (null이면 확인하지 않음)
+     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    @OptimisticLockRetryable
+    @Transactional
+    public DeveloperDetailDto deleteDeveloper(String memberId, Long expectedVersion) {
+        return doDeleteDeveloper(memberId, expectedVersion);
+    }
+
+    /**
+     * 개발자 대량 퇴직 처리
+     * <p>
+     *     하나의 트랜잭션에서 {@link com.project.dmaker.constant.DMakerConstant#DEVELOPER_BULK_CHUNK_SIZE} 단위로
+     *     대상 재직자 행을 잠근 뒤(SELECT ... FOR UPDATE),
+     *     RETIRED_DEVELOPER 에 INSERT ... SELECT, DEVELOPER.status_code 를 UPDATE 한다.
+     *     존재하지 않거나 이미 퇴직한 memberId는 missingMemberIds로 반환한다.
+     * </p>
+     * @param memberIds {@link Collection}
+     * @return BulkRetireDeveloper.Response {@link BulkRetireDeveloper.Response}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Transactional
+    public BulkRetireDeveloper.Response retireDevelopers(@NonNull Collection<String> memberIds) {
+        List<String> requestedMemberIds = new ArrayList<>(new LinkedHashSet<>(memberIds));
+        //이벤트의 memberIds 와 상태 목록 순서를 맞추기 위해 처리 순서 유지
+        Set<String> retiredMemberIds = new LinkedHashSet<>();
+        List<DeveloperState> previousStates = new ArrayList<>();
+        List<DeveloperState> currentStates = new ArrayList<>();
+        LocalDateTime retiredAt = LocalDateTime.now();
+
+        for (int from = 0; from < requestedMemberIds.size(); from += DEVELOPER_BULK_CHUNK_SIZE) {
+            List<String> chunk = requestedMemberIds.subList(from,
+                    Math.min(from + DEVELOPER_BULK_CHUNK_SIZE, requestedMemberIds.size()));
+
+            List<DeveloperDto> employedDevelopers =
+                    developerRepository.findDeveloperDtosForUpdate(chunk, StatusCode.EMPLOYED);
+            if (employedDevelopers.isEmpty()) {
+                continue;
+            }
+
+            List<String> employedMemberIds = new ArrayList<>(employedDevelopers.size());
+            for (DeveloperDto developer : employedDevelopers) {
+                employedMemberIds.add(developer.getMemberId());
+                previousStates.add(new DeveloperState(developer.getDeveloperLevel(),
+                        developer.getDeveloperSkillType(), StatusCode.EMPLOYED));
+                currentStates.add(new DeveloperState(developer.getDeveloperLevel(),
+                        developer.getDeveloperSkillType(), StatusCode.RETIRED));
+            }
+
+            retiredDeveloperRepository.insertFromDevelopers(employedMemberIds, retiredAt);
+            developerRepository.updateStatusCodeByMemberIdIn(employedMemberIds, StatusCode.RETIRED, retiredAt);
+            retiredMemberIds.addAll(employedMemberIds);
+        }
+
+        if (!retiredMemberIds.isEmpty()) {
+            eventPublisher.publishEvent(
+                    new DeveloperChangedEvent(DeveloperChangeType.RETIRED, new ArrayList<>(retiredMemberIds),
+                            previousStates, currentStates));
+        }
+
+        return BulkRetireDeveloper.Response.builder()
+                .retiredMemberIds(requestedMemberIds.stream()
+                        .filter(retiredMemberIds::contains)
+                        .collect(Collectors.toList()))
+                .missingMemberIds(requestedMemberIds.stream()
+                        .filter(memberId -> !retiredMemberIds.contains(memberId))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * 개발자 정보 변경 처리
+     * @param memberId {@link String}
+     * @param request {@link UpdateDeveloper.Request}
+     * @param expectedVersion {@link Long}
+     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    private DeveloperDetailDto doUpdateDeveloper(String memberId, UpdateDeveloper.Request request,
+                                                 Long expectedVersion) {
+        // 요청 DTO 는 변경하지 않음 (재시도 시 같은 요청으로 다시 추론)
+        DeveloperLevel developerLevel = resolveDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears());
+
+        Developer developer = getDeveloperByMemberId(memberId);
+        validateVersion(developer.getVersion(), expectedVersion);
+        DeveloperState previousState = DeveloperState.of(developer);
+        setDeveloperFromRequest(request, developerLevel, developer);
+        // 응답의 version(ETag)이 변경 후 값이 되도록 flush
+        developerRepository.flush();
+        eventPublisher.publishEvent(DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, memberId,
+                previousState, DeveloperState.of(developer)));
+
+        return DeveloperDetailDto.fromEntity(developer);
+    }
+
+    /**
+     * 개발자 삭제 처리
+     * @param memberId {@link String}
+     * @param expectedVersion {@link Long}
+     * @return DeveloperDetailDto {@link DeveloperDetailDto}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    private DeveloperDetailDto doDeleteDeveloper(String memberId, Long expectedVersion) {
         // 1. EMPLOYER -> RETIRED
         Developer developer = developerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+                .orElseThrow(() -> DMakerException.of(DMakerErrorCode.NO_DEVELOPER));
+        // 이미 퇴직한 개발자(재시도 요청 등)는 퇴직 기록 / 이벤트 없이 현재 상태 반환 (If-Match 버전은 확인하지 않음)
+        if (developer.getStatusCode() == StatusCode.RETIRED) {
+            return DeveloperDetailDto.fromEntity(developer);
+        }
 
+        validateVersion(developer.getVersion(), expectedVersion);
+        DeveloperState previousState = DeveloperState.of(developer);
         developer.setStatusCode(StatusCode.RETIRED);
 
-        // 2. save into RetiredDeveloper
-        RetiredDeveloper retiredDeveloper = RetiredDeveloper.builder()
-                .memberId(memberId)
-                .name(developer.getName())
-                .build();
+        // 2. save into RetiredDeveloper (커밋 시 WAL 기록 후 비동기 batch 저장)
+        retiredDeveloperWriter.write(memberId);
+        developerRepository.flush();
+        eventPublisher.publishEvent(DeveloperChangedEvent.of(DeveloperChangeType.RETIRED, memberId,
+                previousState, DeveloperState.of(developer)));
 
-        retiredDeveloperRepository.save(retiredDeveloper);
         return DeveloperDetailDto.fromEntity(developer);
     }
 
     /**
      * 개발자 정보 변경 메소드
      * @param request {@link UpdateDeveloper.Request}
+     * @param developerLevel {@link DeveloperLevel} Validation 된 레벨 (미지정 시 추론한 레벨)
      * @param developer {@link Developer}
      * @return Developer {@link Developer}
      * @author cyh68
      * @since 2023-05-08
      **/
-    private static Developer setDeveloperFromRequest(UpdateDeveloper.Request request, Developer developer) {
-        developer.setDeveloperLevel(request.getDeveloperLevel());
+    private static Developer setDeveloperFromRequest(UpdateDeveloper.Request request, DeveloperLevel developerLevel,
+                                                     Developer developer) {
+        developer.setDeveloperLevel(developerLevel);
         developer.setDeveloperSkillType(request.getDeveloperSkillType());
         developer.setExperienceYears(request.getExperienceYears());
 
@@ -141,51 +577,105 @@ public class DMakerService {
     }
 
     /**
-     * 개발자 생성 요청 정보에 대한 Validation
+     * 개발자 생성 요청 정보에 대한 Validation (레벨 미지정 시 경력연차로 추론, 요청 DTO 는 변경하지 않음)
      * @param request {@link CreateDeveloper.Request}
+     * @return DeveloperLevel {@link DeveloperLevel} 저장할 레벨
      * @author cyh68
      * @since 2023-05-08
      * @throws DMakerException
      **/
-    private void validateCreateDeveloperRequest(@NonNull CreateDeveloper.Request request) {
+    private static DeveloperLevel validateCreateDeveloperRequest(@NonNull CreateDeveloper.Request request) {
         //business validation
-        validateDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears());
-
-        developerRepository.findByMemberId(request.getMemberId())
-                .ifPresent(developer -> {
-                    throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
-                });
+        return resolveDeveloperLevel(request.getDeveloperLevel(), request.getExperienceYears());
     }
 
     /**
-     * 개발자 레벨 및 경력 Validation
-     * @param developerLevel {@link DeveloperLevel}
-     * @param experienceYears {@link Integer}
+     * 대량 생성 요청 행에 대한 Validation (Bean Validation + 비지니스 Validation)
+     * @param request {@link CreateDeveloper.Request}
+     * @return DeveloperLevel {@link DeveloperLevel} 저장할 레벨
      * @author cyh68
-     * @since 2023-05-08
+     * @since 2026-10-18
      * @throws DMakerException
      **/
-    private static void validateDeveloperLevel(DeveloperLevel developerLevel, Integer experienceYears) {
+    private DeveloperLevel validateBulkCreateDeveloperRequest(CreateDeveloper.Request request) {
+        if (request == null) {
+            throw DMakerException.of(DMakerErrorCode.NULL_VALUE);
+        }
 
-        if (experienceYears < developerLevel.getMinExperienceYears() ||
-                experienceYears > developerLevel.getMaxExperienceYears()) {
-            throw new DMakerException(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
+        Set<ConstraintViolation<CreateDeveloper.Request>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
         }
+
+        return validateCreateDeveloperRequest(request);
     }
 
     /**
-     * 개발자 레벨 및 경력 Validation - 함수형 인터페이스 사용
+     * 대량 생성 대기 중인 개발자 INSERT
+     * <p>
+     *     이미 DB에 존재하는 memberId는 실패 처리하고 나머지를 batch INSERT 한 뒤 영속성 컨텍스트를 비운다.
+     * </p>
+     * @param developers {@link Map} memberId -> Developer
+     * @param results {@link Map} memberId -> 행별 결과
+     * @param createdStates {@link List} INSERT 된 개발자 상태 누적 (헤드카운트 반영용)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private void insertDevelopers(Map<String, Developer> developers,
+                                  Map<String, BulkCreateDeveloper.Result> results,
+                                  List<DeveloperState> createdStates) {
+        if (developers.isEmpty()) {
+            return;
+        }
+
+        developerRepository.findMemberIdsByMemberIdIn(developers.keySet())
+                .forEach(memberId -> {
+                    developers.remove(memberId);
+                    results.remove(memberId).fail(DMakerErrorCode.DUPLICATED_MEMBER_ID,
+                            DMakerErrorCode.DUPLICATED_MEMBER_ID.getDescription());
+                });
+
+        developerRepository.saveAll(new ArrayList<>(developers.values()));
+        developerRepository.flush();
+        developers.values().forEach(developer -> createdStates.add(DeveloperState.of(developer)));
+        entityManager.clear();
+        results.values().forEach(result -> result.setStatus(BulkResultStatus.CREATED));
+
+        developers.clear();
+        results.clear();
+    }
+
+    /**
+     * 개발자 레벨 및 경력 Validation - V2
      * @param developerLevel {@link DeveloperLevelV2}
-     * @param experienceYears {@link Integer}
+     * @param experienceYears 경력연차
      * @author cyh68
      * @since 2023-05-08
-     * @throws 
+     * @throws DMakerException
      **/
-    private static void validateDeveloperLevelV2(DeveloperLevelV2 developerLevel, Integer experienceYears) {
+    private static void validateDeveloperLevelV2(DeveloperLevelV2 developerLevel, int experienceYears) {
 
         developerLevel.validateExperienceYears(experienceYears);
     }
 
+    /**
+     * 요청된 페이지 크기 보정 (null이면 기본값, 최대값 초과 시 최대값)
+     * @param size {@link Integer}
+     * @return int
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static int getPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_DEVELOPER_PAGE_SIZE;
+        }
+
+        return Math.max(1, Math.min(size, MAX_DEVELOPER_PAGE_SIZE));
+    }
+
     /**
      * memberId로 개발자 찾기
      * @param memberId {@link String}
@@ -197,21 +687,22 @@ public class DMakerService {
     private Developer getDeveloperByMemberId(String memberId) {
         return developerRepository.findByMemberId(memberId)
                 .orElseThrow(() -> {
-                    throw new DMakerException(DMakerErrorCode.NO_DEVELOPER);
+                    throw DMakerException.of(DMakerErrorCode.NO_DEVELOPER);
                 });
     }
 
     /**
      * CreateDeveloper.Request -> Developer 객체 변환 메소드
      * @param request {@link CreateDeveloper.Request}
+     * @param developerLevel {@link DeveloperLevel} Validation 된 레벨 (미지정 시 추론한 레벨)
      * @return Developer {@link Developer}
      * @author cyh68
      * @since 2023-05-08
      **/
-    private static Developer createDeveloperFromRequest(CreateDeveloper.Request request) {
+    private static Developer createDeveloperFromRequest(CreateDeveloper.Request request, DeveloperLevel developerLevel) {
 
         return Developer.builder()
-                .developerLevel(request.getDeveloperLevel())
+                .developerLevel(developerLevel)
                 .developerSkillType(request.getDeveloperSkillType())
                 .experienceYears(request.getExperienceYears())
                 .memberId(request.getMemberId())
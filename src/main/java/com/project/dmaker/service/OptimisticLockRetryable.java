@@ -0,0 +1,35 @@
+package com.project.dmaker.service;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_UPDATE_MAX_ATTEMPTS;
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_UPDATE_RETRY_DELAY;
+import static com.project.dmaker.constant.DMakerConstant.DEVELOPER_UPDATE_RETRY_MULTIPLIER;
+
+/**
+ * 낙관적 락 충돌 재시도 정책 (개발자 변경 / 삭제)
+ * <p>
+ *     {@link OptimisticLockingFailureException} 발생 시
+ *     {@link com.project.dmaker.constant.DMakerConstant#DEVELOPER_UPDATE_MAX_ATTEMPTS}회까지 지수 backoff(jitter)로 재시도한다.
+ *     Retry advice 는 트랜잭션 advice 보다 바깥에서 동작하므로(RetryConfig) 재시도마다 새 트랜잭션에서 다시 읽는다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(retryFor = OptimisticLockingFailureException.class,
+        maxAttempts = DEVELOPER_UPDATE_MAX_ATTEMPTS,
+        backoff = @Backoff(delay = DEVELOPER_UPDATE_RETRY_DELAY,
+                multiplier = DEVELOPER_UPDATE_RETRY_MULTIPLIER, random = true))
+public @interface OptimisticLockRetryable {
+}
@@ -0,0 +1,156 @@
+package com.project.dmaker.stats;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.datasource.ReplicaRouting;
+import com.project.dmaker.dto.DeveloperHeadcount;
+import com.project.dmaker.event.DeveloperChangedEvent;
+import com.project.dmaker.event.DeveloperState;
+import com.project.dmaker.repository.DeveloperRepository;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 개발자 헤드카운트 (레벨 x 직무 타입 x 재직 상태) 메모리 집계
+ * <p>
+ *     enum ordinal 로 인덱싱한 LongAdder 배열에 변경 이벤트의 변경 전 상태는 -1, 변경 후 상태는 +1 을
+ *     커밋 이후(AFTER_COMMIT)에 반영하므로 조회는 DB 를 거치지 않는다. (셀 수는 enum 조합 수로 고정)
+ *     기동 시 및 주기적으로 GROUP BY 집계 결과와의 차이만큼 더해 값을 다시 맞추며(reconcile),
+ *     집계 도중 커밋된 변경은 다음 reconcile 까지 오차가 있을 수 있다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@Slf4j
+@Component
+public class DeveloperHeadcounts {
+    private static final DeveloperLevel[] LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] SKILL_TYPES = DeveloperSkillType.values();
+    private static final StatusCode[] STATUS_CODES = StatusCode.values();
+
+    private final DeveloperRepository developerRepository;
+    //[level][skillType][statusCode] 를 1차원으로 펼친 셀
+    private final LongAdder[] cells = new LongAdder[LEVELS.length * SKILL_TYPES.length * STATUS_CODES.length];
+
+    public DeveloperHeadcounts(DeveloperRepository developerRepository) {
+        this.developerRepository = developerRepository;
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 조건별 인원 수 조회
+     * @param developerLevel {@link DeveloperLevel}
+     * @param developerSkillType {@link DeveloperSkillType}
+     * @param statusCode {@link StatusCode}
+     * @return long
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public long get(@NonNull DeveloperLevel developerLevel, @NonNull DeveloperSkillType developerSkillType,
+                    @NonNull StatusCode statusCode) {
+        return cells[indexOf(developerLevel, developerSkillType, statusCode)].sum();
+    }
+
+    /**
+     * 인원이 있는 모든 조합의 헤드카운트 조회
+     * @return List(DeveloperHeadcount) {@link List}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public List<DeveloperHeadcount> getAll() {
+        List<DeveloperHeadcount> headcounts = new ArrayList<>();
+        for (DeveloperLevel level : LEVELS) {
+            for (DeveloperSkillType skillType : SKILL_TYPES) {
+                for (StatusCode statusCode : STATUS_CODES) {
+                    long count = get(level, skillType, statusCode);
+                    if (count != 0) {
+                        headcounts.add(new DeveloperHeadcount(level, skillType, statusCode, count));
+                    }
+                }
+            }
+        }
+
+        return headcounts;
+    }
+
+    /**
+     * 개발자 정보 변경 커밋 이후 헤드카운트 반영
+     * @param event {@link DeveloperChangedEvent}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        for (DeveloperState state : event.getPreviousStates()) {
+            add(state, -1);
+        }
+        for (DeveloperState state : event.getCurrentStates()) {
+            add(state, 1);
+        }
+    }
+
+    /**
+     * GROUP BY 집계로 전체 헤드카운트 재설정 (기동 시 및 dmaker.stats.reconcile-interval 주기)
+     * <p>
+     *     복제 지연된 집계로 맞추지 않도록 primary 에서 조회한다.
+     * </p>
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${dmaker.stats.reconcile-interval:PT5M}",
+            initialDelayString = "${dmaker.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long[] counts = new long[cells.length];
+        for (DeveloperHeadcount headcount : ReplicaRouting.onPrimary(developerRepository::countHeadcounts)) {
+            int index = indexOf(headcount.getDeveloperLevel(), headcount.getDeveloperSkillType(),
+                    headcount.getStatusCode());
+            if (index >= 0) {
+                counts[index] = headcount.getCount();
+            }
+        }
+
+        long drift = 0;
+        for (int i = 0; i < cells.length; i++) {
+            long current = cells[i].sum();
+            if (current != counts[i]) {
+                drift += Math.abs(counts[i] - current);
+                cells[i].add(counts[i] - current);
+            }
+        }
+        if (drift != 0) {
+            log.info("developer headcounts reconciled (drift: {})", drift);
+        }
+    }
+
+    private void add(DeveloperState state, long delta) {
+        int index = indexOf(state.getDeveloperLevel(), state.getDeveloperSkillType(), state.getStatusCode());
+        if (index >= 0) {
+            cells[index].add(delta);
+        }
+    }
+
+    //레벨/직무 타입/재직 상태 중 하나라도 없으면 -1 (집계 제외)
+    private static int indexOf(DeveloperLevel developerLevel, DeveloperSkillType developerSkillType,
+                               StatusCode statusCode) {
+        if (developerLevel == null || developerSkillType == null || statusCode == null) {
+            return -1;
+        }
+
+        return (developerLevel.ordinal() * SKILL_TYPES.length + developerSkillType.ordinal())
+                * STATUS_CODES.length + statusCode.ordinal();
+    }
+}
@@ -30,7 +30,62 @@ public enum DeveloperLevel {
     //설명
     private final String description;
     //최소 경력연차
-    private final Integer minExperienceYears;
+    private final int minExperienceYears;
     //최대 경력연차
-    private final Integer maxExperienceYears;
+    private final int maxExperienceYears;
+
+    //경력연차 -> 레벨 조회 테이블 (index: 경력연차, 어느 레벨 범위에도 속하지 않으면 null)
+    private static final DeveloperLevel[] LEVEL_BY_EXPERIENCE_YEARS = createLevelTable();
+
+    /**
+     * 경력연차에 해당하는 레벨 조회 (레벨 미지정 요청의 레벨 추론용)
+     * @param experienceYears 경력연차
+     * @return DeveloperLevel {@link DeveloperLevel} 해당 레벨이 없으면 null
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static DeveloperLevel fromExperienceYears(int experienceYears) {
+        if (experienceYears < 0 || experienceYears >= LEVEL_BY_EXPERIENCE_YEARS.length) {
+            return null;
+        }
+
+        return LEVEL_BY_EXPERIENCE_YEARS[experienceYears];
+    }
+
+    /**
+     * 경력연차가 레벨 범위에 속하는지 확인
+     * @param experienceYears 경력연차
+     * @return boolean
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public boolean isExperienceYearsMatched(int experienceYears) {
+        return fromExperienceYears(experienceYears) == this;
+    }
+
+    /**
+     * 레벨별 경력연차 범위로 조회 테이블 생성 (범위가 겹치면 기동 시 실패)
+     * @return DeveloperLevel[]
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static DeveloperLevel[] createLevelTable() {
+        int maxExperienceYears = 0;
+        for (DeveloperLevel level : values()) {
+            maxExperienceYears = Math.max(maxExperienceYears, level.maxExperienceYears);
+        }
+
+        DeveloperLevel[] table = new DeveloperLevel[maxExperienceYears + 1];
+        for (DeveloperLevel level : values()) {
+            for (int years = level.minExperienceYears; years <= level.maxExperienceYears; years++) {
+                if (table[years] != null) {
+                    throw new IllegalStateException("경력연차 " + years + " 가 " + table[years] + ", "
+                            + level + " 레벨 범위에 중복됩니다.");
+                }
+                table[years] = level;
+            }
+        }
+
+        return table;
+    }
 }
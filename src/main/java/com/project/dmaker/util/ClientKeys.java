@@ -0,0 +1,37 @@
+package com.project.dmaker.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+
+/**
+ * 요청 client 식별 key (요청 수 제한, Idempotency-Key 저장 범위)
+ * <p>
+ *     인증된 사용자가 있으면 사용자 이름, 없으면 접속 IP 를 사용한다.
+ *     client 가 보내는 header 값은 위조할 수 있으므로 사용하지 않으며,
+ *     proxy 뒤에서는 server.forward-headers-strategy 로 접속 IP 를 복원한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class ClientKeys {
+
+    private ClientKeys() {
+    }
+
+    /**
+     * 요청 client 식별 key 조회
+     * @param request {@link HttpServletRequest}
+     * @return String principal:{사용자 이름} 또는 address:{접속 IP}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static String of(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+
+        return principal != null && StringUtils.hasText(principal.getName())
+                ? "principal:" + principal.getName()
+                : "address:" + request.getRemoteAddr();
+    }
+}
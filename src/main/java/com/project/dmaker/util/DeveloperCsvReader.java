@@ -0,0 +1,204 @@
+package com.project.dmaker.util;
+
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * CSV -> CreateDeveloper.Request 스트리밍 변환 클래스
+ * <p>
+ *     첫 줄은 헤더(developerLevel,developerSkillType,experienceYears,memberId,name,age)이며 컬럼 순서는 자유롭다.
+ *     한 행(record)씩 읽어 변환하므로 파일 크기와 무관하게 메모리에 전체를 올리지 않는다.
+ *     값은 RFC 4180 형식으로 큰따옴표로 감쌀 수 있으며, 큰따옴표 안의 쉼표 / 줄바꿈 / "" 이스케이프는 값으로 읽는다.
+ *     (큰따옴표 안의 줄바꿈은 값에 \n 으로 들어가고, 여러 줄에 걸친 행은 한 행으로 처리한다)
+ *     형식 오류(알 수 없는 컬럼 값, 숫자 변환 실패 등)는 INVALID_REQUEST 예외로 요청 전체를 거부한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public class DeveloperCsvReader implements Iterator<CreateDeveloper.Request>, Closeable {
+    private static final String[] COLUMNS =
+            {"developerLevel", "developerSkillType", "experienceYears", "memberId", "name", "age"};
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    //마지막으로 읽은 물리적 줄 번호
+    private int lineNumber;
+    //nextValues 행이 시작된 줄 번호 (오류 메시지용)
+    private int recordLineNumber;
+    private List<String> nextValues;
+
+    public DeveloperCsvReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+        readHeader();
+        this.nextValues = readRecord();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextValues != null;
+    }
+
+    @Override
+    public CreateDeveloper.Request next() {
+        if (nextValues == null) {
+            throw new NoSuchElementException();
+        }
+
+        List<String> values = nextValues;
+        CreateDeveloper.Request request = CreateDeveloper.Request.builder()
+                .developerLevel(toEnum(DeveloperLevel.class, value(values, "developerLevel")))
+                .developerSkillType(toEnum(DeveloperSkillType.class, value(values, "developerSkillType")))
+                .experienceYears(toInteger(value(values, "experienceYears")))
+                .memberId(value(values, "memberId"))
+                .name(value(values, "name"))
+                .age(toInteger(value(values, "age")))
+                .build();
+
+        nextValues = readRecord();
+        return request;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() {
+        List<String> names = readRecord();
+        if (names == null) {
+            throw invalid("CSV 헤더가 없습니다.");
+        }
+
+        //UTF-8 BOM 제거
+        if (!names.isEmpty() && names.get(0).startsWith("\uFEFF")) {
+            names.set(0, names.get(0).substring(1));
+        }
+        for (int i = 0; i < names.size(); i++) {
+            columnIndexes.put(names.get(i), i);
+        }
+        for (String column : COLUMNS) {
+            if (!columnIndexes.containsKey(column)) {
+                throw invalid("CSV 헤더에 " + column + " 컬럼이 없습니다.");
+            }
+        }
+    }
+
+    /**
+     * 다음 행 읽기 (빈 줄은 건너뛰고, 큰따옴표가 닫히지 않은 줄은 다음 줄과 이어 한 행으로 파싱)
+     **/
+    private List<String> readRecord() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+            recordLineNumber = lineNumber;
+            if (line == null) {
+                return null;
+            }
+
+            StringBuilder record = new StringBuilder(line);
+            //"" 이스케이프는 따옴표 2개이므로, 따옴표 수가 홀수면 값이 아직 닫히지 않은 것
+            boolean quoted = countQuotes(line) % 2 == 1;
+            while (quoted) {
+                line = reader.readLine();
+                if (line == null) {
+                    throw invalid("닫히지 않은 큰따옴표가 있습니다.");
+                }
+                lineNumber++;
+                record.append('\n').append(line);
+                quoted = (countQuotes(line) % 2 == 1) != quoted;
+            }
+            return parseRecord(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int countQuotes(String line) {
+        int count = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String value(List<String> values, String column) {
+        int index = columnIndexes.get(column);
+        if (index >= values.size() || values.get(index).isEmpty()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    private <E extends Enum<E>> E toEnum(Class<E> type, String value) {
+        try {
+            return value == null ? null : Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw invalid("알 수 없는 " + type.getSimpleName() + " 값입니다: " + value);
+        }
+    }
+
+    private Integer toInteger(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw invalid("숫자 형식이 아닙니다: " + value);
+        }
+    }
+
+    private DMakerException invalid(String message) {
+        return new DMakerException(DMakerErrorCode.INVALID_REQUEST, "CSV " + recordLineNumber + "행: " + message);
+    }
+
+    /**
+     * CSV 한 행 파싱 (RFC 4180 - 큰따옴표로 감싼 값, "" 이스케이프, 값 안의 줄바꿈 지원)
+     **/
+    private List<String> parseRecord(CharSequence line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString().trim());
+
+        return values;
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.dmaker.util;
+
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.type.DeveloperLevel;
+
+/**
+ * 개발자 비지니스 Validation (blocking / reactive 서비스 공통)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class DeveloperValidations {
+
+    private DeveloperValidations() {
+    }
+
+    /**
+     * 요청 레벨 확정 - 레벨이 없으면 경력연차로 추론하고, 있으면 경력연차와 일치하는지 Validation
+     * @param developerLevel {@link DeveloperLevel} null 이면 추론
+     * @param experienceYears 경력연차
+     * @return DeveloperLevel {@link DeveloperLevel}
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public static DeveloperLevel resolveDeveloperLevel(DeveloperLevel developerLevel, int experienceYears) {
+        DeveloperLevel resolvedLevel = developerLevel == null
+                ? DeveloperLevel.fromExperienceYears(experienceYears)
+                : developerLevel;
+        if (resolvedLevel == null || !resolvedLevel.isExperienceYearsMatched(experienceYears)) {
+            throw DMakerException.of(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
+        }
+
+        return resolvedLevel;
+    }
+
+    /**
+     * If-Match 버전 Validation
+     * @param currentVersion {@link Long} 현재 버전
+     * @param expectedVersion {@link Long} null이면 확인하지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public static void validateVersion(Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw DMakerException.of(DMakerErrorCode.DEVELOPER_VERSION_CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.dmaker.util;
+
+import com.project.dmaker.exception.DMakerErrorCode;
+import com.project.dmaker.exception.DMakerException;
+
+/**
+ * 낙관적 락 버전 <-> ETag / If-Match 값 변환 (blocking / reactive API 공통)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class VersionETags {
+
+    private VersionETags() {
+    }
+
+    /**
+     * 버전 -> ETag 값 변환 (버전이 없으면 null)
+     * @param version {@link Long}
+     * @return String "{버전}"
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static String format(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더 값 -> 버전 변환 ("3", W/"3" 형식 허용, 없거나 * 이면 null)
+     * @param ifMatch {@link String}
+     * @return Long
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws DMakerException
+     **/
+    public static Long parse(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "잘못된 If-Match 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- memberId 단건 조회(상세/변경/삭제) 및 중복 체크
+alter table developer add constraint uk_developer_member_id unique (member_id);
+
+-- 재직 상태별 리스트 조회 및 id 기준 keyset 페이지네이션 (status_code = ? and id > ? order by id)
+create index idx_developer_status_code on developer (status_code, id);
@@ -0,0 +1,7 @@
+-- IDENTITY 전략은 INSERT 배치가 불가능하므로 pooled sequence(allocationSize = 50)로 전환
+create sequence developer_seq start with 1 increment by 50;
+
+-- pooled optimizer는 nextval 값을 블록의 상한으로 사용하므로 (기존 최대 id + increment)부터 시작
+alter sequence developer_seq restart with (select coalesce(max(id), 0) + 50 from developer);
+
+alter table developer alter column id drop identity;
@@ -0,0 +1,2 @@
+-- Developer 낙관적 락(@Version) 컬럼, 기존 행은 0부터 시작
+alter table developer add column version bigint default 0 not null;
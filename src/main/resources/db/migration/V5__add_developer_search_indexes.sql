@@ -0,0 +1,14 @@
+-- 개발자 검색 (GET /developers/search) 조건별 복합 인덱스
+-- 재직 상태는 항상 조건에 포함되므로 선두 컬럼으로 두고, id 를 마지막에 두어 keyset 정렬(order by id)을 인덱스 순서로 처리
+
+-- 레벨 검색 (status_code = ? and developer_level = ? and id > ? order by id)
+create index idx_developer_status_level on developer (status_code, developer_level, id);
+
+-- 직무 타입 검색 (status_code = ? and developer_skill_type = ? and id > ? order by id)
+create index idx_developer_status_skill_type on developer (status_code, developer_skill_type, id);
+
+-- 경력 연차 범위 검색 및 경력 연차 정렬 (status_code = ? and experience_years between ? and ? order by experience_years, id)
+create index idx_developer_status_experience on developer (status_code, experience_years, id);
+
+-- 이름 prefix 검색 (name like 'prefix%')
+create index idx_developer_name on developer (name);
@@ -0,0 +1,20 @@
+-- 개발자 변경 이벤트 outbox
+-- DMakerService 의 변경 트랜잭션에서 INSERT 하고, DeveloperOutboxRelay 가 sink 로 발행하면서 feed_offset 을 부여한다.
+-- 발행 순서대로 증가하는 feed_offset 을 change feed (GET /developers/changes?offset=) 의 커서로 사용한다.
+create sequence developer_outbox_seq start with 1 increment by 50;
+
+create table developer_outbox (
+    id bigint not null,
+    member_id varchar(255) not null,
+    change_type varchar(255) not null,
+    developer_level varchar(255),
+    developer_skill_type varchar(255),
+    status_code varchar(255),
+    create_at timestamp(6),
+    feed_offset bigint,
+    published_at timestamp(6),
+    primary key (id)
+);
+
+-- 미발행 조회 (feed_offset is null) 및 change feed 조회 (feed_offset > ? order by feed_offset)
+create unique index uk_developer_outbox_feed_offset on developer_outbox (feed_offset);
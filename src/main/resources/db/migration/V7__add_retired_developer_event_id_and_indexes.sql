@@ -0,0 +1,11 @@
+-- 퇴직 기록 비동기 저장 (RetiredDeveloperWriter) 의 중복 저장 방지 키
+-- WAL 재처리 시 이미 저장된 기록은 건너뛰며, 대량 퇴직(INSERT ... SELECT)으로 저장된 기록은 null
+alter table retired_developer add column event_id varchar(36);
+create unique index uk_retired_developer_event_id on retired_developer (event_id);
+
+-- 퇴직 이력 조회 (member_id = ? and create_at between ? and ? order by create_at desc)
+create index idx_retired_developer_member_id_create_at on retired_developer (member_id, create_at);
+
+-- 퇴직 기록 -> 개발자 연결 (developer.member_id 유니크 제약조건 참조)
+alter table retired_developer add constraint fk_retired_developer_member_id
+    foreign key (member_id) references developer (member_id);
@@ -0,0 +1,9 @@
+-- replica 복제 지연 확인용 heartbeat (dmaker.datasource.replica.enabled=true 일 때 사용)
+-- ReplicaHealthMonitor 가 primary 에 현재 시각을 기록하고, replica 에 복제된 값과의 차이를 복제 지연으로 본다.
+create table replication_heartbeat (
+    id int not null,
+    beat_at timestamp(6) not null,
+    primary key (id)
+);
+
+insert into replication_heartbeat (id, beat_at) values (1, current_timestamp);
@@ -0,0 +1,109 @@
+package com.project.dmaker.cache;
+
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.service.DMakerService;
+import com.project.dmaker.type.DeveloperLevel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.project.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.project.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 개발자 상세 조회 캐시 통합 테스트 (H2) - 커밋 이후 무효화 검증
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class DeveloperDetailCacheTest {
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 변경 커밋 이후 캐시가 무효화되어 변경된 값이 조회되는지 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_evicted_after_commit() {
+        //given
+        createDeveloper("cache-commit");
+        dMakerService.getDeveloperDetail("cache-commit");
+        double hits = getCacheGets("hit");
+
+        //when
+        dMakerService.getDeveloperDetail("cache-commit");
+        dMakerService.updateDeveloper("cache-commit", getUpdateRequest(JUNGNIOR, 7));
+
+        //then
+        assertEquals(hits + 1, getCacheGets("hit"));
+        assertEquals(JUNGNIOR, dMakerService.getDeveloperDetail("cache-commit").getDeveloperLevel());
+        assertEquals(7, dMakerService.getDeveloperDetail("cache-commit").getExperienceYears());
+    }
+
+    /**
+     * 롤백된 변경은 캐시를 무효화하지 않고, 트랜잭션 진행 중에도 커밋된 값이 조회되는지 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_not_evicted_on_rollback() {
+        //given
+        createDeveloper("cache-rollback");
+        dMakerService.getDeveloperDetail("cache-rollback");
+        double misses = getCacheGets("miss");
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            dMakerService.updateDeveloper("cache-rollback", getUpdateRequest(JUNGNIOR, 7));
+            assertEquals(SENIOR, dMakerService.getDeveloperDetail("cache-rollback").getDeveloperLevel());
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertEquals(SENIOR, dMakerService.getDeveloperDetail("cache-rollback").getDeveloperLevel());
+        assertEquals(misses, getCacheGets("miss"));
+    }
+
+    private void createDeveloper(String memberId) {
+        dMakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(35)
+                .build());
+    }
+
+    private static UpdateDeveloper.Request getUpdateRequest(
+            DeveloperLevel developerLevel, Integer experienceYears) {
+        return UpdateDeveloper.Request.builder()
+                .developerLevel(developerLevel)
+                .developerSkillType(FRONT_END)
+                .experienceYears(experienceYears)
+                .build();
+    }
+
+    private double getCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", DeveloperDetailCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.dmaker.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 가상 스레드 요청 처리 모드 Config 테스트
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class VirtualThreadConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(VirtualThreadConfig.class);
+
+    /**
+     * 기본값(비활성) 테스트 - Tomcat 기본 스레드 pool 및 기본 비동기 executor 유지
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void virtualThreadConfigTest_disabled_by_default() {
+        contextRunner.run(context -> {
+            assertEquals(0, context.getBeansOfType(TomcatProtocolHandlerCustomizer.class).size());
+            assertTrue(context.getBean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                    instanceof ThreadPoolTaskExecutor);
+        });
+    }
+
+    /**
+     * 활성화 테스트 - JDK 21 이상이면 가상 스레드에서 실행, 미만이면 기동 실패
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void virtualThreadConfigTest_enabled() {
+        contextRunner.withPropertyValues("dmaker.virtual-threads.enabled=true")
+                .run(context -> {
+                    if (Runtime.version().feature() < 21) {
+                        assertNotNull(context.getStartupFailure());
+                        assertTrue(context.getStartupFailure().getMessage().contains("JDK 21"));
+                        return;
+                    }
+
+                    assertEquals(1, context.getBeansOfType(TomcatProtocolHandlerCustomizer.class).size());
+                    AsyncTaskExecutor executor = context.getBean(
+                            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncTaskExecutor.class);
+                    assertEquals(true, executor.submit(() -> Thread.class.getMethod("isVirtual")
+                            .invoke(Thread.currentThread())).get());
+                });
+    }
+}
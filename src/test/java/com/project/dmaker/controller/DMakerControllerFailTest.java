@@ -2,20 +2,41 @@ package com.project.dmaker.controller;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.dto.BulkRetireDeveloper;
 import com.project.dmaker.dto.CreateDeveloper;
 import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.exception.DMakerException;
 import com.project.dmaker.type.DeveloperLevel;
 import com.project.dmaker.type.DeveloperSkillType;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static com.project.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
+import static com.project.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.project.dmaker.exception.DMakerErrorCode.INTERNAL_SERVER_ERROR;
+import static com.project.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
 import static com.project.dmaker.type.DeveloperLevel.SENIOR;
 import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
-import static com.project.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -38,10 +59,27 @@ public class DMakerControllerFailTest extends DMakerControllerTest {
      * @since 2023-05-09
      **/
     private static CreateDeveloper.Request getDefaultFailRequest() {
-        //developerLevel is missing
+        //developerSkillType is missing
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .experienceYears(15)
+                .memberId("member")
+                .name("steve")
+                .age(24)
+                .build();
+    }
+
+    /**
+     * CreateDeveloper.Request 정상 샘플 데이터 (DB 제약조건 위반 케이스용)
+     * @return CreateDeveloper.Request {@link CreateDeveloper.Request}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static CreateDeveloper.Request getValidRequest() {
         return CreateDeveloper.Request.builder()
-                .developerSkillType(FRONT_END)
-                .experienceYears(5)
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(15)
                 .memberId("member")
                 .name("steve")
                 .age(24)
@@ -63,6 +101,20 @@ public class DMakerControllerFailTest extends DMakerControllerTest {
                 .build();
     }
 
+    /**
+     * UpdateDeveloper.Request 정상 샘플 데이터 (버전 충돌 케이스용)
+     * @return UpdateDeveloper.Request {@link UpdateDeveloper.Request}
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static UpdateDeveloper.Request getValidUpdateRequest() {
+        return UpdateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(15)
+                .build();
+    }
+
     /**
      * 개발자 생성 Fail Test - invalid request
      * @author cyh68
@@ -80,6 +132,51 @@ public class DMakerControllerFailTest extends DMakerControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    /**
+     * 개발자 생성 Fail Test - memberId 유니크 제약조건 위반
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_duplicated_member_id() throws Exception {
+        //given
+        given(dMakerService.createDeveloper(any()))
+                .willThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("Unique index or primary key violation",
+                                new SQLException("duplicated", "23505"),
+                                "PUBLIC.UK_DEVELOPER_MEMBER_ID_INDEX_2 ON PUBLIC.DEVELOPER(MEMBER_ID)")));
+
+        //when
+        //then
+        mockMvc.perform(post("/create-developer")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(getValidRequest())))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode", is(DUPLICATED_MEMBER_ID.name())));
+    }
+
+    /**
+     * 개발자 생성 Fail Test - memberId 외 제약조건 위반
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_other_constraint() throws Exception {
+        //given
+        given(dMakerService.createDeveloper(any()))
+                .willThrow(new DataIntegrityViolationException("NULL not allowed for column"));
+
+        //when
+        //then
+        mockMvc.perform(post("/create-developer")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(getValidRequest())))
+                .andDo(print())
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorCode", is(INTERNAL_SERVER_ERROR.name())));
+    }
+
     /**
      * 개발자 정보 변경 Fail Test - invalid request
      * @author cyh68
@@ -96,4 +193,105 @@ public class DMakerControllerFailTest extends DMakerControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest());
     }
+
+    /**
+     * 개발자 정보 변경 Fail Test - If-Match 버전 불일치
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_failed_with_version_conflict() throws Exception {
+        //given
+        given(dMakerService.updateDeveloper(eq("testId"), any(), eq(1L)))
+                .willThrow(new DMakerException(DEVELOPER_VERSION_CONFLICT));
+        //when
+        //then
+        mockMvc.perform(put("/developer/{memberId}", "testId")
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(getValidUpdateRequest())))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errorCode", is(DEVELOPER_VERSION_CONFLICT.name())))
+                .andExpect(jsonPath("$.errorMessage", is(DEVELOPER_VERSION_CONFLICT.getDescription())));
+    }
+
+    /**
+     * 개발자 삭제 Fail Test - 재시도 후에도 낙관적 락 충돌
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void deleteDeveloperTest_failed_with_optimistic_locking_failure() throws Exception {
+        //given
+        given(dMakerService.deleteDeveloper(eq("testId"), isNull()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Developer.class, 1L));
+        //when
+        //then
+        mockMvc.perform(delete("/developer/{memberId}", "testId"))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode", is(DEVELOPER_VERSION_CONFLICT.name())));
+    }
+
+    /**
+     * 개발자 정보 변경 Fail Test - 잘못된 If-Match 값
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_failed_with_invalid_if_match() throws Exception {
+        //given
+        //when
+        //then
+        mockMvc.perform(put("/developer/{memberId}", "testId")
+                        .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(getValidUpdateRequest())))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode", is(INVALID_REQUEST.name())))
+                .andExpect(jsonPath("$.errorMessage", is("잘못된 If-Match 값입니다.")));
+    }
+
+    /**
+     * 개발자 검색 Fail Test - invalid request (경력 연차 범위 음수, 존재하지 않는 정렬)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void searchDevelopersTest_failed_with_invalid_request() throws Exception {
+        //given
+        //when
+        //then
+        mockMvc.perform(get("/developers/search")
+                        .param("minExperienceYears", "-1"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/developers/search")
+                        .param("sort", "NAME"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * 개발자 대량 퇴직 처리 Fail Test - empty memberIds
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void retireDevelopersTest_failed_with_empty_member_ids() throws Exception {
+        //given
+        //when
+        //then
+        mockMvc.perform(post("/developers/retire")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(BulkRetireDeveloper.Request.builder()
+                                .memberIds(Collections.emptyList())
+                                .build())))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
 }
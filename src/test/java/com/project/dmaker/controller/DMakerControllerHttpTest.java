@@ -0,0 +1,192 @@
+package com.project.dmaker.controller;
+
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.service.DMakerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.project.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.project.dmaker.type.DeveloperLevel.NEW;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 조건부 조회(ETag / Last-Modified) 및 응답 압축 통합 테스트 (실제 HTTP, 전송 바이트 확인)
+ * <p>
+ *     java.net.http.HttpClient 는 응답을 자동으로 압축 해제하지 않으므로 받은 본문 길이가 전송된 본문 바이트 수이다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+class DMakerControllerHttpTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    /**
+     * 개발자 조회 Test - If-None-Match 가 현재 버전과 같으면 본문 없이 304, 변경 후에는 200
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_not_modified_with_if_none_match() throws Exception {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("http-etag"));
+        HttpResponse<byte[]> first = get("/developer/http-etag");
+        String eTag = first.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+        assertEquals(200, first.statusCode());
+        assertEquals("\"0\"", eTag);
+        assertTrue(first.headers().firstValue(HttpHeaders.LAST_MODIFIED).isPresent());
+        assertTrue(first.body().length > 0);
+
+        //when
+        HttpResponse<byte[]> notModified = get("/developer/http-etag", HttpHeaders.IF_NONE_MATCH, eTag);
+
+        //then
+        assertEquals(304, notModified.statusCode());
+        assertEquals(0, notModified.body().length);
+        assertEquals(eTag, notModified.headers().firstValue(HttpHeaders.ETAG).orElseThrow());
+
+        //when
+        dMakerService.updateDeveloper("http-etag", UpdateDeveloper.Request.builder()
+                .developerLevel(JUNGNIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(7)
+                .build());
+        HttpResponse<byte[]> modified = get("/developer/http-etag", HttpHeaders.IF_NONE_MATCH, eTag);
+
+        //then
+        assertEquals(200, modified.statusCode());
+        assertEquals("\"1\"", modified.headers().firstValue(HttpHeaders.ETAG).orElseThrow());
+        assertTrue(modified.body().length > 0);
+    }
+
+    /**
+     * 개발자 조회 Test - If-Modified-Since 가 Last-Modified 이후면 본문 없이 304
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_not_modified_with_if_modified_since() throws Exception {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("http-last-modified"));
+        String lastModified = get("/developer/http-last-modified").headers()
+                .firstValue(HttpHeaders.LAST_MODIFIED).orElseThrow();
+
+        //when
+        HttpResponse<byte[]> notModified = get("/developer/http-last-modified",
+                HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+
+        //then
+        assertEquals(304, notModified.statusCode());
+        assertEquals(0, notModified.body().length);
+    }
+
+    /**
+     * 모든 개발자 조회 Test - Accept-Encoding: gzip 이면 압축된 본문 전송 (압축 해제 시 원본과 동일)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getAllDevelopersTest_compressed_with_gzip() throws Exception {
+        //given
+        List<CreateDeveloper.Request> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            requests.add(getCreateRequest("http-gzip" + i));
+        }
+        dMakerService.createDevelopers(requests.iterator());
+
+        //when
+        HttpResponse<byte[]> identity = get("/developers");
+        HttpResponse<byte[]> gzip = get("/developers", HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        //then
+        assertFalse(identity.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isPresent());
+        assertEquals("gzip", gzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElseThrow());
+        assertTrue(gzip.body().length * 5 < identity.body().length,
+                "gzip: " + gzip.body().length + " bytes, identity: " + identity.body().length + " bytes");
+        assertArrayEquals(identity.body(), gunzip(gzip.body()));
+
+        //when (압축 응답의 ETag 로도 304)
+        HttpResponse<byte[]> notModified = get("/developers",
+                HttpHeaders.ACCEPT_ENCODING, "gzip",
+                HttpHeaders.IF_NONE_MATCH, gzip.headers().firstValue(HttpHeaders.ETAG).orElseThrow());
+
+        //then
+        assertEquals(304, notModified.statusCode());
+        assertEquals(0, notModified.body().length);
+    }
+
+    /**
+     * 개발자 조회 Test - min-response-size 미만 응답은 압축하지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_not_compressed_below_min_response_size() throws Exception {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("http-small"));
+
+        //when
+        HttpResponse<byte[]> response = get("/developer/http-small", HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        //then
+        assertEquals(200, response.statusCode());
+        assertFalse(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isPresent());
+        assertNotEquals(0, response.body().length);
+    }
+
+    private HttpResponse<byte[]> get(String path, String... headers) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(NEW)
+                .developerSkillType(BACK_END)
+                .experienceYears(0)
+                .memberId(memberId)
+                .name("name")
+                .age(25)
+                .build();
+    }
+}
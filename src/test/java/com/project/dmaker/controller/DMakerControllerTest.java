@@ -1,36 +1,68 @@
 package com.project.dmaker.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.cache.EmployedDevelopersCache;
+import com.project.dmaker.code.BulkResultStatus;
+import com.project.dmaker.code.DeveloperChangeType;
+import com.project.dmaker.code.DeveloperSortType;
+import com.project.dmaker.dto.BulkCreateDeveloper;
+import com.project.dmaker.dto.BulkRetireDeveloper;
 import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperChange;
+import com.project.dmaker.dto.DeveloperChangeFeed;
 import com.project.dmaker.dto.DeveloperDetailDto;
 import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.DeveloperHeadcount;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.dto.RetiredDeveloperDto;
+import com.project.dmaker.dto.SearchDeveloper;
 import com.project.dmaker.dto.UpdateDeveloper;
 import com.project.dmaker.entity.RetiredDeveloper;
 import com.project.dmaker.service.DMakerService;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.project.dmaker.code.StatusCode.EMPLOYED;
 import static com.project.dmaker.code.StatusCode.RETIRED;
 import static com.project.dmaker.constant.DMakerConstant.MIN_SENIOR_EXPERIENCE_YEARS;
+import static com.project.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
 import static com.project.dmaker.type.DeveloperLevel.JUNIOR;
 import static com.project.dmaker.type.DeveloperLevel.SENIOR;
 import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
 import static com.project.dmaker.type.DeveloperSkillType.FRONT_END;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -51,7 +83,7 @@ class DMakerControllerTest {
     private MockMvc mockMvc;
 
     @MockBean
-    private DMakerService dMakerService;
+    protected DMakerService dMakerService;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -71,6 +103,7 @@ class DMakerControllerTest {
                 .statusCode(EMPLOYED)
                 .name("시니어")
                 .age(30)
+                .version(1L)
                 .build();
     }
 
@@ -160,14 +193,19 @@ class DMakerControllerTest {
                 .memberId("memberId2")
                 .build();
 
-        given(dMakerService.getAllEmployedDevelopers())
-                .willReturn(Arrays.asList(junior, senior));
+        EmployedDevelopersCache.Snapshot snapshot =
+                new EmployedDevelopersCache().get(() -> Arrays.asList(junior, senior));
+        given(dMakerService.getEmployedDevelopersETag())
+                .willReturn(snapshot.getETag());
+        given(dMakerService.getEmployedDevelopersSnapshot())
+                .willReturn(snapshot);
 
         //when
         //then
         mockMvc.perform(get("/developers").contentType(contentType))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
                 .andExpect(jsonPath("$.[0].developerSkillType", is(BACK_END.name())))
                 .andExpect(jsonPath("$.[0].developerLevel", is(JUNIOR.name())))
                 .andExpect(jsonPath("$.[1].developerSkillType", is(BACK_END.name())))
@@ -175,6 +213,228 @@ class DMakerControllerTest {
                 );
     }
 
+    /**
+     * 모든 개발자 조회 테스트 - If-None-Match가 현재 ETag와 같으면 스냅샷 조회 없이 304
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getAllDevelopersTest_not_modified() throws Exception {
+        //given
+        given(dMakerService.getEmployedDevelopersETag())
+                .willReturn("\"1-3\"");
+
+        //when
+        //then
+        mockMvc.perform(get("/developers").header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(content().string(""));
+
+        verify(dMakerService, never()).getEmployedDevelopersSnapshot();
+    }
+
+    /**
+     * 개발자 리스트 페이지 조회 테스트
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDevelopersPageTest_success() throws Exception {
+        //given
+        DeveloperDto junior = DeveloperDto.builder()
+                .developerLevel(JUNIOR)
+                .developerSkillType(BACK_END)
+                .memberId("memberId1")
+                .build();
+
+        given(dMakerService.getEmployedDevelopersPage(isNull(), eq(1)))
+                .willReturn(DeveloperPage.builder()
+                        .developers(Arrays.asList(junior))
+                        .nextCursor(DeveloperPage.encodeCursor(1L))
+                        .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/developers/page")
+                        .param("size", "1")
+                        .contentType(contentType))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.developers[0].memberId", is("memberId1")))
+                .andExpect(jsonPath("$.nextCursor", is(DeveloperPage.encodeCursor(1L))));
+    }
+
+    /**
+     * 개발자 검색 테스트 - 조건 바인딩 및 선택하지 않은 필드 제외
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void searchDevelopersTest_success() throws Exception {
+        //given
+        DeveloperDto senior = DeveloperDto.builder()
+                .memberId("memberId1")
+                .build();
+
+        ArgumentCaptor<SearchDeveloper.Request> captor = ArgumentCaptor.forClass(SearchDeveloper.Request.class);
+        given(dMakerService.searchDevelopers(captor.capture()))
+                .willReturn(DeveloperPage.builder()
+                        .developers(Arrays.asList(senior))
+                        .build());
+
+        //when
+        mockMvc.perform(get("/developers/search")
+                        .param("developerSkillType", "BACK_END")
+                        .param("minExperienceYears", "10")
+                        .param("namePrefix", "ste")
+                        .param("sort", "EXPERIENCE_YEARS_DESC")
+                        .param("fields", "memberId")
+                        .contentType(contentType))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.developers[0].memberId", is("memberId1")))
+                .andExpect(jsonPath("$.developers[0].developerLevel").doesNotExist())
+                .andExpect(jsonPath("$.developers[0].developerSkillType").doesNotExist());
+
+        //then
+        SearchDeveloper.Request request = captor.getValue();
+        assertEquals(BACK_END, request.getDeveloperSkillType());
+        assertEquals(10, request.getMinExperienceYears());
+        assertEquals("ste", request.getNamePrefix());
+        assertEquals(DeveloperSortType.EXPERIENCE_YEARS_DESC, request.getSort());
+        assertEquals(Set.of("memberId"), request.getFields());
+        assertNull(request.getDeveloperLevel());
+    }
+
+    /**
+     * 개발자 퇴직 이력 조회 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getRetiredDeveloperHistoryTest_success() throws Exception {
+        //given
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        given(dMakerService.getRetiredDeveloperHistory("memberId", from, null))
+                .willReturn(Arrays.asList(new RetiredDeveloperDto("memberId", "name", from.plusDays(1))));
+
+        //when
+        //then
+        mockMvc.perform(get("/developer/{memberId}/retired-history", "memberId")
+                        .param("from", "2026-01-01T00:00:00")
+                        .contentType(contentType))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].memberId", is("memberId")))
+                .andExpect(jsonPath("$[0].retiredAt", is("2026-01-02T00:00:00")));
+    }
+
+    /**
+     * 개발자 change feed 조회 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperChangesTest_success() throws Exception {
+        //given
+        given(dMakerService.getDeveloperChanges(10L, 50))
+                .willReturn(DeveloperChangeFeed.builder()
+                        .changes(Arrays.asList(DeveloperChange.builder()
+                                .offset(11L)
+                                .eventId(101L)
+                                .memberId("memberId1")
+                                .changeType(DeveloperChangeType.RETIRED)
+                                .statusCode(RETIRED)
+                                .build()))
+                        .nextOffset(11L)
+                        .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/developers/changes")
+                        .param("offset", "10")
+                        .param("size", "50")
+                        .contentType(contentType))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].offset", is(11)))
+                .andExpect(jsonPath("$.changes[0].memberId", is("memberId1")))
+                .andExpect(jsonPath("$.changes[0].changeType", is(DeveloperChangeType.RETIRED.name())))
+                .andExpect(jsonPath("$.nextOffset", is(11)));
+    }
+
+    /**
+     * 개발자 헤드카운트 통계 조회 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperHeadcountsTest_success() throws Exception {
+        //given
+        given(dMakerService.getDeveloperHeadcounts())
+                .willReturn(Arrays.asList(
+                        new DeveloperHeadcount(SENIOR, BACK_END, EMPLOYED, 3L),
+                        new DeveloperHeadcount(JUNIOR, FRONT_END, RETIRED, 1L)));
+
+        //when
+        //then
+        mockMvc.perform(get("/developers/stats").contentType(contentType))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].developerLevel", is(SENIOR.name())))
+                .andExpect(jsonPath("$[0].developerSkillType", is(BACK_END.name())))
+                .andExpect(jsonPath("$[0].statusCode", is(EMPLOYED.name())))
+                .andExpect(jsonPath("$[0].count", is(3)))
+                .andExpect(jsonPath("$[1].statusCode", is(RETIRED.name())));
+    }
+
+    /**
+     * 개발자 리스트 스트리밍(NDJSON) 조회 테스트
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void streamAllDevelopersTest_success() throws Exception {
+        //given
+        DeveloperDto junior = DeveloperDto.builder()
+                .developerLevel(JUNIOR)
+                .developerSkillType(BACK_END)
+                .memberId("memberId1")
+                .build();
+
+        DeveloperDto senior = DeveloperDto.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(FRONT_END)
+                .memberId("memberId2")
+                .build();
+
+        willAnswer(invocation -> {
+            Consumer<DeveloperDto> consumer = invocation.getArgument(0);
+            consumer.accept(junior);
+            consumer.accept(senior);
+            return null;
+        }).given(dMakerService).streamEmployedDevelopers(any());
+
+        //when
+        MvcResult mvcResult = mockMvc.perform(get("/developers").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(junior) + "\n" + objectMapper.writeValueAsString(senior)));
+    }
+
     /**
      * 개발자 상세 조회 테스트
      *
@@ -196,7 +456,9 @@ class DMakerControllerTest {
                 .andExpect(jsonPath("$.developerSkillType", is(FRONT_END.name())))
                 .andExpect(jsonPath("$.experienceYears", is(MIN_SENIOR_EXPERIENCE_YEARS)))
                 .andExpect(jsonPath("$.memberId", is("choi")))
-                .andExpect(jsonPath("$.statusCode", is(EMPLOYED.name())));
+                .andExpect(jsonPath("$.statusCode", is(EMPLOYED.name())))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
     }
 
     /**
@@ -224,6 +486,172 @@ class DMakerControllerTest {
                 .andExpect(jsonPath("$.memberId", is("kang2")));
     }
 
+    /**
+     * 개발자 대량 생성 테스트 - JSON 배열
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDevelopersTest_success_with_json() throws Exception {
+        //given
+        given(dMakerService.createDevelopers(any()))
+                .willAnswer(invocation -> BulkCreateDeveloper.Response.fromResults(
+                        toCreatedResults(invocation.getArgument(0))));
+
+        //when
+        //then
+        mockMvc.perform(post("/developers/bulk")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(getDefaultRequest(), getDefaultRequest()))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount", is(2)))
+                .andExpect(jsonPath("$.createdCount", is(2)))
+                .andExpect(jsonPath("$.results[1].row", is(2)))
+                .andExpect(jsonPath("$.results[1].memberId", is("kang")));
+    }
+
+    /**
+     * 개발자 대량 생성 테스트 - CSV 스트림 (헤더 컬럼 순서 무관, 큰따옴표 값)
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDevelopersTest_success_with_csv() throws Exception {
+        //given
+        List<CreateDeveloper.Request> parsed = new ArrayList<>();
+        given(dMakerService.createDevelopers(any()))
+                .willAnswer(invocation -> {
+                    Iterator<CreateDeveloper.Request> requests = invocation.getArgument(0);
+                    requests.forEachRemaining(parsed::add);
+                    return BulkCreateDeveloper.Response.fromResults(toCreatedResults(parsed.iterator()));
+                });
+
+        String csv = "memberId,name,age,developerLevel,developerSkillType,experienceYears\n" +
+                "csv1,\"kim, junior\",25,JUNIOR,BACK_END,2\n" +
+                "\n" +
+                "csv2,lee,,SENIOR,FRONT_END,12\n";
+
+        //when
+        //then
+        mockMvc.perform(post("/developers/bulk")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount", is(2)))
+                .andExpect(jsonPath("$.results[0].memberId", is("csv1")));
+
+        assertEquals("kim, junior", parsed.get(0).getName());
+        assertEquals(JUNIOR, parsed.get(0).getDeveloperLevel());
+        assertEquals(2, parsed.get(0).getExperienceYears());
+        assertEquals(SENIOR, parsed.get(1).getDeveloperLevel());
+        assertNull(parsed.get(1).getAge());
+    }
+
+    /**
+     * 개발자 대량 생성 테스트 - CSV 형식 오류는 요청 전체 거부
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDevelopersTest_failed_with_malformed_csv() throws Exception {
+        //given
+        given(dMakerService.createDevelopers(any()))
+                .willAnswer(invocation -> {
+                    Iterator<CreateDeveloper.Request> requests = invocation.getArgument(0);
+                    return BulkCreateDeveloper.Response.fromResults(toCreatedResults(requests));
+                });
+
+        String csv = "developerLevel,developerSkillType,experienceYears,memberId,name,age\n" +
+                "MASTER,BACK_END,2,csv1,kim,25\n";
+
+        //when
+        //then
+        mockMvc.perform(post("/developers/bulk")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(jsonPath("$.errorCode", is(INVALID_REQUEST.name())));
+    }
+
+    /**
+     * 개발자 대량 생성 테스트 - CSV 큰따옴표 값 안의 줄바꿈 / "" 이스케이프
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDevelopersTest_success_with_csv_multiline_value() throws Exception {
+        //given
+        List<CreateDeveloper.Request> parsed = new ArrayList<>();
+        given(dMakerService.createDevelopers(any()))
+                .willAnswer(invocation -> {
+                    Iterator<CreateDeveloper.Request> requests = invocation.getArgument(0);
+                    requests.forEachRemaining(parsed::add);
+                    return BulkCreateDeveloper.Response.fromResults(toCreatedResults(parsed.iterator()));
+                });
+
+        String csv = "memberId,name,age,developerLevel,developerSkillType,experienceYears\n" +
+                "csv1,\"kim\n\"\"junior\"\"\",25,JUNIOR,BACK_END,2\n" +
+                "csv2,lee,,SENIOR,FRONT_END,12\n";
+
+        //when
+        //then
+        mockMvc.perform(post("/developers/bulk")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount", is(2)))
+                .andExpect(jsonPath("$.results[1].memberId", is("csv2")));
+
+        assertEquals("kim\n\"junior\"", parsed.get(0).getName());
+        assertEquals(25, parsed.get(0).getAge());
+        assertEquals(SENIOR, parsed.get(1).getDeveloperLevel());
+    }
+
+    /**
+     * 개발자 대량 생성 테스트 - CSV 큰따옴표가 닫히지 않으면 요청 전체 거부
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDevelopersTest_failed_with_unclosed_quote_csv() throws Exception {
+        //given
+        given(dMakerService.createDevelopers(any()))
+                .willAnswer(invocation -> {
+                    Iterator<CreateDeveloper.Request> requests = invocation.getArgument(0);
+                    return BulkCreateDeveloper.Response.fromResults(toCreatedResults(requests));
+                });
+
+        String csv = "developerLevel,developerSkillType,experienceYears,memberId,name,age\n" +
+                "JUNIOR,BACK_END,2,csv1,\"kim,25\n" +
+                "JUNIOR,BACK_END,2,csv2,lee,25\n";
+
+        //when
+        //then
+        mockMvc.perform(post("/developers/bulk")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(jsonPath("$.errorCode", is(INVALID_REQUEST.name())));
+    }
+
+    private static List<BulkCreateDeveloper.Result> toCreatedResults(Iterator<CreateDeveloper.Request> requests) {
+        List<BulkCreateDeveloper.Result> results = new ArrayList<>();
+        requests.forEachRemaining(request -> results.add(BulkCreateDeveloper.Result.builder()
+                .row(results.size() + 1)
+                .memberId(request.getMemberId())
+                .status(BulkResultStatus.CREATED)
+                .build()));
+        return results;
+    }
+
     /**
      * 개발자 정보 변경 테스트
      *
@@ -233,7 +661,7 @@ class DMakerControllerTest {
     @Test
     void updateDeveloperTest_success() throws Exception {
         //given
-        given(dMakerService.updateDeveloper(anyString(), any()))
+        given(dMakerService.updateDeveloper(anyString(), any(), isNull()))
                 .willReturn(getDefaultDeveloperDetailDto());
         //when
         //then
@@ -249,6 +677,30 @@ class DMakerControllerTest {
                 .andExpect(jsonPath("$.statusCode", is(EMPLOYED.name())));
     }
 
+    /**
+     * 개발자 정보 변경 테스트 - If-Match 버전 전달, 변경 후 버전을 ETag로 응답
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_success_with_if_match() throws Exception {
+        //given
+        DeveloperDetailDto updated = getDefaultDeveloperDetailDto();
+        updated.setVersion(4L);
+        given(dMakerService.updateDeveloper(eq("choi"), any(), eq(3L)))
+                .willReturn(updated);
+        //when
+        //then
+        mockMvc.perform(put("/developer/{memberId}", "choi")
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(getDefaultUpdateRequest())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
     /**
      * 개발자 삭제 테스트
      *
@@ -258,7 +710,7 @@ class DMakerControllerTest {
     @Test
     void deleteDeveloperTest_success() throws Exception {
         //given
-        given(dMakerService.deleteDeveloper(anyString()))
+        given(dMakerService.deleteDeveloper(anyString(), isNull()))
                 .willReturn(getDefaultDeletedDeveloperDetailDto());
         //when
         //then
@@ -268,4 +720,31 @@ class DMakerControllerTest {
                 .andExpect(status().is2xxSuccessful())
                 .andExpect(jsonPath("$.statusCode", is(RETIRED.name())));
     }
-}
\ No newline at end of file
+
+    /**
+     * 개발자 대량 퇴직 처리 테스트
+     *
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void retireDevelopersTest_success() throws Exception {
+        //given
+        given(dMakerService.retireDevelopers(any()))
+                .willReturn(BulkRetireDeveloper.Response.builder()
+                        .retiredMemberIds(Arrays.asList("choi"))
+                        .missingMemberIds(Arrays.asList("nobody"))
+                        .build());
+        //when
+        //then
+        mockMvc.perform(post("/developers/retire")
+                        .contentType(contentType)
+                        .content(objectMapper.writeValueAsString(BulkRetireDeveloper.Request.builder()
+                                .memberIds(Arrays.asList("choi", "nobody"))
+                                .build())))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.retiredMemberIds[0]", is("choi")))
+                .andExpect(jsonPath("$.missingMemberIds[0]", is("nobody")));
+    }
+}
@@ -0,0 +1,223 @@
+package com.project.dmaker.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.service.DMakerService;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 통합 테스트 (H2 primary / replica 2개)
+ * <p>
+ *     두 H2 사이에 복제가 없으므로, replica 에만 있는 개발자와 primary 에만 있는 개발자로 어느 쪽에서 읽었는지 확인하고,
+ *     replica heartbeat 를 직접 기록해 복제 지연을 흉내 낸다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "dmaker.datasource.replica.enabled=true",
+        "dmaker.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "dmaker.datasource.replica.username=sa",
+        "dmaker.datasource.replica.check-interval=PT1H",
+        "dmaker.datasource.replica.max-lag=PT5S",
+        "dmaker.datasource.replica.read-your-writes-window=PT1M"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_ONLY = "routing-replica-only";
+
+    private static JdbcTemplate replicaJdbcTemplate;
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private ReplicaHealthMonitor replicaHealthMonitor;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * replica 스키마 생성 및 replica 에만 있는 개발자 등록 (운영에서는 복제로 맞춰짐)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @BeforeAll
+    static void setUpReplica() {
+        DriverManagerDataSource replicaDataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure().dataSource(replicaDataSource).load().migrate();
+
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.update("delete from developer where member_id = ?", REPLICA_ONLY);
+        replicaJdbcTemplate.update("insert into developer (id, age, create_at, developer_level, developer_skill_type, " +
+                        "experience_years, member_id, name, status_code, update_at, version) " +
+                        "values (1000000, 35, ?, ?, ?, 12, ?, 'name', 'EMPLOYED', ?, 0)",
+                LocalDateTime.now(), SENIOR.name(), BACK_END.name(), REPLICA_ONLY, LocalDateTime.now());
+    }
+
+    @BeforeEach
+    void setUp() {
+        replicate(LocalDateTime.now());
+    }
+
+    /**
+     * 읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 로 라우팅
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void routeTest_success() {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("routing-primary"));
+
+        //when
+        List<String> memberIds = getPageMemberIds();
+
+        //then
+        assertTrue(replicaHealthMonitor.isAvailable());
+        assertTrue(memberIds.contains(REPLICA_ONLY));
+        assertFalse(memberIds.contains("routing-primary"));
+    }
+
+    /**
+     * 캐시에 적재하는 조회는 replica 상태와 무관하게 primary 에서 조회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void routeTest_with_cache_load() {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("routing-cache"));
+
+        //when
+        //then
+        assertNotNull(dMakerService.getDeveloperDetail("routing-cache"));
+        assertThrows(DMakerException.class, () -> dMakerService.getDeveloperDetail(REPLICA_ONLY));
+    }
+
+    /**
+     * 복제 지연이 max-lag 를 넘으면 primary 에서 읽음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void routeTest_with_replica_lag() {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("routing-lag"));
+        replicate(LocalDateTime.now().minusMinutes(1));
+
+        //when
+        List<String> memberIds = getPageMemberIds();
+
+        //then
+        assertFalse(replicaHealthMonitor.isAvailable());
+        assertTrue(memberIds.contains("routing-lag"));
+        assertFalse(memberIds.contains(REPLICA_ONLY));
+    }
+
+    /**
+     * replica 조회에 실패하면 primary 에서 읽음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void routeTest_with_replica_failure() {
+        //given
+        replicaJdbcTemplate.update("delete from replication_heartbeat");
+
+        //when
+        replicaHealthMonitor.check();
+
+        //then
+        assertFalse(replicaHealthMonitor.isAvailable());
+        assertFalse(getPageMemberIds().contains(REPLICA_ONLY));
+    }
+
+    /**
+     * 쓰기 요청 이후 같은 client 의 읽기 요청은 window 동안 primary 에서 읽음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void readYourWritesTest_success() throws Exception {
+        //given
+        Cookie cookie = mockMvc.perform(post("/create-developer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(getCreateRequest("routing-ryw"))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+
+        //when
+        //then
+        mockMvc.perform(get("/developers/page").param("size", "100").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.developers[*].memberId", hasItem("routing-ryw")));
+
+        mockMvc.perform(get("/developers/page").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.developers[*].memberId", not(hasItem("routing-ryw"))));
+    }
+
+    //primary 의 heartbeat 가 beatAt 시각까지 replica 에 복제된 것으로 보고 상태 확인
+    private void replicate(LocalDateTime beatAt) {
+        replicaJdbcTemplate.update("merge into replication_heartbeat (id, beat_at) key (id) values (1, ?)", beatAt);
+        replicaHealthMonitor.check();
+    }
+
+    private List<String> getPageMemberIds() {
+        return dMakerService.getEmployedDevelopersPage(null, 100).getDevelopers().stream()
+                .map(DeveloperDto::getMemberId)
+                .toList();
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(35)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.dmaker.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static com.project.dmaker.exception.DMakerErrorCode.INVALID_REQUEST;
+import static com.project.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * DMakerException 단위 테스트
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class DMakerExceptionTest {
+
+    /**
+     * 에러 코드별 미리 생성해 둔 Exception 재사용 (stack trace / suppressed 미기록)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void ofTest_success() {
+        //given
+        //when
+        DMakerException exception = DMakerException.of(NO_DEVELOPER);
+        exception.addSuppressed(new IllegalStateException());
+
+        //then
+        assertSame(exception, DMakerException.of(NO_DEVELOPER));
+        assertEquals(NO_DEVELOPER, exception.getDMakerErrorCode());
+        assertEquals(NO_DEVELOPER.getDescription(), exception.getDetailMessage());
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+    }
+
+    /**
+     * 상세 메시지가 있는 Exception 도 stack trace 미기록
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void constructorTest_with_detail_message() {
+        //given
+        //when
+        DMakerException exception = new DMakerException(INVALID_REQUEST, "잘못된 커서입니다.");
+
+        //then
+        assertEquals(INVALID_REQUEST, exception.getDMakerErrorCode());
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.dmaker.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.project.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.project.dmaker.exception.DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 비지니스 에러 로그 샘플러 단위 테스트
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class ErrorLogSamplerTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(Long.MAX_VALUE - SECOND / 2);
+    private final ErrorLogSampler errorLogSampler = new ErrorLogSampler(SECOND, clock::get);
+
+    /**
+     * interval 마다 한 건만 기록하고 생략된 건수를 다음 기록에 반환
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void tryAcquireTest_success() {
+        //given
+        //when
+        //then
+        assertEquals(0, errorLogSampler.tryAcquire(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED));
+        assertEquals(-1, errorLogSampler.tryAcquire(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED));
+        assertEquals(-1, errorLogSampler.tryAcquire(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED));
+
+        //when (nanoTime overflow 구간 포함)
+        clock.addAndGet(SECOND);
+
+        //then
+        assertEquals(2, errorLogSampler.tryAcquire(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED));
+        assertEquals(-1, errorLogSampler.tryAcquire(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED));
+    }
+
+    /**
+     * 에러 코드별로 따로 샘플링
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void tryAcquireTest_with_other_error_code() {
+        //given
+        errorLogSampler.tryAcquire(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
+
+        //when
+        //then
+        assertEquals(-1, errorLogSampler.tryAcquire(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED));
+        assertEquals(0, errorLogSampler.tryAcquire(DUPLICATED_MEMBER_ID));
+    }
+}
@@ -0,0 +1,224 @@
+package com.project.dmaker.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.retire.RetiredDeveloperWriter;
+import com.project.dmaker.service.DMakerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.Duration;
+
+import static com.project.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.project.dmaker.exception.DMakerErrorCode.IDEMPOTENCY_KEY_REUSED;
+import static com.project.dmaker.exception.DMakerErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS;
+import static com.project.dmaker.idempotency.IdempotencyFilter.IDEMPOTENCY_KEY_HEADER;
+import static com.project.dmaker.idempotency.IdempotencyFilter.REPLAYED_HEADER;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 응답 재전송 통합 테스트 (H2)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private RetiredDeveloperWriter retiredDeveloperWriter;
+
+    /**
+     * 같은 key 로 다시 생성 요청하면 DUPLICATED_MEMBER_ID 대신 처음 응답을 재전송
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_with_replay() throws Exception {
+        //given
+        String content = objectMapper.writeValueAsString(getCreateRequest("idempotent-create"));
+        MvcResult first = mockMvc.perform(post("/create-developer")
+                        .header(IDEMPOTENCY_KEY_HEADER, "create-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        //when
+        //then
+        mockMvc.perform(post("/create-developer")
+                        .header(IDEMPOTENCY_KEY_HEADER, "create-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(REPLAYED_HEADER, "true"))
+                .andExpect(result -> assertEquals(first.getResponse().getContentAsString(),
+                        result.getResponse().getContentAsString()));
+
+        mockMvc.perform(post("/create-developer")
+                        .header(IDEMPOTENCY_KEY_HEADER, "other-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode", is(DUPLICATED_MEMBER_ID.name())));
+    }
+
+    /**
+     * 다른 client 가 같은 key 를 사용하면 재전송하지 않고 실행 (같은 memberId 이므로 DUPLICATED_MEMBER_ID)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_without_replay_for_other_client() throws Exception {
+        //given
+        String content = objectMapper.writeValueAsString(getCreateRequest("idempotent-other-client"));
+        mockMvc.perform(post("/create-developer")
+                        .with(remoteAddr("10.0.1.1"))
+                        .header(IDEMPOTENCY_KEY_HEADER, "shared-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isCreated());
+
+        //when
+        //then
+        mockMvc.perform(post("/create-developer")
+                        .with(remoteAddr("10.0.1.2"))
+                        .header(IDEMPOTENCY_KEY_HEADER, "shared-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isConflict())
+                .andExpect(header().doesNotExist(REPLAYED_HEADER))
+                .andExpect(jsonPath("$.errorCode", is(DUPLICATED_MEMBER_ID.name())));
+    }
+
+    /**
+     * 같은 key 로 다른 요청 본문을 보내면 실행하지 않고 422
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_idempotency_key_reused() throws Exception {
+        //given
+        mockMvc.perform(post("/create-developer")
+                        .header(IDEMPOTENCY_KEY_HEADER, "reused-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(getCreateRequest("idempotent-first"))))
+                .andExpect(status().isCreated());
+
+        //when
+        //then
+        mockMvc.perform(post("/create-developer")
+                        .header(IDEMPOTENCY_KEY_HEADER, "reused-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(getCreateRequest("idempotent-second"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode", is(IDEMPOTENCY_KEY_REUSED.name())));
+        assertThrows(DMakerException.class, () -> dMakerService.getDeveloperDetail("idempotent-second"));
+    }
+
+    /**
+     * 같은 key 로 다시 삭제 요청하면 처음 응답(ETag 포함)을 재전송하고, key 없는 재시도도 퇴직 기록을 중복 저장하지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void deleteDeveloperTest_with_replay() throws Exception {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("idempotent-delete"));
+        String eTag = mockMvc.perform(delete("/developer/{memberId}", "idempotent-delete")
+                        .header(IDEMPOTENCY_KEY_HEADER, "delete-key"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        //when
+        mockMvc.perform(delete("/developer/{memberId}", "idempotent-delete")
+                        .header(IDEMPOTENCY_KEY_HEADER, "delete-key"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(REPLAYED_HEADER, "true"))
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        mockMvc.perform(delete("/developer/{memberId}", "idempotent-delete"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode", is("RETIRED")));
+        retiredDeveloperWriter.flush();
+
+        //then
+        assertEquals(1, dMakerService.getRetiredDeveloperHistory("idempotent-delete", null, null).size());
+    }
+
+    /**
+     * 같은 key 의 요청이 처리 중이면 409
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void doFilterTest_failed_with_request_in_progress() throws Exception {
+        //given
+        IdempotencyFilter filter = new IdempotencyFilter(objectMapper, 10, Duration.ofMinutes(1));
+        MockHttpServletResponse inProgressResponse = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(getDeleteRequest(), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(getDeleteRequest(), inProgressResponse, (req, res) -> {
+                }));
+
+        //then
+        assertEquals(409, inProgressResponse.getStatus());
+        assertTrue(inProgressResponse.getContentAsString().contains(IDEMPOTENT_REQUEST_IN_PROGRESS.name()));
+    }
+
+    private static MockHttpServletRequest getDeleteRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/developer/in-progress");
+        request.addHeader(IDEMPOTENCY_KEY_HEADER, "in-progress-key");
+
+        return request;
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(35)
+                .build();
+    }
+
+    private static RequestPostProcessor remoteAddr(String remoteAddr) {
+        return request -> {
+            request.setRemoteAddr(remoteAddr);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.dmaker.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.project.dmaker.code.StatusCode.EMPLOYED;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 개발자 응답 DTO serializer 단위 테스트 - reflection 기반 BeanSerializer 와 같은 출력인지 확인
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class DeveloperJsonModuleTest {
+
+    private final ObjectMapper beanMapper = new ObjectMapper();
+    private final ObjectMapper moduleMapper = new ObjectMapper().registerModule(new DeveloperJsonModule());
+
+    /**
+     * DeveloperDto 직렬화 (null 필드 제외, id 제외)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void developerDtoTest_success() throws JsonProcessingException {
+        //given
+        List<DeveloperDto> developers = List.of(
+                new DeveloperDto(SENIOR, BACK_END, "member\"1", 1L),
+                DeveloperDto.builder().memberId("member2").id(2L).build(),
+                new DeveloperDto());
+
+        //when
+        String json = moduleMapper.writeValueAsString(developers);
+
+        //then
+        assertEquals(beanMapper.writeValueAsString(developers), json);
+        assertEquals("[{\"developerLevel\":\"SENIOR\",\"developerSkillType\":\"BACK_END\",\"memberId\":\"member\\\"1\"},"
+                + "{\"memberId\":\"member2\"},{}]", json);
+    }
+
+    /**
+     * DeveloperDetailDto 직렬화 (null 필드 포함, version 제외)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void developerDetailDtoTest_success() throws JsonProcessingException {
+        //given
+        List<DeveloperDetailDto> details = List.of(
+                new DeveloperDetailDto(SENIOR, BACK_END, 12, EMPLOYED, "member", "개발자", 35, 3L,
+                        LocalDateTime.of(2026, 10, 18, 9, 30)),
+                new DeveloperDetailDto());
+
+        //when
+        //then
+        assertEquals(beanMapper.writeValueAsString(details), moduleMapper.writeValueAsString(details));
+    }
+
+    /**
+     * CreateDeveloper.Response 직렬화
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperResponseTest_success() throws JsonProcessingException {
+        //given
+        List<CreateDeveloper.Response> responses = List.of(
+                new CreateDeveloper.Response(SENIOR, BACK_END, 12, "member"),
+                new CreateDeveloper.Response());
+
+        //when
+        //then
+        assertEquals(beanMapper.writeValueAsString(responses), moduleMapper.writeValueAsString(responses));
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.dmaker.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.exception.DMakerExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.project.dmaker.exception.DMakerErrorCode.NO_DEVELOPER;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator 지표 통합 테스트 (H2) - 엔드포인트 / Repository / 에러 코드 / Hibernate / Hikari 지표 노출 검증
+ * (opt-in 인 Hibernate 통계 / 백분위는 켜고 검증)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        // opt-in 지표 (Hibernate 통계, 백분위)
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "management.metrics.distribution.percentiles.http.server.requests=0.5,0.95,0.99",
+        "management.metrics.distribution.percentiles.spring.data.repository.invocations=0.5,0.95,0.99"
+})
+@AutoConfigureMockMvc
+class DMakerMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 컨트롤러 / Repository 메소드별 Timer 기록 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void endpointAndRepositoryTimerTest_success() throws Exception {
+        //given
+        mockMvc.perform(post("/create-developer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateDeveloper.Request.builder()
+                                .developerLevel(SENIOR)
+                                .developerSkillType(BACK_END)
+                                .experienceYears(12)
+                                .memberId("metrics")
+                                .name("name")
+                                .age(35)
+                                .build())))
+                .andExpect(status().isCreated());
+
+        //when
+        mockMvc.perform(get("/developer/{memberId}", "metrics"))
+                .andExpect(status().isOk());
+
+        //then
+        Timer httpTimer = meterRegistry.get("http.server.requests")
+                .tag("uri", "/developer/{memberId}")
+                .tag("method", "GET")
+                .timer();
+        assertTrue(httpTimer.count() >= 1);
+        assertEquals(3, httpTimer.takeSnapshot().percentileValues().length);
+
+        Timer repositoryTimer = meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "DeveloperRepository")
+                .tag("method", "findDeveloperDetailDtoByMemberId")
+                .timer();
+        assertTrue(repositoryTimer.count() >= 1);
+    }
+
+    /**
+     * 에러 코드별 에러 응답 수 기록 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void errorCounterTest_success() throws Exception {
+        //given
+        double before = getErrorCount(NO_DEVELOPER.name());
+
+        //when
+        mockMvc.perform(get("/developer/{memberId}", "no-such-member"))
+                .andExpect(status().isConflict());
+
+        //then
+        assertEquals(before + 1, getErrorCount(NO_DEVELOPER.name()));
+    }
+
+    /**
+     * Hibernate 통계 / Hikari 커넥션 풀 지표 노출 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void hibernateAndHikariMetricsTest_success() {
+        //given
+        //when
+        //then
+        assertNotNull(meterRegistry.find("hibernate.sessions.open").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.query.executions").functionCounter());
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").gauge());
+    }
+
+    private double getErrorCount(String errorCode) {
+        return meterRegistry.get(DMakerExceptionHandler.ERROR_METRIC_NAME)
+                .tag("errorCode", errorCode)
+                .counter()
+                .count();
+    }
+}
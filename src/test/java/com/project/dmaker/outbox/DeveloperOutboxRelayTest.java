@@ -0,0 +1,130 @@
+package com.project.dmaker.outbox;
+
+import com.project.dmaker.code.DeveloperChangeType;
+import com.project.dmaker.dto.DeveloperChange;
+import com.project.dmaker.entity.DeveloperOutbox;
+import com.project.dmaker.repository.DeveloperOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * outbox relay 단위 테스트
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@ExtendWith(MockitoExtension.class)
+class DeveloperOutboxRelayTest {
+
+    @Mock
+    private DeveloperOutboxRepository developerOutboxRepository;
+    @Mock
+    private DeveloperChangeSink developerChangeSink;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static DeveloperOutbox getOutbox(long id, String memberId) {
+        return DeveloperOutbox.builder()
+                .id(id)
+                .memberId(memberId)
+                .changeType(DeveloperChangeType.CREATED)
+                .build();
+    }
+
+    /**
+     * relay 성공 테스트 - 마지막 offset 이후 순서대로 offset 부여 후 발행
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    @SuppressWarnings("unchecked")
+    void relayTest_success() {
+        //given
+        DeveloperOutbox first = getOutbox(1L, "member1");
+        DeveloperOutbox second = getOutbox(2L, "member2");
+        given(developerOutboxRepository.findByFeedOffsetIsNullOrderByIdAsc(PageRequest.of(0, 100)))
+                .willReturn(Arrays.asList(first, second));
+        given(developerOutboxRepository.findMaxFeedOffset()).willReturn(7L);
+        DeveloperOutboxRelay relay =
+                new DeveloperOutboxRelay(developerOutboxRepository, developerChangeSink, transactionManager, 100);
+
+        //when
+        int published = relay.relay();
+
+        //then
+        assertEquals(2, published);
+        assertEquals(8L, first.getFeedOffset());
+        assertEquals(9L, second.getFeedOffset());
+        assertNotNull(first.getPublishedAt());
+
+        ArgumentCaptor<List<DeveloperChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(developerChangeSink, times(1)).publish(captor.capture());
+        assertEquals(Arrays.asList(8L, 9L), captor.getValue().stream().map(DeveloperChange::getOffset).toList());
+        assertEquals(Arrays.asList(1L, 2L), captor.getValue().stream().map(DeveloperChange::getEventId).toList());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    /**
+     * relay 테스트 - batch 가 가득 차면 미발행 outbox 가 없을 때까지 반복
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void relayTest_success_with_multiple_batches() {
+        //given
+        given(developerOutboxRepository.findByFeedOffsetIsNullOrderByIdAsc(PageRequest.of(0, 2)))
+                .willReturn(Arrays.asList(getOutbox(1L, "member1"), getOutbox(2L, "member2")))
+                .willReturn(Arrays.asList(getOutbox(3L, "member3")));
+        given(developerOutboxRepository.findMaxFeedOffset()).willReturn(0L, 2L);
+        DeveloperOutboxRelay relay =
+                new DeveloperOutboxRelay(developerOutboxRepository, developerChangeSink, transactionManager, 2);
+
+        //when
+        int published = relay.relay();
+
+        //then
+        assertEquals(3, published);
+        verify(developerChangeSink, times(2)).publish(anyList());
+    }
+
+    /**
+     * relay 실패 테스트 - sink 발행 실패 시 롤백되어 미발행으로 남음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void relayTest_failed_with_sink_error() {
+        //given
+        DeveloperOutbox outbox = getOutbox(1L, "member1");
+        given(developerOutboxRepository.findByFeedOffsetIsNullOrderByIdAsc(PageRequest.of(0, 100)))
+                .willReturn(Arrays.asList(outbox));
+        willThrow(new IllegalStateException("sink unavailable")).given(developerChangeSink).publish(anyList());
+        DeveloperOutboxRelay relay =
+                new DeveloperOutboxRelay(developerOutboxRepository, developerChangeSink, transactionManager, 100);
+
+        //when
+        int published = relay.relay();
+
+        //then
+        assertEquals(0, published);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.dmaker.outbox;
+
+import com.project.dmaker.code.DeveloperChangeType;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperChange;
+import com.project.dmaker.dto.DeveloperChangeFeed;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.entity.DeveloperOutbox;
+import com.project.dmaker.repository.DeveloperOutboxRepository;
+import com.project.dmaker.service.DMakerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.project.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.project.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 개발자 변경 이벤트 outbox / change feed 통합 테스트 (H2)
+ * <p>
+ *     다른 테스트 컨텍스트의 relay 도 같은 DB 를 발행하므로, sink 가 아닌 DB 의 feed offset 과 change feed 로 확인한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class DeveloperOutboxTest {
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private DeveloperOutboxRelay developerOutboxRelay;
+
+    @Autowired
+    private DeveloperOutboxRepository developerOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 생성 / 변경 / 퇴직 이벤트가 커밋 순서대로 change feed 에 발행
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void changeFeedTest_success() throws InterruptedException {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("outbox-feed"));
+        dMakerService.updateDeveloper("outbox-feed", UpdateDeveloper.Request.builder()
+                .developerLevel(JUNGNIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(7)
+                .build());
+        dMakerService.retireDevelopers(List.of("outbox-feed"));
+
+        //when
+        List<DeveloperOutbox> outboxes = relayUntilPublished("outbox-feed", 3);
+        DeveloperChangeFeed feed = dMakerService.getDeveloperChanges(outboxes.get(0).getFeedOffset() - 1, 3);
+
+        //then
+        assertEquals(List.of(DeveloperChangeType.CREATED, DeveloperChangeType.UPDATED, DeveloperChangeType.RETIRED),
+                feed.getChanges().stream().map(DeveloperChange::getChangeType).toList());
+        assertTrue(feed.getChanges().stream().allMatch(change -> "outbox-feed".equals(change.getMemberId())));
+        assertEquals(FRONT_END, feed.getChanges().get(1).getDeveloperSkillType());
+        assertEquals(StatusCode.RETIRED, feed.getChanges().get(2).getStatusCode());
+        assertEquals(feed.getChanges().get(2).getOffset(), feed.getNextOffset());
+
+        //when
+        DeveloperChangeFeed nextFeed = dMakerService.getDeveloperChanges(feed.getNextOffset(), 10);
+
+        //then
+        assertTrue(nextFeed.getChanges().stream().noneMatch(change -> "outbox-feed".equals(change.getMemberId())));
+    }
+
+    /**
+     * 롤백된 변경은 outbox 에 저장되지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void outboxTest_with_rollback() {
+        //given
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            dMakerService.createDeveloper(getCreateRequest("outbox-rollback"));
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertEquals(0, findOutboxes("outbox-rollback").size());
+    }
+
+    //다른 컨텍스트의 relay 와 경합할 수 있으므로 발행될 때까지 relay 반복
+    private List<DeveloperOutbox> relayUntilPublished(String memberId, int expected) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            developerOutboxRelay.relay();
+            List<DeveloperOutbox> outboxes = findOutboxes(memberId);
+            if (outboxes.size() == expected && outboxes.stream().allMatch(outbox -> outbox.getFeedOffset() != null)) {
+                return outboxes;
+            }
+            Thread.sleep(100);
+        }
+
+        throw new AssertionError("outbox of " + memberId + " is not published");
+    }
+
+    private List<DeveloperOutbox> findOutboxes(String memberId) {
+        return developerOutboxRepository.findAll().stream()
+                .filter(outbox -> memberId.equals(outbox.getMemberId()))
+                .sorted(Comparator.comparing(DeveloperOutbox::getId))
+                .toList();
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(35)
+                .build();
+    }
+}
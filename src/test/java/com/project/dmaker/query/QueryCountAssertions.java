@@ -0,0 +1,107 @@
+package com.project.dmaker.query;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SQL 실행 수 검증 유틸 클래스 (테스트용)
+ * <p>
+ *     reset() 이후 현재 스레드에서 실행된 SQL 수를 검증한다.
+ *     select/insert/update/delete 는 SQL 종류별 수, total 은 DB round-trip 수(batch 는 1회)이다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * 현재 스레드의 SQL 실행 수 초기화
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static void reset() {
+        QueryCountHolder.clear();
+    }
+
+    /**
+     * SELECT 실행 수 검증
+     * @param expected 예상 실행 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static void assertSelectCount(long expected) {
+        assertEquals(expected, current().getSelect(), () -> "select count " + describe());
+    }
+
+    /**
+     * INSERT 실행 수 검증 (batch 는 1회)
+     * @param expected 예상 실행 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static void assertInsertCount(long expected) {
+        assertEquals(expected, current().getInsert(), () -> "insert count " + describe());
+    }
+
+    /**
+     * UPDATE 실행 수 검증 (batch 는 1회)
+     * @param expected 예상 실행 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static void assertUpdateCount(long expected) {
+        assertEquals(expected, current().getUpdate(), () -> "update count " + describe());
+    }
+
+    /**
+     * DELETE 실행 수 검증 (batch 는 1회)
+     * @param expected 예상 실행 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static void assertDeleteCount(long expected) {
+        assertEquals(expected, current().getDelete(), () -> "delete count " + describe());
+    }
+
+    /**
+     * 전체 DB round-trip 수 검증 (batch 는 1회)
+     * @param expected 예상 실행 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static void assertTotalCount(long expected) {
+        assertEquals(expected, current().getTotal(), () -> "total count " + describe());
+    }
+
+    /**
+     * SQL 종류별 실행 수 검증
+     * @param select 예상 SELECT 실행 수
+     * @param insert 예상 INSERT 실행 수
+     * @param update 예상 UPDATE 실행 수
+     * @param delete 예상 DELETE 실행 수
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    public static void assertQueryCount(long select, long insert, long update, long delete) {
+        assertSelectCount(select);
+        assertInsertCount(insert);
+        assertUpdateCount(update);
+        assertDeleteCount(delete);
+    }
+
+    private static QueryCount current() {
+        return QueryCountHolder.getGrandTotal();
+    }
+
+    private static String describe() {
+        QueryCount count = current();
+        return String.format("(select: %d, insert: %d, update: %d, delete: %d, other: %d, total: %d)",
+                count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete(),
+                count.getOther(), count.getTotal());
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.dmaker.query;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+/**
+ * sequence id pool 준비 유틸 클래스 (테스트용)
+ * <p>
+ *     pooled sequence 는 pool 이 비었을 때만 sequence 를 조회하므로, SQL 실행 수를 고정하는 테스트에서는
+ *     측정 전에 pool 에 남은 id 를 필요한 만큼 확보해 측정 중 sequence 조회가 섞이지 않게 한다.
+ *     남은 id 가 부족하면 pool 을 소진시켜 새 pool 을 할당받는다. (버려진 id 는 사용되지 않을 뿐 문제 없음)
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+public final class SequencePoolWarmer {
+
+    private SequencePoolWarmer() {
+    }
+
+    /**
+     * entity id pool 에 id 가 required 개 이상 남도록 준비
+     * @param entityManagerFactory {@link EntityManagerFactory}
+     * @param entityClass id 를 sequence 로 할당하는 entity
+     * @param required 측정 중 사용할 id 수 (allocationSize 이하)
+     * @author cyh68
+     * @since 2026-10-18
+     * @throws IllegalStateException pooled sequence 를 사용하지 않는 entity 인 경우
+     **/
+    public static void warm(EntityManagerFactory entityManagerFactory, Class<?> entityClass, int required) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        IdentifierGenerator generator = sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getIdentifierGenerator();
+        if (!(generator instanceof SequenceStyleGenerator sequenceGenerator)
+                || !(sequenceGenerator.getOptimizer() instanceof PooledOptimizer optimizer)) {
+            throw new IllegalStateException(entityClass.getSimpleName() + " 는 pooled sequence 를 사용하지 않습니다.");
+        }
+        if (required > optimizer.getIncrementSize()) {
+            throw new IllegalStateException("required 는 allocationSize 이하여야 합니다. (" + required + ")");
+        }
+
+        try (SessionImplementor session = (SessionImplementor) sessionFactory.openSession()) {
+            while (remaining(optimizer) < required) {
+                sequenceGenerator.generate(session, null);
+            }
+        }
+    }
+
+    /**
+     * pool 에 남은 id 수 (아직 pool 을 할당받지 않았으면 0)
+     * @param optimizer {@link PooledOptimizer}
+     * @return long
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private static long remaining(PooledOptimizer optimizer) {
+        if (optimizer.getLastSourceValue() == null) {
+            return 0;
+        }
+
+        return optimizer.getLastSourceValue().makeValue().longValue()
+                - optimizer.getLastValue().makeValue().longValue();
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.dmaker.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.project.dmaker.ratelimit.AdaptiveConcurrencyLimiter.MIN_WINDOW_SAMPLES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 응답 지연 기반 동시 처리 수 제한 단위 테스트
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW = Duration.ofSeconds(1).toNanos();
+    private static final long LATENCY = Duration.ofMillis(10).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(4, 2, 6, 2.0, WINDOW, clock::get);
+
+    /**
+     * 한도만큼만 동시 처리 허용
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void tryAcquireTest_success() {
+        //given
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        //when
+        //then
+        assertFalse(limiter.tryAcquire());
+
+        //when
+        limiter.release(LATENCY);
+
+        //then
+        assertTrue(limiter.tryAcquire());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    /**
+     * 지연이 정상이고 한도까지 사용하면 한도 증가 (max-limit 까지)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void adjustTest_with_saturation() {
+        //given
+        //when
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter.getLimit(), LATENCY);
+        }
+
+        //then
+        assertEquals(6, limiter.getLimit());
+    }
+
+    /**
+     * 지연이 기준의 tolerance 배를 넘으면 한도 감소 (min-limit 까지)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void adjustTest_with_latency_increase() {
+        //given
+        runWindow(1, LATENCY);
+        assertEquals(4, limiter.getLimit());
+
+        //when
+        runWindow(1, LATENCY * 3);
+
+        //then
+        assertEquals(3, limiter.getLimit());
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            runWindow(1, LATENCY * 10);
+        }
+
+        //then
+        assertEquals(2, limiter.getLimit());
+    }
+
+    //window 동안 concurrency 개씩 동시에 처리한 뒤 window 를 넘겨 정산
+    private void runWindow(int concurrency, long latencyNanos) {
+        for (int completed = 0; completed < MIN_WINDOW_SAMPLES; completed += concurrency) {
+            for (int i = 0; i < concurrency; i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int i = 0; i < concurrency; i++) {
+                limiter.release(latencyNanos);
+            }
+        }
+        clock.addAndGet(WINDOW);
+        assertTrue(limiter.tryAcquire());
+        limiter.release(latencyNanos);
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.dmaker.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * client 별 token bucket 단위 테스트
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class ClientRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(Long.MAX_VALUE - SECOND);
+    private final ClientRateLimiter clientRateLimiter = new ClientRateLimiter(2, 3, 100, clock::get);
+
+    /**
+     * burst 만큼 연속 허용 후 token 이 채워질 때까지 제한
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void tryAcquireTest_success() {
+        //given
+        //when
+        //then
+        assertEquals(0, clientRateLimiter.tryAcquire("client"));
+        assertEquals(0, clientRateLimiter.tryAcquire("client"));
+        assertEquals(0, clientRateLimiter.tryAcquire("client"));
+        assertEquals(SECOND / 2, clientRateLimiter.tryAcquire("client"));
+
+        //when (nanoTime overflow 구간 포함)
+        clock.addAndGet(SECOND / 2);
+
+        //then
+        assertEquals(0, clientRateLimiter.tryAcquire("client"));
+        assertEquals(SECOND / 2, clientRateLimiter.tryAcquire("client"));
+    }
+
+    /**
+     * client 별로 따로 제한
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void tryAcquireTest_with_other_client() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            clientRateLimiter.tryAcquire("flooding");
+        }
+
+        //when
+        //then
+        assertEquals(SECOND / 2, clientRateLimiter.tryAcquire("flooding"));
+        assertEquals(0, clientRateLimiter.tryAcquire("other"));
+    }
+
+    /**
+     * 반환한 token 은 다시 사용 가능
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void refundTest_success() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            clientRateLimiter.tryAcquire("client");
+        }
+
+        //when
+        clientRateLimiter.refund("client");
+
+        //then
+        assertEquals(0, clientRateLimiter.tryAcquire("client"));
+        assertEquals(SECOND / 2, clientRateLimiter.tryAcquire("client"));
+    }
+}
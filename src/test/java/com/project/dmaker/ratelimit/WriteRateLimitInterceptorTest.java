@@ -0,0 +1,161 @@
+package com.project.dmaker.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.controller.DMakerController;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.exception.DMakerRateLimitException;
+import com.project.dmaker.service.DMakerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.Duration;
+
+import static com.project.dmaker.exception.DMakerErrorCode.CONCURRENCY_LIMIT_EXCEEDED;
+import static com.project.dmaker.exception.DMakerErrorCode.RATE_LIMIT_EXCEEDED;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 쓰기 요청 제한 Interceptor 테스트 (client(접속 IP) 당 10초에 1건, burst 1)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@WebMvcTest(controllers = DMakerController.class, properties = {
+        "dmaker.rate-limit.permits-per-second=0.1",
+        "dmaker.rate-limit.burst=1"
+})
+class WriteRateLimitInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private DMakerService dMakerService;
+
+    /**
+     * client(접속 IP) 별 요청 수 초과 시 429 + Retry-After
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_rate_limit() throws Exception {
+        //given
+        mockMvc.perform(createDeveloper("10.0.0.1", "flooding"))
+                .andExpect(status().isCreated());
+
+        //when
+        //then
+        mockMvc.perform(createDeveloper("10.0.0.1", "flooding"))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(jsonPath("$.errorCode", is(RATE_LIMIT_EXCEEDED.name())));
+
+        mockMvc.perform(createDeveloper("10.0.0.2", "other"))
+                .andExpect(status().isCreated());
+    }
+
+    /**
+     * client 가 보낸 X-Client-Id 값을 바꿔도 같은 접속 IP 는 같은 bucket
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_spoofed_client_header() throws Exception {
+        //given
+        mockMvc.perform(createDeveloper("10.0.0.3", "spoofed-1"))
+                .andExpect(status().isCreated());
+
+        //when
+        //then
+        mockMvc.perform(createDeveloper("10.0.0.3", "spoofed-2"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorCode", is(RATE_LIMIT_EXCEEDED.name())));
+    }
+
+    /**
+     * 동시 처리 수 한도로 거절된 요청은 client 의 token 을 소모하지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void preHandleTest_with_concurrency_limit_refund() {
+        //given
+        AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                1, 1, 1, 2.0, Duration.ofSeconds(1).toNanos(), System::nanoTime);
+        WriteRateLimitInterceptor interceptor = new WriteRateLimitInterceptor(
+                new ClientRateLimiter(0.1, 1, 100, System::nanoTime), concurrencyLimiter, Duration.ofSeconds(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/create-developer");
+        request.setRemoteAddr("10.0.0.4");
+        assertTrue(concurrencyLimiter.tryAcquire());
+
+        //when
+        DMakerRateLimitException exception = assertThrows(DMakerRateLimitException.class,
+                () -> interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        concurrencyLimiter.release(0);
+
+        //then
+        assertEquals(CONCURRENCY_LIMIT_EXCEEDED, exception.getDMakerErrorCode());
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+    }
+
+    /**
+     * 조회 요청은 제한하지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDevelopersPageTest_without_rate_limit() throws Exception {
+        //given
+        //when
+        //then
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/developers/page").with(remoteAddr("10.0.0.5")))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    private MockHttpServletRequestBuilder createDeveloper(String remoteAddr, String clientId) throws Exception {
+        return post("/create-developer")
+                .with(remoteAddr(remoteAddr))
+                .header("X-Client-Id", clientId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateDeveloper.Request.builder()
+                        .developerLevel(SENIOR)
+                        .developerSkillType(BACK_END)
+                        .experienceYears(12)
+                        .memberId("memberId")
+                        .name("name")
+                        .age(35)
+                        .build()));
+    }
+
+    private static RequestPostProcessor remoteAddr(String remoteAddr) {
+        return request -> {
+            request.setRemoteAddr(remoteAddr);
+            return request;
+        };
+    }
+}
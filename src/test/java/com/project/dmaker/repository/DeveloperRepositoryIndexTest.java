@@ -0,0 +1,133 @@
+package com.project.dmaker.repository;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.entity.Developer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository 조회 쿼리 실행 계획 Test
+ * <p>
+ *     memberId, statusCode 조회가 Full Table Scan이 아닌 index seek로 실행되는지 H2 EXPLAIN으로 확인
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@DataJpaTest
+class DeveloperRepositoryIndexTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        List<Developer> developers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            developers.add(Developer.builder()
+                    .developerLevel(SENIOR)
+                    .developerSkillType(BACK_END)
+                    .experienceYears(12)
+                    .memberId("member" + i)
+                    .name("name" + i)
+                    .age(30)
+                    .statusCode(i % 2 == 0 ? StatusCode.EMPLOYED : StatusCode.RETIRED)
+                    .build());
+        }
+        developerRepository.saveAllAndFlush(developers);
+    }
+
+    /**
+     * memberId 조회 실행 계획 테스트 (상세 조회, 정보 변경, 삭제, 중복 체크)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void findByMemberIdTest_uses_unique_index() {
+        //given
+        //when
+        String plan = explain("select * from developer where member_id = 'member1'");
+
+        //then
+        assertThat(plan).containsIgnoringCase("UK_DEVELOPER_MEMBER_ID")
+                .doesNotContain("tableScan");
+    }
+
+    /**
+     * statusCode 리스트 조회 실행 계획 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void findByStatusCodeTest_uses_status_code_index() {
+        //given
+        //when
+        String plan = explain("select * from developer where status_code = 'EMPLOYED'");
+
+        //then
+        assertThat(plan).containsIgnoringCase("IDX_DEVELOPER_STATUS_CODE")
+                .doesNotContain("tableScan");
+    }
+
+    /**
+     * keyset 페이지 조회 실행 계획 테스트 (status_code = ? and id > ? order by id)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void findPageByStatusCodeTest_uses_status_code_index() {
+        //given
+        //when
+        String plan = explain("select * from developer where status_code = 'EMPLOYED' and id > 10 " +
+                "order by id fetch first 11 rows only");
+
+        //then
+        assertThat(plan).containsIgnoringCase("IDX_DEVELOPER_STATUS_CODE")
+                .doesNotContain("tableScan");
+    }
+
+    /**
+     * 검색 실행 계획 테스트 - 조건별 복합 인덱스 사용
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void searchTest_uses_composite_indexes() {
+        //given
+        //when
+        String levelPlan = explain("select id from developer where status_code = 'EMPLOYED' " +
+                "and developer_level = 'SENIOR' and id > 10 order by id fetch first 11 rows only");
+        String skillTypePlan = explain("select id from developer where status_code = 'EMPLOYED' " +
+                "and developer_skill_type = 'BACK_END' and id > 10 order by id fetch first 11 rows only");
+        String experiencePlan = explain("select id from developer where status_code = 'EMPLOYED' " +
+                "and experience_years between 5 and 10 order by experience_years, id fetch first 11 rows only");
+        String namePlan = explain("select id from developer where name like 'name1%'");
+
+        //then
+        assertThat(levelPlan).containsIgnoringCase("IDX_DEVELOPER_STATUS_LEVEL");
+        assertThat(skillTypePlan).containsIgnoringCase("IDX_DEVELOPER_STATUS_SKILL_TYPE");
+        assertThat(experiencePlan).containsIgnoringCase("IDX_DEVELOPER_STATUS_EXPERIENCE");
+        assertThat(namePlan).containsIgnoringCase("IDX_DEVELOPER_NAME");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.dmaker.repository;
+
+import com.project.dmaker.code.DeveloperField;
+import com.project.dmaker.code.DeveloperSortType;
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.dto.SearchDeveloper;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.type.DeveloperLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.project.dmaker.repository.DeveloperSpecifications.developerSkillTypeEquals;
+import static com.project.dmaker.repository.DeveloperSpecifications.experienceYearsBetween;
+import static com.project.dmaker.repository.DeveloperSpecifications.nameStartsWith;
+import static com.project.dmaker.repository.DeveloperSpecifications.statusCodeEquals;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.project.dmaker.type.DeveloperSkillType.FRONT_END;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 개발자 검색 Repository Test (Specification + keyset 페이지네이션)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@DataJpaTest
+class DeveloperRepositorySearchTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @BeforeEach
+    void setUp() {
+        //member0 ~ member39 : 경력 0 ~ 19 (2명씩), 짝수 BACK_END / 홀수 FRONT_END, member39 만 퇴직
+        List<Developer> developers = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            int experienceYears = i / 2;
+            developers.add(Developer.builder()
+                    .developerLevel(DeveloperLevel.fromExperienceYears(experienceYears))
+                    .developerSkillType(i % 2 == 0 ? BACK_END : FRONT_END)
+                    .experienceYears(experienceYears)
+                    .memberId("member" + i)
+                    .name(i == 7 ? "st_ve" : "name" + i)
+                    .age(20 + i)
+                    .statusCode(i == 39 ? StatusCode.RETIRED : StatusCode.EMPLOYED)
+                    .build());
+        }
+        developerRepository.saveAllAndFlush(developers);
+    }
+
+    /**
+     * 조건 검색 테스트 - 재직 상태 + 직무 타입 + 경력 연차 범위
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void searchDeveloperDtosTest_with_filters() {
+        //given
+        Specification<Developer> specification = Specification.where(statusCodeEquals(StatusCode.EMPLOYED))
+                .and(developerSkillTypeEquals(FRONT_END))
+                .and(experienceYearsBetween(15, null));
+
+        //when
+        DeveloperPage page = developerRepository.searchDeveloperDtos(specification, DeveloperSortType.ID,
+                null, EnumSet.allOf(DeveloperField.class), 100);
+
+        //then
+        assertThat(page.getDevelopers()).extracting(DeveloperDto::getMemberId)
+                .containsExactly("member31", "member33", "member35", "member37");
+        assertNull(page.getNextCursor());
+    }
+
+    /**
+     * keyset 페이지네이션 테스트 - 경력 연차 내림차순, 페이지 간 중복/누락 없음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void searchDeveloperDtosTest_keyset_pages() {
+        //given
+        Specification<Developer> specification = Specification.where(statusCodeEquals(StatusCode.EMPLOYED))
+                .and(developerSkillTypeEquals(BACK_END));
+        List<String> memberIds = new ArrayList<>();
+        SearchDeveloper.Cursor cursor = null;
+        int pages = 0;
+
+        //when
+        do {
+            DeveloperPage page = developerRepository.searchDeveloperDtos(specification,
+                    DeveloperSortType.EXPERIENCE_YEARS_DESC, cursor, EnumSet.of(DeveloperField.MEMBER_ID), 3);
+            page.getDevelopers().forEach(developer -> memberIds.add(developer.getMemberId()));
+            cursor = SearchDeveloper.Cursor.decode(page.getNextCursor(), DeveloperSortType.EXPERIENCE_YEARS_DESC);
+            pages++;
+        } while (cursor != null);
+
+        //then
+        assertEquals(7, pages);
+        assertThat(memberIds).hasSize(20).doesNotHaveDuplicates();
+        assertEquals("member38", memberIds.get(0));
+        assertEquals("member0", memberIds.get(memberIds.size() - 1));
+    }
+
+    /**
+     * 필드 선택 테스트 - 선택하지 않은 필드는 null
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void searchDeveloperDtosTest_with_selected_fields() {
+        //given
+        //when
+        DeveloperPage page = developerRepository.searchDeveloperDtos(statusCodeEquals(StatusCode.EMPLOYED),
+                DeveloperSortType.ID, null, EnumSet.of(DeveloperField.DEVELOPER_LEVEL), 1);
+
+        //then
+        DeveloperDto developer = page.getDevelopers().get(0);
+        assertEquals(DeveloperLevel.NEW, developer.getDeveloperLevel());
+        assertNull(developer.getDeveloperSkillType());
+        assertNull(developer.getMemberId());
+        assertNotNull(developer.getId());
+        assertNotNull(page.getNextCursor());
+    }
+
+    /**
+     * 이름 prefix 검색 테스트 - 와일드카드 문자는 문자 그대로 비교
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void searchDeveloperDtosTest_with_name_prefix() {
+        //given
+        //when
+        DeveloperPage escaped = developerRepository.searchDeveloperDtos(nameStartsWith("st_"),
+                DeveloperSortType.ID, null, EnumSet.allOf(DeveloperField.class), 100);
+        DeveloperPage prefix = developerRepository.searchDeveloperDtos(nameStartsWith("name3"),
+                DeveloperSortType.ID, null, EnumSet.allOf(DeveloperField.class), 100);
+
+        //then
+        assertThat(escaped.getDevelopers()).extracting(DeveloperDto::getMemberId)
+                .containsExactly("member7");
+        assertThat(prefix.getDevelopers()).extracting(DeveloperDto::getMemberId)
+                .containsExactly("member3", "member30", "member31", "member32", "member33", "member34",
+                        "member35", "member36", "member37", "member38", "member39");
+    }
+}
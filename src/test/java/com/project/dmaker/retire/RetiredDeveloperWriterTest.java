@@ -0,0 +1,206 @@
+package com.project.dmaker.retire;
+
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.RetiredDeveloperDto;
+import com.project.dmaker.repository.RetiredDeveloperRepository;
+import com.project.dmaker.service.DMakerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 퇴직 기록 비동기 batch 저장 통합 테스트 (H2)
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class RetiredDeveloperWriterTest {
+    private static final DataSize WAL_SEGMENT_SIZE = DataSize.ofMegabytes(1);
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private RetiredDeveloperWriter retiredDeveloperWriter;
+
+    @Autowired
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * 개발자 삭제 커밋 후 flush 되면 퇴직 이력 조회 가능
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void writeTest_success() {
+        //given
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        dMakerService.createDeveloper(getCreateRequest("writer-retire"));
+
+        //when
+        dMakerService.deleteDeveloper("writer-retire");
+        retiredDeveloperWriter.flush();
+
+        //then
+        List<RetiredDeveloperDto> history = dMakerService.getRetiredDeveloperHistory("writer-retire", before, null);
+        assertEquals(1, history.size());
+        assertEquals("name", history.get(0).getName());
+        assertTrue(dMakerService.getRetiredDeveloperHistory("writer-retire", null, before).isEmpty());
+    }
+
+    /**
+     * 롤백된 삭제의 퇴직 기록은 저장되지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void writeTest_with_rollback() {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("writer-rollback"));
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            dMakerService.deleteDeveloper("writer-rollback");
+            status.setRollbackOnly();
+        });
+        retiredDeveloperWriter.flush();
+
+        //then
+        assertTrue(dMakerService.getRetiredDeveloperHistory("writer-rollback", null, null).isEmpty());
+    }
+
+    /**
+     * 트랜잭션 밖에서 기록하면 실패
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void writeTest_failed_without_transaction() {
+        //given
+        //when
+        //then
+        assertThrows(IllegalStateException.class, () -> retiredDeveloperWriter.write("writer-no-tx"));
+    }
+
+    /**
+     * 기동 시 WAL 에 남은 기록을 저장하며, 같은 기록을 다시 처리해도 중복 저장되지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void recoverTest_success() {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("writer-recover"));
+        dMakerService.retireDevelopers(List.of("writer-recover"));
+        RetirementRecord record = new RetirementRecord("recover-event", "writer-recover",
+                LocalDateTime.of(2026, 10, 18, 12, 0));
+        try (RetirementWal wal = new RetirementWal(tempDir, WAL_SEGMENT_SIZE.toBytes())) {
+            wal.append(List.of(record, record));
+        }
+
+        //when
+        RetiredDeveloperWriter recovered = newWriter(tempDir.toString());
+        int flushed = recovered.flush();
+        recovered.destroy();
+
+        //then
+        assertEquals(2, flushed);
+        assertEquals(1, dMakerService.getRetiredDeveloperHistory("writer-recover",
+                record.getRetiredAt(), record.getRetiredAt()).size());
+        try (RetirementWal wal = new RetirementWal(tempDir, WAL_SEGMENT_SIZE.toBytes())) {
+            assertTrue(wal.getRecoveredRecords().isEmpty());
+        }
+    }
+
+    /**
+     * 동시에 커밋된 삭제의 퇴직 기록이 모두 저장됨 (WAL group commit)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void writeTest_with_concurrent_commits() throws Exception {
+        //given
+        int count = 16;
+        List<String> memberIds = IntStream.range(0, count).mapToObj(i -> "writer-concurrent" + i).toList();
+        memberIds.forEach(memberId -> dMakerService.createDeveloper(getCreateRequest(memberId)));
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<?>> futures = memberIds.stream()
+                .<Future<?>>map(memberId -> executor.submit(() -> {
+                    start.await();
+                    dMakerService.deleteDeveloper(memberId);
+                    return null;
+                }))
+                .toList();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        retiredDeveloperWriter.flush();
+
+        //then
+        memberIds.forEach(memberId ->
+                assertEquals(1, dMakerService.getRetiredDeveloperHistory(memberId, null, null).size()));
+    }
+
+    /**
+     * WAL 디렉토리를 지정하지 않으면 생성 실패
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createWriterTest_failed_without_wal_dir() {
+        //given
+        //when
+        //then
+        assertThrows(IllegalStateException.class, () -> newWriter(""));
+    }
+
+    private RetiredDeveloperWriter newWriter(String walDir) {
+        return new RetiredDeveloperWriter(retiredDeveloperRepository, transactionManager,
+                walDir, WAL_SEGMENT_SIZE, 10, 10);
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(35)
+                .build();
+    }
+}
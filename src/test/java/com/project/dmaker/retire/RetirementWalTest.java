@@ -0,0 +1,135 @@
+package com.project.dmaker.retire;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 퇴직 기록 WAL 단위 테스트
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+class RetirementWalTest {
+
+    private static final long SEGMENT_BYTES = 1024 * 1024;
+
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * 기록 후 다시 열면 같은 순서로 복구됨
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void recoverTest_success() {
+        //given
+        Path directory = tempDir.resolve("wal");
+        RetirementRecord first = new RetirementRecord("event-1", "member\t1", LocalDateTime.of(2026, 10, 18, 9, 0));
+        RetirementRecord second = new RetirementRecord("event-2", "멤버2", LocalDateTime.of(2026, 10, 18, 9, 1, 2, 3000));
+        try (RetirementWal wal = new RetirementWal(directory, SEGMENT_BYTES)) {
+            wal.append(List.of(first));
+            wal.append(List.of(second));
+        }
+
+        //when
+        List<RetirementRecord> records;
+        try (RetirementWal wal = new RetirementWal(directory, SEGMENT_BYTES)) {
+            records = wal.getRecoveredRecords();
+        }
+
+        //then
+        assertEquals(List.of(first, second), records);
+    }
+
+    /**
+     * 기록 도중 중단되어 잘린 마지막 줄은 제외
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void recoverTest_with_torn_write() throws IOException {
+        //given
+        RetirementRecord record = new RetirementRecord("event-1", "member1", LocalDateTime.of(2026, 10, 18, 9, 0));
+        try (RetirementWal wal = new RetirementWal(tempDir, SEGMENT_BYTES)) {
+            wal.append(List.of(record));
+        }
+        Files.write(segmentFiles().get(0), "event-2\tbWVtYmVy".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        //when
+        List<RetirementRecord> records;
+        try (RetirementWal wal = new RetirementWal(tempDir, SEGMENT_BYTES)) {
+            records = wal.getRecoveredRecords();
+        }
+
+        //then
+        assertEquals(List.of(record), records);
+    }
+
+    /**
+     * 모든 기록을 release 하면 다시 열어도 복구할 기록이 없음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void releaseTest_success() {
+        //given
+        RetirementRecord record = new RetirementRecord("event-1", "member1", LocalDateTime.of(2026, 10, 18, 8, 0));
+        RetirementRecord next = new RetirementRecord("event-2", "member2", LocalDateTime.of(2026, 10, 18, 9, 0));
+
+        //when
+        try (RetirementWal wal = new RetirementWal(tempDir, SEGMENT_BYTES)) {
+            wal.append(List.of(record));
+            wal.release(List.of(record));
+            wal.append(List.of(next));
+        }
+
+        //then
+        try (RetirementWal wal = new RetirementWal(tempDir, SEGMENT_BYTES)) {
+            assertEquals(List.of(next), wal.getRecoveredRecords());
+        }
+    }
+
+    /**
+     * 다른 segment 에 대기 중인 기록이 있어도 release 된 segment 는 삭제됨
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void releaseTest_with_pending_segment() throws IOException {
+        //given
+        RetirementRecord first = new RetirementRecord("event-1", "member1", LocalDateTime.of(2026, 10, 18, 8, 0));
+        RetirementRecord second = new RetirementRecord("event-2", "member2", LocalDateTime.of(2026, 10, 18, 9, 0));
+        RetirementRecord same = new RetirementRecord("event-2", "member2", LocalDateTime.of(2026, 10, 18, 9, 0));
+
+        //when
+        try (RetirementWal wal = new RetirementWal(tempDir, 1)) {
+            wal.append(List.of(first));
+            wal.append(List.of(second, same));
+            wal.release(List.of(first, second));
+        }
+
+        //then
+        assertEquals(1, segmentFiles().size());
+        try (RetirementWal wal = new RetirementWal(tempDir, SEGMENT_BYTES)) {
+            assertEquals(List.of(second, same), wal.getRecoveredRecords());
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(tempDir)) {
+            return paths.sorted().toList();
+        }
+    }
+}
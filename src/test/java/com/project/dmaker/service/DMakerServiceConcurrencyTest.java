@@ -0,0 +1,224 @@
+package com.project.dmaker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.repository.DeveloperRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.project.dmaker.constant.DMakerConstant.MIN_SENIOR_EXPERIENCE_YEARS;
+import static com.project.dmaker.exception.DMakerErrorCode.DEVELOPER_VERSION_CONFLICT;
+import static com.project.dmaker.exception.DMakerErrorCode.DUPLICATED_MEMBER_ID;
+import static com.project.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.project.dmaker.type.DeveloperSkillType.FRONT_END;
+import static com.project.dmaker.type.DeveloperSkillType.FULL_STACK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 동시 요청 통합 테스트 (H2)
+ * <p>
+ *     DB 동시성 검증이 목적이므로 쓰기 요청 동시 처리 수 제한(RateLimitConfig)은 적용하지 않는다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "dmaker.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class DMakerServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    /**
+     * 동일 memberId 동시 생성 테스트 - 하나만 생성되고 나머지는 DUPLICATED_MEMBER_ID(409)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_concurrent_with_same_memberId() throws Exception {
+        //given
+        String memberId = "concurrent-create";
+        String content = objectMapper.writeValueAsString(CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(15)
+                .memberId(memberId)
+                .name("concurrent")
+                .age(30)
+                .build());
+
+        //when
+        List<MvcResult> results = runConcurrently(() -> mockMvc.perform(post("/create-developer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andReturn());
+
+        //then
+        long created = results.stream()
+                .filter(result -> result.getResponse().getStatus() == 201)
+                .count();
+        long duplicated = results.stream()
+                .filter(result -> result.getResponse().getStatus() == 409)
+                .filter(result -> contentOf(result).contains(DUPLICATED_MEMBER_ID.name()))
+                .count();
+
+        assertEquals(1, created);
+        assertEquals(THREAD_COUNT - 1, duplicated);
+        assertTrue(developerRepository.findByMemberId(memberId).isPresent());
+    }
+
+    /**
+     * 동일 버전(If-Match) 동시 변경 테스트 - 하나만 성공하고 나머지는 DEVELOPER_VERSION_CONFLICT(409)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_concurrent_with_if_match() throws Exception {
+        //given
+        String memberId = "concurrent-if-match";
+        createDeveloper(memberId);
+        String content = getUpdateContent();
+
+        //when
+        List<MvcResult> results = runConcurrently(() -> mockMvc.perform(put("/developer/{memberId}", memberId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andReturn());
+
+        //then
+        long updated = results.stream()
+                .filter(result -> result.getResponse().getStatus() == 200)
+                .count();
+        long conflicted = results.stream()
+                .filter(result -> result.getResponse().getStatus() == 409)
+                .filter(result -> contentOf(result).contains(DEVELOPER_VERSION_CONFLICT.name()))
+                .count();
+
+        assertEquals(1, updated);
+        assertEquals(THREAD_COUNT - 1, conflicted);
+        assertEquals(1L, developerRepository.findByMemberId(memberId).orElseThrow().getVersion());
+    }
+
+    /**
+     * If-Match 없는 동시 변경 테스트 - 충돌은 재시도되며, 성공한 변경 수만큼 버전이 증가 (유실된 변경 없음)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_concurrent_without_if_match() throws Exception {
+        //given
+        String memberId = "concurrent-update";
+        createDeveloper(memberId);
+        // 요청마다 다른 (직무, 경력 연차)로 변경 (같은 값이면 dirty checking 으로 UPDATE 가 생략됨)
+        AtomicInteger sequence = new AtomicInteger();
+
+        //when
+        List<MvcResult> results = runConcurrently(() -> mockMvc.perform(put("/developer/{memberId}", memberId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getUpdateContent(sequence.getAndIncrement())))
+                .andReturn());
+
+        //then
+        long updated = results.stream()
+                .filter(result -> result.getResponse().getStatus() == 200)
+                .count();
+        long conflicted = results.stream()
+                .filter(result -> result.getResponse().getStatus() == 409)
+                .filter(result -> contentOf(result).contains(DEVELOPER_VERSION_CONFLICT.name()))
+                .count();
+
+        assertTrue(updated > 1);
+        assertEquals(THREAD_COUNT, updated + conflicted);
+        assertEquals(updated, developerRepository.findByMemberId(memberId).orElseThrow().getVersion());
+    }
+
+    private void createDeveloper(String memberId) throws Exception {
+        mockMvc.perform(post("/create-developer")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateDeveloper.Request.builder()
+                        .developerLevel(SENIOR)
+                        .developerSkillType(BACK_END)
+                        .experienceYears(15)
+                        .memberId(memberId)
+                        .name("concurrent")
+                        .age(30)
+                        .build())));
+    }
+
+    private String getUpdateContent() throws Exception {
+        return objectMapper.writeValueAsString(UpdateDeveloper.Request.builder()
+                .developerLevel(JUNGNIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(7)
+                .build());
+    }
+
+    private String getUpdateContent(int sequence) throws Exception {
+        return objectMapper.writeValueAsString(UpdateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(sequence % 2 == 0 ? FRONT_END : FULL_STACK)
+                .experienceYears(MIN_SENIOR_EXPERIENCE_YEARS + sequence / 2)
+                .build());
+    }
+
+    private static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executorService.submit(() -> {
+                    ready.await();
+                    return task.call();
+                }));
+            }
+            ready.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static String contentOf(MvcResult result) {
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
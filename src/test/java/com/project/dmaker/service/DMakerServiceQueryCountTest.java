@@ -0,0 +1,293 @@
+package com.project.dmaker.service;
+
+import com.project.dmaker.code.DeveloperSortType;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.SearchDeveloper;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.entity.Developer;
+import com.project.dmaker.entity.DeveloperOutbox;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.project.dmaker.query.QueryCountAssertions.assertQueryCount;
+import static com.project.dmaker.query.QueryCountAssertions.assertTotalCount;
+import static com.project.dmaker.query.QueryCountAssertions.reset;
+import static com.project.dmaker.query.SequencePoolWarmer.warm;
+import static com.project.dmaker.type.DeveloperLevel.JUNGNIOR;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.project.dmaker.type.DeveloperSkillType.FRONT_END;
+
+/**
+ * Service SQL 실행 수 고정 테스트 (H2)
+ * <p>
+ *     주요 경로의 SQL 실행 수를 고정하여, 쿼리가 추가되는 변경(N+1 등)을 테스트 실패로 드러낸다.
+ *     Developer / DeveloperOutbox id 는 sequence(allocationSize 50)로 할당하므로 변경 경로는 50건마다
+ *     sequence 조회가 1회씩 추가될 수 있어 그만큼의 SELECT 는 허용한다.
+ *     변경 경로는 커밋 시 outbox batch INSERT 가 1회 추가된다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class DMakerServiceQueryCountTest {
+
+    //id pool 에 미리 확보해 둘 id 수 (한 테스트에서 사용하는 최대 id 수 이상)
+    private static final int WARMED_IDS = 10;
+
+    @Autowired
+    private DMakerService dMakerService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 개발자 생성 - INSERT 1회 + outbox INSERT 1회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_query_count() {
+        //given
+        warmSequencePoolsAndReset();
+
+        //when
+        createDeveloper("qc-create");
+
+        //then
+        assertQueryCount(0, 2, 0, 0);
+        assertTotalCount(2);
+    }
+
+    /**
+     * 개발자 대량 생성 - 기존 memberId IN 조회 1회 + batch INSERT 1회 + outbox batch INSERT 1회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDevelopersTest_query_count() {
+        //given
+        warmSequencePoolsAndReset();
+
+        //when
+        dMakerService.createDevelopers(List.of(
+                getCreateRequest("qc-bulk1"),
+                getCreateRequest("qc-bulk2"),
+                getCreateRequest("qc-bulk3")).iterator());
+
+        //then
+        assertQueryCount(1, 2, 0, 0);
+        assertTotalCount(3);
+    }
+
+    /**
+     * 개발자 리스트 조회 - 변경 이후 최초 1회만 SELECT, 이후 스냅샷 재사용
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getAllEmployedDevelopersTest_query_count() {
+        //given
+        createDeveloper("qc-list");
+        reset();
+
+        //when
+        dMakerService.getAllEmployedDevelopers();
+        dMakerService.getAllEmployedDevelopers();
+
+        //then
+        assertQueryCount(1, 0, 0, 0);
+        assertTotalCount(1);
+    }
+
+    /**
+     * 개발자 리스트 페이지 조회 - count 쿼리 없이 SELECT 1회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getEmployedDevelopersPageTest_query_count() {
+        //given
+        createDeveloper("qc-page");
+        reset();
+
+        //when
+        dMakerService.getEmployedDevelopersPage(null, 10);
+
+        //then
+        assertQueryCount(1, 0, 0, 0);
+        assertTotalCount(1);
+    }
+
+    /**
+     * 개발자 검색 - count 쿼리 없이 SELECT 1회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void searchDevelopersTest_query_count() {
+        //given
+        createDeveloper("qc-search");
+        reset();
+
+        //when
+        dMakerService.searchDevelopers(SearchDeveloper.Request.builder()
+                .developerSkillType(BACK_END)
+                .minExperienceYears(10)
+                .sort(DeveloperSortType.EXPERIENCE_YEARS_DESC)
+                .size(10)
+                .build());
+
+        //then
+        assertQueryCount(1, 0, 0, 0);
+        assertTotalCount(1);
+    }
+
+    /**
+     * 개발자 상세 조회 - 최초 1회만 SELECT, 이후 캐시 재사용
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_query_count() {
+        //given
+        createDeveloper("qc-detail");
+        reset();
+
+        //when
+        dMakerService.getDeveloperDetail("qc-detail");
+        dMakerService.getDeveloperDetail("qc-detail");
+
+        //then
+        assertQueryCount(1, 0, 0, 0);
+        assertTotalCount(1);
+    }
+
+    /**
+     * 개발자 정보 변경 - SELECT 1회 + UPDATE 1회 + outbox INSERT 1회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_query_count() {
+        //given
+        createDeveloper("qc-update");
+        warmSequencePoolsAndReset();
+
+        //when
+        dMakerService.updateDeveloper("qc-update", UpdateDeveloper.Request.builder()
+                .developerLevel(JUNGNIOR)
+                .developerSkillType(FRONT_END)
+                .experienceYears(7)
+                .build());
+
+        //then
+        assertQueryCount(1, 1, 1, 0);
+        assertTotalCount(3);
+    }
+
+    /**
+     * 개발자 삭제(퇴직) - SELECT 1회 + UPDATE 1회 + outbox INSERT 1회 (RETIRED_DEVELOPER 는 비동기 저장)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void deleteDeveloperTest_query_count() {
+        //given
+        createDeveloper("qc-delete");
+        warmSequencePoolsAndReset();
+
+        //when
+        dMakerService.deleteDeveloper("qc-delete");
+
+        //then
+        assertQueryCount(1, 1, 1, 0);
+        assertTotalCount(3);
+    }
+
+    /**
+     * 개발자 대량 퇴직 - 잠금 SELECT 1회 + INSERT ... SELECT 1회 + UPDATE 1회 + outbox batch INSERT 1회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void retireDevelopersTest_query_count() {
+        //given
+        createDeveloper("qc-retire1");
+        createDeveloper("qc-retire2");
+        warmSequencePoolsAndReset();
+
+        //when
+        dMakerService.retireDevelopers(List.of("qc-retire1", "qc-retire2"));
+
+        //then
+        assertQueryCount(1, 2, 1, 0);
+        assertTotalCount(4);
+    }
+
+    /**
+     * 개발자 헤드카운트 통계 조회 - 메모리 집계 조회로 SQL 실행 없음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperHeadcountsTest_query_count() {
+        //given
+        createDeveloper("qc-stats");
+        reset();
+
+        //when
+        dMakerService.getDeveloperHeadcounts();
+
+        //then
+        assertTotalCount(0);
+    }
+
+    /**
+     * 개발자 change feed 조회 - SELECT 1회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperChangesTest_query_count() {
+        //given
+        createDeveloper("qc-changes");
+        reset();
+
+        //when
+        dMakerService.getDeveloperChanges(0, 10);
+
+        //then
+        assertQueryCount(1, 0, 0, 0);
+        assertTotalCount(1);
+    }
+
+    /**
+     * Developer / DeveloperOutbox id pool 확보 후 SQL 실행 수 초기화 (측정 중 sequence 조회 제외)
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    private void warmSequencePoolsAndReset() {
+        warm(entityManagerFactory, Developer.class, WARMED_IDS);
+        warm(entityManagerFactory, DeveloperOutbox.class, WARMED_IDS);
+        reset();
+    }
+
+    private void createDeveloper(String memberId) {
+        dMakerService.createDeveloper(getCreateRequest(memberId));
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .memberId(memberId)
+                .name("name")
+                .age(35)
+                .build();
+    }
+}
@@ -1,27 +1,58 @@
 package com.project.dmaker.service;
 
+import com.project.dmaker.cache.DeveloperDetailCache;
+import com.project.dmaker.cache.EmployedDevelopersCache;
+import com.project.dmaker.code.BulkResultStatus;
+import com.project.dmaker.code.DeveloperChangeType;
 import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.BulkCreateDeveloper;
+import com.project.dmaker.dto.BulkRetireDeveloper;
 import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.DeveloperChange;
+import com.project.dmaker.dto.DeveloperChangeFeed;
 import com.project.dmaker.dto.DeveloperDetailDto;
+import com.project.dmaker.dto.DeveloperDto;
+import com.project.dmaker.dto.DeveloperPage;
+import com.project.dmaker.dto.RetiredDeveloperDto;
 import com.project.dmaker.dto.UpdateDeveloper;
 import com.project.dmaker.entity.Developer;
-import com.project.dmaker.entity.RetiredDeveloper;
+import com.project.dmaker.event.DeveloperChangedEvent;
+import com.project.dmaker.event.DeveloperState;
 import com.project.dmaker.exception.DMakerException;
+import com.project.dmaker.repository.DeveloperOutboxRepository;
 import com.project.dmaker.repository.DeveloperRepository;
 import com.project.dmaker.repository.RetiredDeveloperRepository;
+import com.project.dmaker.retire.RetiredDeveloperWriter;
+import com.project.dmaker.stats.DeveloperHeadcounts;
 import com.project.dmaker.type.DeveloperLevel;
 import com.project.dmaker.type.DeveloperSkillType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import static com.project.dmaker.constant.DMakerConstant.MAX_DEVELOPER_PAGE_SIZE;
 import static com.project.dmaker.constant.DMakerConstant.MAX_JUNIOR_EXPERIENCE_YEARS;
 import static com.project.dmaker.constant.DMakerConstant.MIN_SENIOR_EXPERIENCE_YEARS;
 import static com.project.dmaker.exception.DMakerErrorCode.*;
@@ -29,10 +60,18 @@ import static com.project.dmaker.type.DeveloperLevel.*;
 import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
 import static com.project.dmaker.type.DeveloperSkillType.FRONT_END;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -48,10 +87,31 @@ class DMakerServiceTest {
     private DeveloperRepository developerRepository;
     @Mock
     private RetiredDeveloperRepository retiredDeveloperRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    @Spy
+    private DeveloperDetailCache developerDetailCache =
+            new DeveloperDetailCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    @Spy
+    private EmployedDevelopersCache employedDevelopersCache = new EmployedDevelopersCache();
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private DeveloperHeadcounts developerHeadcounts;
+    @Mock
+    private DeveloperOutboxRepository developerOutboxRepository;
+    @Mock
+    private RetiredDeveloperWriter retiredDeveloperWriter;
 
     @InjectMocks
     private DMakerService dMakerService;
 
+    //saveAll 인자 (제네릭 타입 captor 는 ArgumentCaptor.forClass 로 만들면 unchecked 경고)
+    @Captor
+    private ArgumentCaptor<Iterable<Developer>> developersCaptor;
+
     /**
      * Developer 샘플 데이터
      * @return Developer {@link Developer}
@@ -109,8 +169,8 @@ class DMakerServiceTest {
     @Test
     public void getDeveloperDetail() {
         //given
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(getDeveloper()));
+        given(developerRepository.findDeveloperDetailDtoByMemberId(anyString()))
+                .willReturn(Optional.of(DeveloperDetailDto.fromEntity(getDeveloper())));
 
         //when
         DeveloperDetailDto developerDetail = dMakerService.getDeveloperDetail("memberId");
@@ -121,6 +181,199 @@ class DMakerServiceTest {
         assertEquals(12, developerDetail.getExperienceYears());
     }
 
+    /**
+     * 개발자 조회 실패 테스트 - 기존 memberId 존재 X
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_failed_with_not_exist_memberId() {
+        //given
+        given(developerRepository.findDeveloperDetailDtoByMemberId(anyString()))
+                .willReturn(Optional.empty());
+
+        //when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.getDeveloperDetail("memberId")
+        );
+
+        //then
+        assertEquals(NO_DEVELOPER, dMakerException.getDMakerErrorCode());
+    }
+
+    /**
+     * 개발자 조회 캐시 테스트 - 두 번째 조회는 DB 조회 없이 캐시에서 반환, 변경 이벤트 이후 다시 조회
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperDetailTest_success_with_cache() {
+        //given
+        given(developerRepository.findDeveloperDetailDtoByMemberId("memberId"))
+                .willReturn(Optional.of(DeveloperDetailDto.fromEntity(getDeveloper())));
+
+        //when
+        DeveloperDetailDto first = dMakerService.getDeveloperDetail("memberId");
+        DeveloperDetailDto second = dMakerService.getDeveloperDetail("memberId");
+        developerDetailCache.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.UPDATED, "memberId"));
+        dMakerService.getDeveloperDetail("memberId");
+
+        //then
+        assertSame(first, second);
+        verify(developerRepository, times(2)).findDeveloperDetailDtoByMemberId("memberId");
+    }
+
+    /**
+     * 개발자 리스트 조회 성공 테스트 - projection 결과 그대로 반환
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getAllEmployedDevelopersTest_success() {
+        //given
+        given(developerRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED))
+                .willReturn(Arrays.asList(DeveloperDto.fromEntity(getDeveloper())));
+
+        //when
+        List<DeveloperDto> developers = dMakerService.getAllEmployedDevelopers();
+
+        //then
+        assertEquals(1, developers.size());
+        assertEquals("memberId", developers.get(0).getMemberId());
+        verify(developerRepository, never()).findDevelopersByStatusCodeEquals(any());
+    }
+
+    /**
+     * 개발자 리스트 스냅샷 테스트 - 변경 커밋 전까지 같은 스냅샷 공유, 변경 이후 새 버전으로 다시 적재
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getEmployedDevelopersSnapshotTest_success_with_version() {
+        //given
+        given(developerRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED))
+                .willReturn(Arrays.asList(DeveloperDto.fromEntity(getDeveloper())));
+
+        //when
+        EmployedDevelopersCache.Snapshot first = dMakerService.getEmployedDevelopersSnapshot();
+        EmployedDevelopersCache.Snapshot second = dMakerService.getEmployedDevelopersSnapshot();
+        employedDevelopersCache.onDeveloperChanged(
+                DeveloperChangedEvent.of(DeveloperChangeType.RETIRED, "memberId"));
+        EmployedDevelopersCache.Snapshot third = dMakerService.getEmployedDevelopersSnapshot();
+
+        //then
+        assertSame(first, second);
+        assertEquals(first.getETag(), second.getETag());
+        assertEquals(third.getETag(), dMakerService.getEmployedDevelopersETag());
+        assertNotEquals(first.getETag(), third.getETag());
+        assertThrows(UnsupportedOperationException.class, () -> first.getDevelopers().clear());
+        verify(developerRepository, times(2)).findDeveloperDtosByStatusCode(StatusCode.EMPLOYED);
+    }
+
+    /**
+     * 개발자 리스트 페이지 조회 성공 테스트 - 다음 페이지 커서 생성
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getEmployedDevelopersPageTest_success() {
+        //given
+        Developer developer = getDeveloper();
+        developer.setId(7L);
+        given(developerRepository.findDeveloperDtosByStatusCodeAndIdGreaterThan(
+                StatusCode.EMPLOYED, 3L, PageRequest.of(0, 1)))
+                .willReturn(new SliceImpl<>(Arrays.asList(DeveloperDto.fromEntity(developer)), PageRequest.of(0, 1), true));
+
+        //when
+        DeveloperPage page = dMakerService.getEmployedDevelopersPage(DeveloperPage.encodeCursor(3L), 1);
+
+        //then
+        assertEquals(1, page.getDevelopers().size());
+        assertEquals("memberId", page.getDevelopers().get(0).getMemberId());
+        assertEquals(7L, DeveloperPage.decodeCursor(page.getNextCursor()));
+    }
+
+    /**
+     * 개발자 리스트 페이지 조회 성공 테스트 - 페이지 크기 상한 적용, 마지막 페이지
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getEmployedDevelopersPageTest_success_with_capped_size() {
+        //given
+        given(developerRepository.findDeveloperDtosByStatusCodeAndIdGreaterThan(
+                eq(StatusCode.EMPLOYED), eq(0L), eq(PageRequest.of(0, MAX_DEVELOPER_PAGE_SIZE))))
+                .willReturn(new SliceImpl<>(Arrays.asList(DeveloperDto.fromEntity(getDeveloper()))));
+
+        //when
+        DeveloperPage page = dMakerService.getEmployedDevelopersPage(null, MAX_DEVELOPER_PAGE_SIZE * 10);
+
+        //then
+        assertEquals(1, page.getDevelopers().size());
+        assertNull(page.getNextCursor());
+    }
+
+    /**
+     * 개발자 리스트 페이지 조회 실패 테스트 - 잘못된 커서
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getEmployedDevelopersPageTest_failed_with_invalid_cursor() {
+        //given
+        //when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.getEmployedDevelopersPage("!!not-a-cursor!!", 10)
+        );
+
+        //then
+        assertEquals(INVALID_REQUEST, dMakerException.getDMakerErrorCode());
+    }
+
+    /**
+     * 개발자 change feed 조회 성공 테스트 - 마지막 변경의 offset 을 nextOffset 으로 반환
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperChangesTest_success() {
+        //given
+        given(developerOutboxRepository.findChangesAfter(3L, PageRequest.of(0, 2)))
+                .willReturn(Arrays.asList(
+                        DeveloperChange.builder().offset(4L).memberId("member1").build(),
+                        DeveloperChange.builder().offset(5L).memberId("member2").build()));
+        given(developerOutboxRepository.findChangesAfter(5L, PageRequest.of(0, 2)))
+                .willReturn(Arrays.asList());
+
+        //when
+        DeveloperChangeFeed feed = dMakerService.getDeveloperChanges(3L, 2);
+        DeveloperChangeFeed nextFeed = dMakerService.getDeveloperChanges(feed.getNextOffset(), 2);
+
+        //then
+        assertEquals(2, feed.getChanges().size());
+        assertEquals(5L, feed.getNextOffset());
+        assertEquals(0, nextFeed.getChanges().size());
+        assertEquals(5L, nextFeed.getNextOffset());
+    }
+
+    /**
+     * 개발자 change feed 조회 실패 테스트 - 음수 offset
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getDeveloperChangesTest_failed_with_negative_offset() {
+        //given
+        //when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.getDeveloperChanges(-1L, 10)
+        );
+
+        //then
+        assertEquals(INVALID_REQUEST, dMakerException.getDMakerErrorCode());
+    }
+
     /**
      * 개발자 생성 성공 테스트
      * @author cyh68
@@ -129,9 +382,7 @@ class DMakerServiceTest {
     @Test
     void createDeveloperTest_success() {
         //given
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.empty());
-        given(developerRepository.save(any()))
+        given(developerRepository.saveAndFlush(any()))
                 .willReturn(getDeveloper());
 
         ArgumentCaptor<Developer> captor = ArgumentCaptor.forClass(Developer.class);
@@ -141,8 +392,9 @@ class DMakerServiceTest {
         );
 
         //then
+        verify(developerRepository, never()).findByMemberId(anyString());
         verify(developerRepository, times(1))
-                .save(captor.capture());
+                .saveAndFlush(captor.capture());
         Developer savedDeveloper = captor.getValue();
 
         assertEquals(SENIOR, savedDeveloper.getDeveloperLevel());
@@ -150,6 +402,49 @@ class DMakerServiceTest {
         assertEquals(MIN_SENIOR_EXPERIENCE_YEARS, savedDeveloper.getExperienceYears());
     }
 
+    /**
+     * 개발자 생성 성공 테스트 - 'developerLevel' 생략 시 경력연차로 레벨 추론
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_success_with_inferred_level() {
+        //given
+        given(developerRepository.saveAndFlush(any()))
+                .willReturn(getDeveloper());
+
+        ArgumentCaptor<Developer> captor = ArgumentCaptor.forClass(Developer.class);
+        CreateDeveloper.Request request = getDefaultCreateRequest(null, FRONT_END, MAX_JUNIOR_EXPERIENCE_YEARS + 1);
+        //when
+        dMakerService.createDeveloper(request);
+
+        //then
+        verify(developerRepository, times(1))
+                .saveAndFlush(captor.capture());
+        assertEquals(JUNGNIOR, captor.getValue().getDeveloperLevel());
+        assertEquals(MAX_JUNIOR_EXPERIENCE_YEARS + 1, captor.getValue().getExperienceYears());
+        // 추론한 레벨은 요청 DTO 에 쓰지 않음
+        assertNull(request.getDeveloperLevel());
+    }
+
+    /**
+     * 개발자 생성 실패 테스트 - 'developerLevel' 생략 시 어느 레벨에도 속하지 않는 경력연차
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDeveloperTest_failed_with_uninferable_level() {
+        //given
+        //when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.createDeveloper(getDefaultCreateRequest(null, FRONT_END, -1))
+        );
+
+        //then
+        assertEquals(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, dMakerException.getDMakerErrorCode());
+        verify(developerRepository, never()).saveAndFlush(any());
+    }
+
     /**
      * 개발자 생성 실패 테스트 - 'memberId' duplicated
      * @author cyh68
@@ -158,16 +453,14 @@ class DMakerServiceTest {
     @Test
     void createDeveloperTest_failed_with_duplicated() {
         //given
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(getDeveloper()));
+        given(developerRepository.saveAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("duplicated memberId"));
 
         //when
-        DMakerException dMakerException = assertThrows(DMakerException.class,
+        //then
+        assertThrows(DataIntegrityViolationException.class,
                 () -> dMakerService.createDeveloper(getDefaultCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS))
         );
-
-        //then
-        assertEquals(DUPLICATED_MEMBER_ID, dMakerException.getDMakerErrorCode());
     }
 
     /**
@@ -203,6 +496,57 @@ class DMakerServiceTest {
                 dMakerException.getDMakerErrorCode());
     }
 
+    /**
+     * 개발자 대량 생성 테스트 - 행별 성공/실패 결과
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void createDevelopersTest_with_row_results() {
+        //given
+        CreateDeveloper.Request created = getDefaultCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        created.setMemberId("created");
+        CreateDeveloper.Request unmatchedLevel = getDefaultCreateRequest(JUNIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        unmatchedLevel.setMemberId("unmatched");
+        CreateDeveloper.Request invalid = getDefaultCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        invalid.setMemberId("invalid");
+        invalid.setName(null);
+        CreateDeveloper.Request duplicatedInRequest = getDefaultCreateRequest(SENIOR, BACK_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        duplicatedInRequest.setMemberId("created");
+        CreateDeveloper.Request existing = getDefaultCreateRequest(SENIOR, FRONT_END, MIN_SENIOR_EXPERIENCE_YEARS);
+        existing.setMemberId("existing");
+
+        given(developerRepository.findMemberIdsByMemberIdIn(anyCollection()))
+                .willReturn(Arrays.asList("existing"));
+
+        //when
+        BulkCreateDeveloper.Response response = dMakerService.createDevelopers(
+                Arrays.asList(created, unmatchedLevel, invalid, duplicatedInRequest, existing).iterator());
+
+        //then
+        verify(developerRepository, times(1)).findMemberIdsByMemberIdIn(anyCollection());
+        verify(developerRepository, times(1)).saveAll(developersCaptor.capture());
+        assertIterableEquals(Arrays.asList("created"), memberIdsOf(developersCaptor.getValue()));
+
+        assertEquals(5, response.getTotalCount());
+        assertEquals(1, response.getCreatedCount());
+        assertEquals(4, response.getFailedCount());
+
+        List<BulkCreateDeveloper.Result> results = response.getResults();
+        assertEquals(BulkResultStatus.CREATED, results.get(0).getStatus());
+        assertEquals(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, results.get(1).getErrorCode());
+        assertEquals(INVALID_REQUEST, results.get(2).getErrorCode());
+        assertEquals(DUPLICATED_MEMBER_ID, results.get(3).getErrorCode());
+        assertEquals(DUPLICATED_MEMBER_ID, results.get(4).getErrorCode());
+        assertEquals(5, results.get(4).getRow());
+    }
+
+    private static List<String> memberIdsOf(Iterable<Developer> developers) {
+        List<String> memberIds = new ArrayList<>();
+        developers.forEach(developer -> memberIds.add(developer.getMemberId()));
+        return memberIds;
+    }
+
     /**
      * 개발자 정보 변경 성공 테스트
      * @author cyh68
@@ -221,6 +565,36 @@ class DMakerServiceTest {
         assertEquals(SENIOR, result.getDeveloperLevel());
         assertEquals(BACK_END, result.getDeveloperSkillType());
         assertEquals(18, result.getExperienceYears());
+
+        ArgumentCaptor<DeveloperChangedEvent> captor = ArgumentCaptor.forClass(DeveloperChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(DeveloperChangeType.UPDATED, captor.getValue().getChangeType());
+        assertIterableEquals(Arrays.asList("memberId"), captor.getValue().getMemberIds());
+        assertIterableEquals(Arrays.asList(new DeveloperState(SENIOR, FRONT_END, StatusCode.EMPLOYED)),
+                captor.getValue().getPreviousStates());
+        assertIterableEquals(Arrays.asList(new DeveloperState(SENIOR, BACK_END, StatusCode.EMPLOYED)),
+                captor.getValue().getCurrentStates());
+    }
+
+    /**
+     * 개발자 정보 변경 성공 테스트 - 'developerLevel' 생략 시 경력연차로 레벨 추론
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_success_with_inferred_level() {
+        //given
+        given(developerRepository.findByMemberId(anyString()))
+                .willReturn(Optional.of(getDeveloper()));
+        UpdateDeveloper.Request request = getDefaultUpdateRequest(null, BACK_END, 0);
+        //when
+        DeveloperDetailDto result = dMakerService.updateDeveloper("memberId", request);
+
+        //then
+        assertEquals(NEW, result.getDeveloperLevel());
+        assertEquals(0, result.getExperienceYears());
+        // 추론한 레벨은 요청 DTO 에 쓰지 않음
+        assertNull(request.getDeveloperLevel());
     }
 
     /**
@@ -259,6 +633,30 @@ class DMakerServiceTest {
         assertEquals(LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, dMakerException.getDMakerErrorCode());
     }
 
+    /**
+     * 개발자 정보 변경 실패 케이스 - If-Match 버전 불일치 시 변경하지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void updateDeveloperTest_failed_with_version_conflict() {
+        //given
+        Developer developer = getDeveloper();
+        developer.setVersion(2L);
+        given(developerRepository.findByMemberId(anyString()))
+                .willReturn(Optional.of(developer));
+
+        //when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.updateDeveloper("memberId", getDefaultUpdateRequest(SENIOR, BACK_END, 18), 1L)
+        );
+
+        //then
+        assertEquals(DEVELOPER_VERSION_CONFLICT, dMakerException.getDMakerErrorCode());
+        assertEquals(FRONT_END, developer.getDeveloperSkillType());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     /**
      * 개발자 삭제 성공 테스트
      * @author cyh68
@@ -272,16 +670,72 @@ class DMakerServiceTest {
         //when
         DeveloperDetailDto deleteResult = dMakerService.deleteDeveloper("memberId");
 
-        ArgumentCaptor<RetiredDeveloper> captor = ArgumentCaptor.forClass(RetiredDeveloper.class);
+        //then
+        assertEquals(StatusCode.RETIRED, deleteResult.getStatusCode());
+        //퇴직 기록은 요청 트랜잭션에서 INSERT 하지 않고 비동기 저장으로 넘김
+        verify(retiredDeveloperWriter, times(1)).write("memberId");
+        verify(retiredDeveloperRepository, never()).save(any());
+    }
+
+    /**
+     * 이미 퇴직한 개발자 삭제 테스트 - 퇴직 기록 / 이벤트 없이 현재 상태 반환
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void deleteDeveloperTest_with_already_retired() {
+        //given
+        Developer developer = getDeveloper();
+        developer.setStatusCode(StatusCode.RETIRED);
+        given(developerRepository.findByMemberId(anyString()))
+                .willReturn(Optional.of(developer));
 
-        verify(retiredDeveloperRepository, times(1))
-                .save(captor.capture());
-        RetiredDeveloper savedDeveloper = captor.getValue();
+        //when
+        DeveloperDetailDto deleteResult = dMakerService.deleteDeveloper("memberId", 99L);
 
         //then
         assertEquals(StatusCode.RETIRED, deleteResult.getStatusCode());
-        assertEquals("memberId", savedDeveloper.getMemberId());
-        assertEquals("name", savedDeveloper.getName());
+        verify(retiredDeveloperWriter, never()).write(anyString());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * 개발자 퇴직 이력 조회 성공 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getRetiredDeveloperHistoryTest_success() {
+        //given
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        given(retiredDeveloperRepository.findHistory("memberId", from, null))
+                .willReturn(Arrays.asList(new RetiredDeveloperDto("memberId", "name", from.plusDays(1))));
+
+        //when
+        List<RetiredDeveloperDto> history = dMakerService.getRetiredDeveloperHistory("memberId", from, null);
+
+        //then
+        assertEquals(1, history.size());
+        assertEquals(from.plusDays(1), history.get(0).getRetiredAt());
+    }
+
+    /**
+     * 개발자 퇴직 이력 조회 실패 테스트 - 시작 일시가 종료 일시보다 늦음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void getRetiredDeveloperHistoryTest_failed_with_invalid_range() {
+        //given
+        LocalDateTime to = LocalDateTime.of(2026, 1, 1, 0, 0);
+        //when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.getRetiredDeveloperHistory("memberId", to.plusDays(1), to)
+        );
+
+        //then
+        assertEquals(INVALID_REQUEST, dMakerException.getDMakerErrorCode());
+        verify(retiredDeveloperRepository, never()).findHistory(anyString(), any(), any());
     }
 
     /**
@@ -302,4 +756,63 @@ class DMakerServiceTest {
         //then
         assertEquals(NO_DEVELOPER, dMakerException.getDMakerErrorCode());
     }
-}
\ No newline at end of file
+
+    /**
+     * 개발자 대량 퇴직 처리 성공 테스트 - 재직자만 퇴직 처리, 나머지는 missing
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void retireDevelopersTest_success() {
+        //given
+        List<String> employed = Arrays.asList("member1", "member3");
+        given(developerRepository.findDeveloperDtosForUpdate(
+                Arrays.asList("member1", "member2", "member3"), StatusCode.EMPLOYED))
+                .willReturn(Arrays.asList(
+                        new DeveloperDto(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, "member1", 1L),
+                        new DeveloperDto(DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, "member3", 3L)));
+
+        //when
+        BulkRetireDeveloper.Response response = dMakerService.retireDevelopers(
+                Arrays.asList("member1", "member2", "member3", "member1"));
+
+        //then
+        verify(retiredDeveloperRepository, times(1)).insertFromDevelopers(eq(employed), any());
+        verify(developerRepository, times(1))
+                .updateStatusCodeByMemberIdIn(eq(employed), eq(StatusCode.RETIRED), any());
+        assertIterableEquals(employed, response.getRetiredMemberIds());
+        assertIterableEquals(Arrays.asList("member2"), response.getMissingMemberIds());
+
+        ArgumentCaptor<DeveloperChangedEvent> captor = ArgumentCaptor.forClass(DeveloperChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertIterableEquals(Arrays.asList(
+                        new DeveloperState(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, StatusCode.EMPLOYED),
+                        new DeveloperState(DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, StatusCode.EMPLOYED)),
+                captor.getValue().getPreviousStates());
+        assertIterableEquals(Arrays.asList(
+                        new DeveloperState(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, StatusCode.RETIRED),
+                        new DeveloperState(DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, StatusCode.RETIRED)),
+                captor.getValue().getCurrentStates());
+    }
+
+    /**
+     * 개발자 대량 퇴직 처리 테스트 - 대상 재직자가 없으면 INSERT/UPDATE 하지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void retireDevelopersTest_with_no_employed_developer() {
+        //given
+        given(developerRepository.findDeveloperDtosForUpdate(anyList(), eq(StatusCode.EMPLOYED)))
+                .willReturn(Arrays.asList());
+
+        //when
+        BulkRetireDeveloper.Response response = dMakerService.retireDevelopers(Arrays.asList("member1"));
+
+        //then
+        verify(retiredDeveloperRepository, never()).insertFromDevelopers(anyList(), any());
+        verify(developerRepository, never()).updateStatusCodeByMemberIdIn(anyList(), any(), any());
+        assertEquals(0, response.getRetiredMemberIds().size());
+        assertIterableEquals(Arrays.asList("member1"), response.getMissingMemberIds());
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.dmaker.stats;
+
+import com.project.dmaker.code.StatusCode;
+import com.project.dmaker.dto.CreateDeveloper;
+import com.project.dmaker.dto.UpdateDeveloper;
+import com.project.dmaker.service.DMakerService;
+import com.project.dmaker.type.DeveloperLevel;
+import com.project.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.project.dmaker.type.DeveloperLevel.NEW;
+import static com.project.dmaker.type.DeveloperLevel.SENIOR;
+import static com.project.dmaker.type.DeveloperSkillType.BACK_END;
+import static com.project.dmaker.type.DeveloperSkillType.FULL_STACK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 개발자 헤드카운트 메모리 집계 통합 테스트 (H2)
+ * <p>
+ *     다른 테스트와 DB / 컨텍스트를 공유하므로 절대값이 아닌 변경 전후 차이로 확인한다.
+ * </p>
+ * @author cyh68
+ * @since 2026-10-18
+ **/
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class DeveloperHeadcountsTest {
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private DeveloperHeadcounts developerHeadcounts;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 생성 / 변경 / 퇴직 커밋 후 헤드카운트 반영 테스트
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void onDeveloperChangedTest_success() {
+        //given
+        long newBackEnd = employed(NEW, BACK_END);
+        long seniorBackEnd = employed(SENIOR, BACK_END);
+        long seniorBackEndRetired = retired(SENIOR, BACK_END);
+        long newBackEndRetired = retired(NEW, BACK_END);
+
+        //when
+        dMakerService.createDeveloper(getCreateRequest("hc-change1"));
+        dMakerService.createDevelopers(List.of(
+                getCreateRequest("hc-change2"),
+                getCreateRequest("hc-change3")).iterator());
+
+        //then
+        assertEquals(newBackEnd + 3, employed(NEW, BACK_END));
+
+        //when
+        dMakerService.updateDeveloper("hc-change1", UpdateDeveloper.Request.builder()
+                .developerLevel(SENIOR)
+                .developerSkillType(BACK_END)
+                .experienceYears(12)
+                .build());
+
+        //then
+        assertEquals(newBackEnd + 2, employed(NEW, BACK_END));
+        assertEquals(seniorBackEnd + 1, employed(SENIOR, BACK_END));
+
+        //when
+        dMakerService.deleteDeveloper("hc-change1");
+        dMakerService.retireDevelopers(List.of("hc-change2", "hc-change3"));
+
+        //then
+        assertEquals(newBackEnd, employed(NEW, BACK_END));
+        assertEquals(seniorBackEnd, employed(SENIOR, BACK_END));
+        assertEquals(seniorBackEndRetired + 1, retired(SENIOR, BACK_END));
+        assertEquals(newBackEndRetired + 2, retired(NEW, BACK_END));
+    }
+
+    /**
+     * 롤백된 변경은 헤드카운트에 반영되지 않음
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void onDeveloperChangedTest_with_rollback() {
+        //given
+        long newBackEnd = employed(NEW, BACK_END);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            dMakerService.createDeveloper(getCreateRequest("hc-rollback"));
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertEquals(newBackEnd, employed(NEW, BACK_END));
+    }
+
+    /**
+     * 이벤트를 거치지 않은 DB 변경(drift)을 reconcile 로 보정
+     * @author cyh68
+     * @since 2026-10-18
+     **/
+    @Test
+    void reconcileTest_success() {
+        //given
+        dMakerService.createDeveloper(getCreateRequest("hc-drift"));
+        developerHeadcounts.reconcile();
+        long newBackEnd = employed(NEW, BACK_END);
+        long newFullStack = employed(NEW, FULL_STACK);
+        jdbcTemplate.update("update developer set developer_skill_type = ? where member_id = ?",
+                FULL_STACK.name(), "hc-drift");
+        assertEquals(newBackEnd, employed(NEW, BACK_END));
+
+        //when
+        developerHeadcounts.reconcile();
+
+        //then
+        assertEquals(newBackEnd - 1, employed(NEW, BACK_END));
+        assertEquals(newFullStack + 1, employed(NEW, FULL_STACK));
+    }
+
+    private long employed(DeveloperLevel developerLevel, DeveloperSkillType developerSkillType) {
+        return developerHeadcounts.get(developerLevel, developerSkillType, StatusCode.EMPLOYED);
+    }
+
+    private long retired(DeveloperLevel developerLevel, DeveloperSkillType developerSkillType) {
+        return developerHeadcounts.get(developerLevel, developerSkillType, StatusCode.RETIRED);
+    }
+
+    private static CreateDeveloper.Request getCreateRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(NEW)
+                .developerSkillType(BACK_END)
+                .experienceYears(0)
+                .memberId(memberId)
+                .name("name")
+                .age(25)
+                .build();
+    }
+}